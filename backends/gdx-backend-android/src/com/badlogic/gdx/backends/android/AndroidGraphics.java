@@ -36,9 +36,11 @@ import com.badlogic.gdx.LifecycleListener;
 import com.badlogic.gdx.backends.android.surfaceview.*;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.Cursor.SystemCursor;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.GLVersion;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.UniformBufferObject;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.SnapshotArray;
@@ -334,6 +336,8 @@ public class AndroidGraphics extends AbstractGraphics implements Renderer {
 		TextureArray.invalidateAllTextureArrays(app);
 		ShaderProgram.invalidateAllShaderPrograms(app);
 		FrameBuffer.invalidateAllFrameBuffers(app);
+		UniformBufferObject.invalidateAllUniformBuffers(app);
+		ModelBatch.invalidateAllModelBatches(app);
 
 		logManagedCachesStatus();
 
@@ -571,6 +575,8 @@ public class AndroidGraphics extends AbstractGraphics implements Renderer {
 		TextureArray.clearAllTextureArrays(app);
 		ShaderProgram.clearAllShaderPrograms(app);
 		FrameBuffer.clearAllFrameBuffers(app);
+		UniformBufferObject.clearAllUniformBuffers(app);
+		ModelBatch.clearAllModelBatches(app);
 
 		logManagedCachesStatus();
 	}
@@ -581,6 +587,7 @@ public class AndroidGraphics extends AbstractGraphics implements Renderer {
 		Gdx.app.log(LOG_TAG, Cubemap.getManagedStatus());
 		Gdx.app.log(LOG_TAG, ShaderProgram.getManagedStatus());
 		Gdx.app.log(LOG_TAG, FrameBuffer.getManagedStatus());
+		Gdx.app.log(LOG_TAG, UniformBufferObject.getManagedStatus());
 	}
 
 	public View getView () {
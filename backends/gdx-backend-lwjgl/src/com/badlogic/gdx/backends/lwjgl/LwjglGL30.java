@@ -656,6 +656,26 @@ class LwjglGL30 extends LwjglGL20 implements com.badlogic.gdx.graphics.GL30 {
 		GL40.glResumeTransformFeedback();
 	}
 
+	@Override
+	public void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary) {
+		if (!(binary instanceof ByteBuffer)) throw new GdxRuntimeException("binary must be a byte buffer");
+		ByteBuffer buffer = (ByteBuffer)binary;
+		int limit = buffer.limit();
+		buffer.limit(Math.min(limit, buffer.position() + bufSize));
+		GL41.glGetProgramBinary(program, length, binaryFormat, buffer);
+		buffer.limit(limit);
+	}
+
+	@Override
+	public void glProgramBinary (int program, int binaryFormat, Buffer binary, int length) {
+		if (!(binary instanceof ByteBuffer)) throw new GdxRuntimeException("binary must be a byte buffer");
+		ByteBuffer buffer = (ByteBuffer)binary;
+		int limit = buffer.limit();
+		buffer.limit(buffer.position() + length);
+		GL41.glProgramBinary(program, binaryFormat, buffer);
+		buffer.limit(limit);
+	}
+
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
 		GL41.glProgramParameteri(program, pname, value);
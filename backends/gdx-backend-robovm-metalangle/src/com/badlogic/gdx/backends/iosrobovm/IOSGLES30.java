@@ -238,6 +238,10 @@ public class IOSGLES30 extends IOSGLES20 implements GL30 {
 
 	public native void glResumeTransformFeedback ();
 
+	public native void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary);
+
+	public native void glProgramBinary (int program, int binaryFormat, Buffer binary, int length);
+
 	public native void glProgramParameteri (int program, int pname, int value);
 
 	public native void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments);
@@ -721,6 +721,18 @@ public class GwtGL30 extends GwtGL20 implements GL30 {
 		gl.pauseTransformFeedback();
 	}
 
+	@Override
+	public void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary) {
+		// Per WebGL2 spec: Accessing binary representations of compiled shader programs is not supported in the WebGL 2.0 API.
+		throw new UnsupportedOperationException("glGetProgramBinary not supported on WebGL2");
+	}
+
+	@Override
+	public void glProgramBinary (int program, int binaryFormat, Buffer binary, int length) {
+		// Per WebGL2 spec: Accessing binary representations of compiled shader programs is not supported in the WebGL 2.0 API.
+		throw new UnsupportedOperationException("glProgramBinary not supported on WebGL2");
+	}
+
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
 		// Per WebGL2 spec: Accessing binary representations of compiled shader programs is not supported in the WebGL 2.0 API.
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.assets;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetProfiler.AssetTiming;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
 import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
@@ -26,6 +27,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.async.AsyncResult;
@@ -51,6 +53,15 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	int ticks = 0;
 	volatile boolean cancel;
 
+	/** Set by {@link AssetManager} when a {@link AssetProfiler} is used. */
+	@Null AssetTiming timing;
+	/** Set by {@link AssetManager} to the dependencies recorded in an {@link AssetManifest}, which are used instead of calling
+	 * {@link AssetLoader#getDependencies(String, FileHandle, AssetLoaderParameters)} if the loader doesn't require it. */
+	@Null Array<AssetDescriptor> manifestDependencies;
+	/** Set by {@link AssetManager} to the dependencies queued from an {@link AssetManifest} whose reference this asset takes
+	 * over. */
+	@Null Array<String> preloadedDependencies;
+
 	public AssetLoadingTask (AssetManager manager, AssetDescriptor assetDesc, AssetLoader loader, AsyncExecutor threadPool) {
 		this.manager = manager;
 		this.assetDesc = assetDesc;
@@ -65,17 +76,17 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		if (cancel) return null;
 		AsynchronousAssetLoader asyncLoader = (AsynchronousAssetLoader)loader;
 		if (!dependenciesLoaded) {
-			dependencies = asyncLoader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			dependencies = getDependencies();
 			if (dependencies != null) {
 				removeDuplicates(dependencies);
-				manager.injectDependencies(assetDesc.fileName, dependencies);
+				manager.injectDependencies(assetDesc.fileName, dependencies, preloadedDependencies);
 			} else {
 				// if we have no dependencies, we load the async part of the task immediately.
-				asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+				loadAsync(asyncLoader);
 				asyncDone = true;
 			}
 		} else {
-			asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			loadAsync(asyncLoader);
 			asyncDone = true;
 		}
 		return null;
@@ -111,15 +122,15 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		SynchronousAssetLoader syncLoader = (SynchronousAssetLoader)loader;
 		if (!dependenciesLoaded) {
 			dependenciesLoaded = true;
-			dependencies = syncLoader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			dependencies = getDependencies();
 			if (dependencies == null) {
-				asset = syncLoader.load(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+				asset = loadSync(syncLoader);
 				return;
 			}
 			removeDuplicates(dependencies);
-			manager.injectDependencies(assetDesc.fileName, dependencies);
+			manager.injectDependencies(assetDesc.fileName, dependencies, preloadedDependencies);
 		} else
-			asset = syncLoader.load(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			asset = loadSync(syncLoader);
 	}
 
 	private void handleAsyncLoader () {
@@ -135,20 +146,60 @@ class AssetLoadingTask implements AsyncTask<Void> {
 				}
 				dependenciesLoaded = true;
 				if (asyncDone)
-					asset = asyncLoader.loadSync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+					asset = loadSync(asyncLoader);
 			}
 		} else if (loadFuture == null && !asyncDone)
 			loadFuture = executor.submit(this);
 		else if (asyncDone)
-			asset = asyncLoader.loadSync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			asset = loadSync(asyncLoader);
 		else if (loadFuture.isDone()) {
 			try {
 				loadFuture.get();
 			} catch (Exception e) {
 				throw new GdxRuntimeException("Couldn't load asset: " + assetDesc.fileName, e);
 			}
-			asset = asyncLoader.loadSync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+			asset = loadSync(asyncLoader);
+		}
+	}
+
+	private Array<AssetDescriptor> getDependencies () {
+		if (manifestDependencies != null && !loader.requiresGetDependencies())
+			return manifestDependencies.size > 0 ? manifestDependencies : null;
+		long start = timing != null ? TimeUtils.nanoTime() : 0;
+		Array<AssetDescriptor> dependencies = loader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc),
+			assetDesc.params);
+		if (timing != null) {
+			timing.dependenciesStart = start;
+			timing.dependenciesEnd = TimeUtils.nanoTime();
+			timing.dependenciesThread = "main";
+		}
+		return dependencies;
+	}
+
+	private void loadAsync (AsynchronousAssetLoader asyncLoader) {
+		long start = timing != null ? TimeUtils.nanoTime() : 0;
+		asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+		if (timing != null) {
+			timing.asyncStart = start;
+			timing.asyncEnd = TimeUtils.nanoTime();
+			timing.asyncThread = "main";
+		}
+	}
+
+	private Object loadSync (AssetLoader loader) {
+		long start = timing != null ? TimeUtils.nanoTime() : 0;
+		Object asset;
+		if (loader instanceof SynchronousAssetLoader)
+			asset = ((SynchronousAssetLoader)loader).load(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+		else
+			asset = ((AsynchronousAssetLoader)loader).loadSync(manager, assetDesc.fileName, resolve(loader, assetDesc),
+				assetDesc.params);
+		if (timing != null) {
+			timing.syncStart = start;
+			timing.syncEnd = TimeUtils.nanoTime();
+			timing.syncThread = "main";
 		}
+		return asset;
 	}
 
 	/** Called when this task is the task that is currently being processed and it is unloaded. */
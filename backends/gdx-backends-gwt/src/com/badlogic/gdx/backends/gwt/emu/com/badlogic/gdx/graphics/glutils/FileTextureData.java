@@ -33,6 +33,7 @@ public class FileTextureData implements TextureData {
 	Format format;
 	Pixmap pixmap;
 	boolean useMipMaps;
+	boolean generateMipMapChain = true; // Set by FileTextureArrayData, the mipmap chain is never prepared here.
 	boolean isPrepared = false;
 
 	public FileTextureData (FileHandle file, Pixmap preloadedPixmap, Format format, boolean useMipMaps) {
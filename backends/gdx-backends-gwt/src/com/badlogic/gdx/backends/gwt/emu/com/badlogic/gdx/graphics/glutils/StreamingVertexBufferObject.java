@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** A {@link VertexData} implementation for vertices that are replaced every draw, such as the vertices of a batch. Instead of
+ * uploading each set of vertices over the previous one, which makes the driver wait until the GPU has finished drawing with
+ * them, the OpenGL buffer is a ring of several segments and each upload is written after the previous one. The attribute pointers
+ * are set to the offset of the latest upload when bound.
+ * <p>
+ * With OpenGL ES 3.0 each upload maps its range with GL_MAP_UNSYNCHRONIZED_BIT and GL_MAP_INVALIDATE_RANGE_BIT, as the range is
+ * known not to be in use. When the ring wraps around the whole buffer is invalidated, so the driver can give it new storage if the
+ * GPU is still reading the old one. With OpenGL ES 2.0 and WebGL, which have no buffer mapping, the ring is written with
+ * glBufferSubData and the buffer is orphaned with glBufferData when the ring wraps around.
+ * <p>
+ * If the OpenGL ES context was lost you can call {@link #invalidate()} to recreate a new OpenGL vertex buffer object.
+ * <p>
+ * StreamingVertexBufferObjects must be disposed via the {@link #dispose()} method when no longer needed */
+public class StreamingVertexBufferObject implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final int ringSize;
+	int bufferHandle;
+	int vaoHandle = -1;
+	/** The byte offset in the OpenGL buffer of the latest upload, and where the next upload is written. */
+	int drawOffset, writeOffset;
+	boolean isDirty = false;
+	boolean isBound = false;
+	ShaderProgram boundShader;
+	int[] boundLocations;
+
+	/** Constructs a new interleaved StreamingVertexBufferObject with 4 segments.
+	 * @param numVertices the maximum number of vertices in one upload
+	 * @param attributes the {@link VertexAttribute}s. */
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, 4, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new interleaved StreamingVertexBufferObject.
+	 * @param numVertices the maximum number of vertices in one upload
+	 * @param segments the size of the OpenGL buffer in multiples of the maximum upload size. More segments allow more uploads per
+	 *           frame before the ring wraps around.
+	 * @param attributes the {@link VertexAttributes}. */
+	public StreamingVertexBufferObject (int numVertices, int segments, VertexAttributes attributes) {
+		if (segments < 1) throw new IllegalArgumentException("segments must be > 0: " + segments);
+		this.attributes = attributes;
+
+		buffer = BufferUtils.newFloatBuffer(attributes.vertexSize / 4 * numVertices);
+		buffer.flip();
+		ringSize = buffer.capacity() * 4 * segments;
+		createBuffer();
+	}
+
+	private void createBuffer () {
+		GL20 gl = Gdx.gl20;
+		bufferHandle = gl.glGenBuffer();
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		gl.glBufferData(GL20.GL_ARRAY_BUFFER, ringSize, null, GL20.GL_STREAM_DRAW);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		if (Gdx.gl30 != null) {
+			tmpHandle.clear();
+			Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+			vaoHandle = tmpHandle.get();
+		}
+		drawOffset = 0;
+		writeOffset = 0;
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return buffer.capacity() * 4 / attributes.vertexSize;
+	}
+
+	/** @deprecated use {@link #getBuffer(boolean)} instead */
+	@Override
+	@Deprecated
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public FloatBuffer getBuffer (boolean forWriting) {
+		isDirty |= forWriting;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, buffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		if (isBound) {
+			upload();
+			setAttributePointers(boundShader, boundLocations);
+		}
+	}
+
+	/** Updates (a portion of) the vertices. The vertices are uploaded again in full to the next segment of the ring when bound. */
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		isDirty = true;
+		final int pos = buffer.position();
+		buffer.position(targetOffset);
+		BufferUtils.copy(vertices, sourceOffset, count, buffer);
+		buffer.position(pos);
+		if (isBound) {
+			upload();
+			setAttributePointers(boundShader, boundLocations);
+		}
+	}
+
+	/** Writes the vertices after the previous upload, wrapping around to the start of the buffer when they don't fit. The buffer
+	 * must be bound to GL_ARRAY_BUFFER. */
+	private void upload () {
+		int size = buffer.limit() * 4;
+		boolean wrap = writeOffset + size > ringSize;
+		if (wrap) writeOffset = 0;
+		buffer.position(0);
+		if (size > 0) {
+			GL20 gl = Gdx.gl20;
+			if (wrap) gl.glBufferData(GL20.GL_ARRAY_BUFFER, ringSize, null, GL20.GL_STREAM_DRAW);
+			gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, buffer);
+		}
+		drawOffset = writeOffset;
+		writeOffset += size;
+		isDirty = false;
+	}
+
+	/** Binds this StreamingVertexBufferObject for rendering via glDrawArrays or glDrawElements
+	 * @param shader the shader */
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+		setAttributePointers(shader, locations);
+		boundShader = shader;
+		boundLocations = locations;
+		isBound = true;
+	}
+
+	private void setAttributePointers (ShaderProgram shader, int[] locations) {
+		final int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			final int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, drawOffset + attribute.offset);
+		}
+	}
+
+	/** Unbinds this StreamingVertexBufferObject.
+	 *
+	 * @param shader the shader */
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		if (vaoHandle != -1)
+			Gdx.gl30.glBindVertexArray(0);
+		else {
+			final int numAttributes = attributes.size();
+			for (int i = 0; i < numAttributes; i++) {
+				final int location = locations == null ? shader.getAttributeLocation(attributes.get(i).alias) : locations[i];
+				if (location >= 0) shader.disableVertexAttribute(location);
+			}
+		}
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		boundShader = null;
+		boundLocations = null;
+		isBound = false;
+	}
+
+	/** Invalidates the StreamingVertexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context
+	 * loss. */
+	@Override
+	public void invalidate () {
+		createBuffer();
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this StreamingVertexBufferObject uses. */
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
@@ -39,6 +39,7 @@ public class FreeType {
 	#include <ft2build.h>
 	#include FT_FREETYPE_H
 	#include FT_STROKER_H
+	#include FT_MODULE_H
 	
 	static jint lastError = 0;	
 	 */
@@ -79,6 +80,21 @@ public class FreeType {
 			FT_Done_FreeType((FT_Library)library);
 		*/
 
+		/** Sets the distance in pixels that signed distance fields rendered with {@link FreeType#FT_RENDER_MODE_SDF} extend
+		 * outside and inside the outline. Must be between 2 and 32, the default is 8. */
+		public void setDistanceFieldSpread (int spread) {
+			if (!setDistanceFieldSpread(address, spread))
+				throw new GdxRuntimeException("Couldn't set distance field spread, FreeType error code: " + getLastErrorCode());
+		}
+
+		private static native boolean setDistanceFieldSpread(long library, int spread); /*
+			FT_Int value = spread;
+			FT_Error error = FT_Property_Set((FT_Library)library, "sdf", "spread", &value);
+			if(!error) error = FT_Property_Set((FT_Library)library, "bsdf", "spread", &value);
+			if(error) lastError = error;
+			return !error;
+		*/
+
 		public Face newFace(FileHandle fontFile, int faceIndex) {
 			ByteBuffer buffer = null;
 			try {
@@ -904,7 +920,8 @@ public class FreeType {
    public static int FT_RENDER_MODE_MONO = 2;
    public static int FT_RENDER_MODE_LCD = 3;
    public static int FT_RENDER_MODE_LCD_V = 4;
-   public static int FT_RENDER_MODE_MAX = 5;
+   public static int FT_RENDER_MODE_SDF = 5;
+   public static int FT_RENDER_MODE_MAX = 6;
    
    public static int FT_KERNING_DEFAULT = 0;
    public static int FT_KERNING_UNFITTED = 1;
@@ -28,6 +28,7 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
 import com.badlogic.gdx.graphics.g2d.Gdx2DPixmap;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.graphics.g2d.PixmapPacker;
@@ -81,6 +82,8 @@ public class FreeTypeFontGenerator implements Disposable {
 	final Face face;
 	final String name;
 	boolean bitmapped = false;
+	/** The spread last set on the library, FreeType's default is 8. */
+	private int distanceFieldSpread = 8;
 	private int pixelWidth, pixelHeight;
 
 	/** {@link #FreeTypeFontGenerator(FileHandle, int)} */
@@ -163,7 +166,13 @@ public class FreeTypeFontGenerator implements Disposable {
 		if (updateTextureRegions)
 			parameter.packer.updateTextureRegions(data.regions, parameter.minFilter, parameter.magFilter, parameter.genMipMaps);
 		if (data.regions.isEmpty()) throw new GdxRuntimeException("Unable to create a font with no texture regions.");
-		BitmapFont font = newBitmapFont(data, data.regions, true);
+		BitmapFont font;
+		if (parameter.distanceField) {
+			DistanceFieldFont distanceFieldFont = new DistanceFieldFont(data, data.regions, false);
+			distanceFieldFont.setDistanceFieldSmoothing(parameter.distanceFieldSpread);
+			font = distanceFieldFont;
+		} else
+			font = newBitmapFont(data, data.regions, true);
 		font.setOwnsTexture(parameter.packer == null);
 		return font;
 	}
@@ -297,6 +306,12 @@ public class FreeTypeFontGenerator implements Disposable {
 
 		setPixelSizes(0, parameter.size);
 
+		if (parameter.distanceField) {
+			if (bitmapped) throw new GdxRuntimeException("Distance field glyphs require a scalable font: " + name);
+			// The glyph bitmaps extend past the outline by the spread.
+			data.padTop = data.padRight = data.padBottom = data.padLeft = parameter.distanceFieldSpread;
+		}
+
 		// set general font data
 		SizeMetrics fontMetrics = face.getSize().getMetrics();
 		data.flipped = parameter.flip;
@@ -487,21 +502,29 @@ public class FreeTypeFontGenerator implements Disposable {
 
 		if (!loadChar(c, getLoadingFlags(parameter))) return null;
 
+		boolean distanceField = parameter.distanceField;
+		if (distanceField && distanceFieldSpread != parameter.distanceFieldSpread) {
+			library.setDistanceFieldSpread(parameter.distanceFieldSpread);
+			distanceFieldSpread = parameter.distanceFieldSpread;
+		}
+
 		GlyphSlot slot = face.getGlyph();
 		FreeType.Glyph mainGlyph = slot.getGlyph();
 		try {
-			mainGlyph.toBitmap(parameter.mono ? FreeType.FT_RENDER_MODE_MONO : FreeType.FT_RENDER_MODE_NORMAL);
+			mainGlyph.toBitmap(distanceField ? FreeType.FT_RENDER_MODE_SDF
+				: parameter.mono ? FreeType.FT_RENDER_MODE_MONO : FreeType.FT_RENDER_MODE_NORMAL);
 		} catch (GdxRuntimeException e) {
 			mainGlyph.dispose();
 			Gdx.app.log("FreeTypeFontGenerator", "Couldn't render char: " + c);
 			return null;
 		}
 		Bitmap mainBitmap = mainGlyph.getBitmap();
-		Pixmap mainPixmap = mainBitmap.getPixmap(Format.RGBA8888, parameter.color, parameter.gamma);
+		// Distance fields are stored linearly, so they can be interpolated.
+		Pixmap mainPixmap = mainBitmap.getPixmap(Format.RGBA8888, parameter.color, distanceField ? 1 : parameter.gamma);
 
 		if (mainBitmap.getWidth() != 0 && mainBitmap.getRows() != 0) {
 			int offsetX = 0, offsetY = 0;
-			if (parameter.borderWidth > 0) {
+			if (parameter.borderWidth > 0 && !distanceField) {
 				// execute stroker; this generates a glyph "extended" along the outline
 				int top = mainGlyph.getTop(), left = mainGlyph.getLeft();
 				FreeType.Glyph borderGlyph = slot.getGlyph();
@@ -524,7 +547,8 @@ public class FreeTypeFontGenerator implements Disposable {
 				mainGlyph = borderGlyph;
 			}
 
-			if (parameter.shadowOffsetX != 0 || parameter.shadowOffsetY != 0) {
+			// Borders, shadows and drawing the glyph again would change the distances of a distance field.
+			if (!distanceField && (parameter.shadowOffsetX != 0 || parameter.shadowOffsetY != 0)) {
 				int mainW = mainPixmap.getWidth(), mainH = mainPixmap.getHeight();
 				int shadowOffsetX = Math.max(parameter.shadowOffsetX, 0), shadowOffsetY = Math.max(parameter.shadowOffsetY, 0);
 				int shadowW = mainW + Math.abs(parameter.shadowOffsetX), shadowH = mainH + Math.abs(parameter.shadowOffsetY);
@@ -560,7 +584,7 @@ public class FreeTypeFontGenerator implements Disposable {
 					shadowPixmap.drawPixmap(mainPixmap, Math.max(-parameter.shadowOffsetX, 0), Math.max(-parameter.shadowOffsetY, 0));
 				mainPixmap.dispose();
 				mainPixmap = shadowPixmap;
-			} else if (parameter.borderWidth == 0) {
+			} else if (parameter.borderWidth == 0 && !distanceField) {
 				// No shadow and no border, draw glyph additional times.
 				for (int i = 0, n = parameter.renderCount - 1; i < n; i++)
 					mainPixmap.drawPixmap(mainPixmap, 0, 0);
@@ -586,7 +610,8 @@ public class FreeTypeFontGenerator implements Disposable {
 			glyph.yoffset = -mainGlyph.getTop() + (int)baseLine;
 		else
 			glyph.yoffset = -(glyph.height - mainGlyph.getTop()) - (int)baseLine;
-		glyph.xadvance = FreeType.toInt(metrics.getHoriAdvance()) + (int)parameter.borderWidth + parameter.spaceX;
+		glyph.xadvance = FreeType.toInt(metrics.getHoriAdvance()) + (distanceField ? 0 : (int)parameter.borderWidth)
+			+ parameter.spaceX;
 
 		if (bitmapped) {
 			mainPixmap.setColor(Color.CLEAR);
@@ -780,6 +805,15 @@ public class FreeTypeFontGenerator implements Disposable {
 		public int spaceX, spaceY;
 		/** Pixels to add to the glyph in the texture. Cannot be negative. */
 		public int padTop, padLeft, padBottom, padRight;
+		/** If true, glyphs are rendered as signed distance fields and {@link FreeTypeFontGenerator#generateFont(FreeTypeFontParameter)}
+		 * returns a {@link DistanceFieldFont}. Distance field glyphs stay sharp when scaled, so one size can be generated and drawn
+		 * at many sizes using {@link BitmapFontData#setScale(float)}. The font must be drawn with a batch using
+		 * {@link DistanceFieldFont#createDistanceFieldShader()} and the filters should be Linear. The border, shadow, mono and
+		 * renderCount parameters are not used. The font must be scalable. */
+		public boolean distanceField;
+		/** The distance in pixels that distance field glyphs extend outside and inside the outline, between 2 and 32. Larger values
+		 * allow drawing smaller without artifacts, but use more texture space. */
+		public int distanceFieldSpread = 8;
 		/** The characters the font should contain. If '\0' is not included then {@link BitmapFontData#missingGlyph} is not set. */
 		public String characters = DEFAULT_CHARS;
 		/** Whether the font should include kerning */
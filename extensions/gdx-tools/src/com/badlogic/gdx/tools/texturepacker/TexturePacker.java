@@ -16,6 +16,7 @@
 
 package com.badlogic.gdx.tools.texturepacker;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
@@ -41,6 +42,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataOutput;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
@@ -403,6 +405,11 @@ public class TexturePacker {
 			}
 		}
 
+		if (settings.binaryOutput) {
+			writePackFileBinary(packFile, pages);
+			return;
+		}
+
 		String tab = "", colon = ":", comma = ",";
 		if (settings.prettyPrint) {
 			tab = "\t";
@@ -444,6 +451,84 @@ public class TexturePacker {
 		writer.close();
 	}
 
+	/** Writes the pages in the binary atlas format read by {@link TextureAtlasData}. When appending, only the pages are written
+	 * since the existing file already has the header. */
+	private void writePackFileBinary (File packFile, Array<Page> pages) throws IOException {
+		boolean appending = packFile.exists();
+		if (appending && !TextureAtlasData.isBinary(new FileHandle(packFile)))
+			throw new GdxRuntimeException("Cannot append binary output to a text atlas file: " + packFile);
+
+		DataOutput output = new DataOutput(new BufferedOutputStream(new FileOutputStream(packFile, true)));
+		try {
+			if (!appending) {
+				output.write(TextureAtlasData.BINARY_HEADER);
+				output.writeInt(TextureAtlasData.BINARY_VERSION, true);
+			}
+			for (int i = 0, n = pages.size; i < n; i++) {
+				Page page = pages.get(i);
+				output.writeByte(1);
+				output.writeString(page.imageName);
+				output.writeInt(page.imageWidth, true);
+				output.writeInt(page.imageHeight, true);
+				output.writeString(settings.format.name());
+				output.writeString(settings.filterMin.name());
+				output.writeString(settings.filterMag.name());
+				int flags = 0;
+				if (settings.wrapX == TextureWrap.Repeat) flags |= 1;
+				if (settings.wrapY == TextureWrap.Repeat) flags |= 2;
+				if (settings.premultiplyAlpha) flags |= 4;
+				output.writeByte(flags);
+
+				int regionCount = 0;
+				for (Rect rect : page.outputRects)
+					regionCount += 1 + rect.aliases.size();
+				output.writeInt(regionCount, true);
+
+				page.outputRects.sort();
+				for (Rect rect : page.outputRects) {
+					writeRectBinary(output, page, rect, rect.name);
+					Array<Alias> aliases = new Array(rect.aliases.toArray());
+					aliases.sort();
+					for (Alias alias : aliases) {
+						Rect aliasRect = new Rect();
+						aliasRect.set(rect);
+						alias.apply(aliasRect);
+						writeRectBinary(output, page, aliasRect, alias.name);
+					}
+				}
+			}
+		} finally {
+			output.close();
+		}
+	}
+
+	private void writeRectBinary (DataOutput output, Page page, Rect rect, String name) throws IOException {
+		output.writeString(Rect.getAtlasName(name, settings.flattenPaths));
+		output.writeInt(rect.index, false);
+		output.writeInt(page.x + rect.x, true);
+		output.writeInt(page.y + page.height - rect.y - (rect.height - settings.paddingY), true);
+		output.writeInt(rect.regionWidth, true);
+		output.writeInt(rect.regionHeight, true);
+		output.writeInt(rect.offsetX, false);
+		output.writeInt(rect.originalHeight - rect.regionHeight - rect.offsetY, false);
+		output.writeInt(rect.originalWidth, true);
+		output.writeInt(rect.originalHeight, true);
+		output.writeInt(rect.rotated ? 90 : 0, true);
+
+		int[] splits = rect.splits;
+		if (splits == null && rect.pads != null) splits = new int[4];
+		output.writeInt((splits != null ? 1 : 0) + (rect.pads != null ? 1 : 0), true);
+		if (splits != null) writeValuesBinary(output, "split", splits);
+		if (rect.pads != null) writeValuesBinary(output, "pad", rect.pads);
+	}
+
+	private void writeValuesBinary (DataOutput output, String name, int[] values) throws IOException {
+		output.writeString(name);
+		output.writeInt(values.length, true);
+		for (int value : values)
+			output.writeInt(value, false);
+	}
+
 	private void writePage (OutputStreamWriter writer, boolean appending, Page page) throws IOException {
 		String tab = "", colon = ":", comma = ",";
 		if (settings.prettyPrint) {
@@ -932,6 +1017,9 @@ public class TexturePacker {
 		public String atlasExtension = ".atlas";
 		public boolean prettyPrint = true;
 		public boolean legacyOutput = true;
+		/** If true, the atlas is written in a compact binary format that {@link TextureAtlasData} loads without text parsing.
+		 * {@link #prettyPrint} and {@link #legacyOutput} are ignored. */
+		public boolean binaryOutput;
 
 		public Settings () {
 		}
@@ -985,6 +1073,7 @@ public class TexturePacker {
 			atlasExtension = settings.atlasExtension;
 			prettyPrint = settings.prettyPrint;
 			legacyOutput = settings.legacyOutput;
+			binaryOutput = settings.binaryOutput;
 		}
 
 		public String getScaledPackFileName (String packFileName, int scaleIndex) {
@@ -0,0 +1,128 @@
+package com.badlogic.gdx.tools.texturepacker;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.Texture.TextureWrap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+
+public class TexturePackerBinaryTest {
+	private static void writeImage (File dir, String name, int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 1; y < height - 1; y++)
+			for (int x = 1; x < width - 1; x++)
+				image.setRGB(x, y, 0xff000000 | (x * 16 << 8) | y * 16);
+		ImageIO.write(image, "png", new File(dir, name + ".png"));
+	}
+
+	/** Writes a ninepatch with splits at 3 to 6 and pads at 2 to 7 on both axes. */
+	private static void writeNinePatch (File dir, String name) throws IOException {
+		BufferedImage image = new BufferedImage(12, 12, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 1; y < 11; y++)
+			for (int x = 1; x < 11; x++)
+				image.setRGB(x, y, 0xffff0000);
+		for (int i = 4; i <= 7; i++) {
+			image.setRGB(i, 0, 0xff000000);
+			image.setRGB(0, i, 0xff000000);
+		}
+		for (int i = 3; i <= 8; i++) {
+			image.setRGB(i, 11, 0xff000000);
+			image.setRGB(11, i, 0xff000000);
+		}
+		ImageIO.write(image, "png", new File(dir, name + ".9.png"));
+	}
+
+	private static TextureAtlasData pack (File input, File output, boolean binary) {
+		TexturePacker.Settings settings = new TexturePacker.Settings();
+		settings.silent = true;
+		settings.binaryOutput = binary;
+		settings.legacyOutput = false;
+		settings.maxWidth = 32;
+		settings.maxHeight = 32;
+		settings.filterMin = TextureFilter.MipMapLinearLinear;
+		settings.filterMag = TextureFilter.Linear;
+		settings.wrapX = TextureWrap.Repeat;
+		settings.premultiplyAlpha = true;
+		settings.stripWhitespaceX = true;
+		settings.stripWhitespaceY = true;
+		settings.rotation = true;
+		TexturePacker.process(settings, input.getPath(), output.getPath(), "test");
+		FileHandle packFile = new FileHandle(new File(output, "test.atlas"));
+		assertEquals(binary, TextureAtlasData.isBinary(packFile));
+		return new TextureAtlasData(packFile, packFile.parent(), false);
+	}
+
+	@Test
+	public void testBinaryMatchesText () throws IOException {
+		File input = Files.createTempDirectory("packer-input").toFile();
+		for (int i = 0; i < 3; i++)
+			writeImage(input, "anim_" + i, 10 + i * 4, 14);
+		for (int i = 0; i < 6; i++)
+			writeImage(input, "tile" + i, 20, 12);
+		writeNinePatch(input, "patch");
+
+		TextureAtlasData text = pack(input, Files.createTempDirectory("packer-text").toFile(), false);
+		TextureAtlasData binary = pack(input, Files.createTempDirectory("packer-binary").toFile(), true);
+
+		assertTrue(text.getPages().size > 1);
+		assertEquals(text.getPages().size, binary.getPages().size);
+		for (int i = 0; i < text.getPages().size; i++) {
+			Page expected = text.getPages().get(i), actual = binary.getPages().get(i);
+			assertEquals(expected.textureFile.name(), actual.textureFile.name());
+			assertEquals(expected.width, actual.width, 0);
+			assertEquals(expected.height, actual.height, 0);
+			assertEquals(expected.format, actual.format);
+			assertEquals(expected.minFilter, actual.minFilter);
+			assertEquals(expected.magFilter, actual.magFilter);
+			assertEquals(expected.uWrap, actual.uWrap);
+			assertEquals(expected.vWrap, actual.vWrap);
+			assertEquals(expected.useMipMaps, actual.useMipMaps);
+			assertEquals(expected.pma, actual.pma);
+		}
+		assertTrue(binary.getPages().first().pma);
+		assertEquals(TextureWrap.Repeat, binary.getPages().first().uWrap);
+
+		assertEquals(text.getRegions().size, binary.getRegions().size);
+		boolean hasSplits = false;
+		for (int i = 0; i < text.getRegions().size; i++) {
+			Region expected = text.getRegions().get(i), actual = binary.getRegions().get(i);
+			assertEquals(expected.name, actual.name);
+			assertEquals(text.getPages().indexOf(expected.page, true), binary.getPages().indexOf(actual.page, true));
+			assertEquals(expected.index, actual.index);
+			assertEquals(expected.left, actual.left);
+			assertEquals(expected.top, actual.top);
+			assertEquals(expected.width, actual.width);
+			assertEquals(expected.height, actual.height);
+			assertEquals(expected.offsetX, actual.offsetX, 0);
+			assertEquals(expected.offsetY, actual.offsetY, 0);
+			assertEquals(expected.originalWidth, actual.originalWidth);
+			assertEquals(expected.originalHeight, actual.originalHeight);
+			assertEquals(expected.rotate, actual.rotate);
+			assertEquals(expected.degrees, actual.degrees);
+			assertArrayEquals(expected.names, actual.names);
+			if (expected.names != null) {
+				for (int ii = 0; ii < expected.names.length; ii++)
+					assertArrayEquals(expected.values[ii], actual.values[ii]);
+			}
+			if (actual.findValue("split") != null) {
+				hasSplits = true;
+				assertArrayEquals(new int[] {3, 3, 3, 3}, actual.findValue("split"));
+				assertArrayEquals(new int[] {2, 2, 2, 2}, actual.findValue("pad"));
+			}
+		}
+		assertTrue(hasSplits);
+		assertEquals(2, binary.getRegions().get(2).index);
+	}
+}
@@ -1100,6 +1100,30 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_backends_iosrobovm_IOSGLES30_glResu
     glResumeTransformFeedback();
 }
 
+/*
+ * Class:     com_badlogic_gdx_backends_iosrobovm_IOSGLES30
+ * Method:    glGetProgramBinary
+ * Signature: (IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/Buffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_backends_iosrobovm_IOSGLES30_glGetProgramBinary
+  (JNIEnv *env, jobject, jint program, jint bufSize, jobject length, jobject binaryFormat, jobject binary) {
+    void* lengthPtr = getDirectBufferPointer( env, length );
+    void* binaryFormatPtr = getDirectBufferPointer( env, binaryFormat );
+    void* binaryPtr = getDirectBufferPointer( env, binary );
+    glGetProgramBinary(program, bufSize, (GLsizei*)lengthPtr, (GLenum*)binaryFormatPtr, binaryPtr);
+}
+
+/*
+ * Class:     com_badlogic_gdx_backends_iosrobovm_IOSGLES30
+ * Method:    glProgramBinary
+ * Signature: (IILjava/nio/Buffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_badlogic_gdx_backends_iosrobovm_IOSGLES30_glProgramBinary
+  (JNIEnv *env, jobject, jint program, jint binaryFormat, jobject binary, jint length) {
+    void* binaryPtr = getDirectBufferPointer( env, binary );
+    glProgramBinary(program, binaryFormat, binaryPtr, length);
+}
+
 /*
  * Class:     com_badlogic_gdx_backends_iosrobovm_IOSGLES30
  * Method:    glProgramParameteri
@@ -0,0 +1,151 @@
+#ifdef GL_ES
+precision highp float;
+precision highp int;
+#endif
+
+in vec3 v_position;
+in vec4 v_clipPosition;
+in float v_viewDepth;
+
+#ifdef normalFlag
+in vec3 v_normal;
+#endif //normalFlag
+
+#if defined(colorFlag)
+in vec4 v_color;
+#endif
+
+#ifdef blendedFlag
+in float v_opacity;
+#ifdef alphaTestFlag
+in float v_alphaTest;
+#endif //alphaTestFlag
+#endif //blendedFlag
+
+#ifdef diffuseColorFlag
+uniform vec4 u_diffuseColor;
+#endif
+
+#ifdef diffuseTextureFlag
+uniform sampler2D u_diffuseTexture;
+in vec2 v_diffuseUV;
+#endif
+
+#ifdef emissiveColorFlag
+uniform vec4 u_emissiveColor;
+#endif
+
+#ifdef emissiveTextureFlag
+uniform sampler2D u_emissiveTexture;
+in vec2 v_emissiveUV;
+#endif
+
+#ifdef fogFlag
+uniform vec4 u_fogColor;
+in float v_fog;
+#endif // fogFlag
+
+#ifdef lightingFlag
+in vec3 v_lightDiffuse;
+
+// One row of three texels per light: position and radius, color and cosine of the cone, direction and exponent.
+uniform highp sampler2D u_clusterLights;
+// One texel per cluster with the offset and count of its light indices.
+uniform highp sampler2D u_clusterGrid;
+// Four light indices per texel, clusterIndicesWidth texels per row.
+uniform highp sampler2D u_clusterIndices;
+// The number of tiles in x and y and the number of depth slices.
+uniform vec3 u_clusterSize;
+// The scale and bias that give the depth slice from the logarithm of the view depth.
+uniform vec2 u_clusterDepth;
+#endif // lightingFlag
+
+out vec4 fragColor;
+
+void main() {
+	#if defined(diffuseTextureFlag) && defined(diffuseColorFlag) && defined(colorFlag)
+		vec4 diffuse = texture(u_diffuseTexture, v_diffuseUV) * u_diffuseColor * v_color;
+	#elif defined(diffuseTextureFlag) && defined(diffuseColorFlag)
+		vec4 diffuse = texture(u_diffuseTexture, v_diffuseUV) * u_diffuseColor;
+	#elif defined(diffuseTextureFlag) && defined(colorFlag)
+		vec4 diffuse = texture(u_diffuseTexture, v_diffuseUV) * v_color;
+	#elif defined(diffuseTextureFlag)
+		vec4 diffuse = texture(u_diffuseTexture, v_diffuseUV);
+	#elif defined(diffuseColorFlag) && defined(colorFlag)
+		vec4 diffuse = u_diffuseColor * v_color;
+	#elif defined(diffuseColorFlag)
+		vec4 diffuse = u_diffuseColor;
+	#elif defined(colorFlag)
+		vec4 diffuse = v_color;
+	#else
+		vec4 diffuse = vec4(1.0);
+	#endif
+
+	#if defined(emissiveTextureFlag) && defined(emissiveColorFlag)
+		vec4 emissive = texture(u_emissiveTexture, v_emissiveUV) * u_emissiveColor;
+	#elif defined(emissiveTextureFlag)
+		vec4 emissive = texture(u_emissiveTexture, v_emissiveUV);
+	#elif defined(emissiveColorFlag)
+		vec4 emissive = u_emissiveColor;
+	#else
+		vec4 emissive = vec4(0.0);
+	#endif
+
+	#ifdef lightingFlag
+		vec3 lightDiffuse = v_lightDiffuse;
+
+		#ifdef normalFlag
+			vec3 normal = normalize(v_normal);
+			vec2 ndc = v_clipPosition.xy / v_clipPosition.w;
+			ivec2 tile = ivec2(clamp((ndc * 0.5 + 0.5) * u_clusterSize.xy, vec2(0.0), u_clusterSize.xy - 1.0));
+			int slice = int(clamp(log(max(v_viewDepth, 0.0001)) * u_clusterDepth.x + u_clusterDepth.y, 0.0, u_clusterSize.z - 1.0));
+			vec4 cluster = texelFetch(u_clusterGrid, ivec2(tile.y * int(u_clusterSize.x) + tile.x, slice), 0);
+			int offset = int(cluster.x);
+			int count = int(cluster.y);
+			for (int i = 0; i < count; i++) {
+				int index = offset + i;
+				int texel = index / 4;
+				vec4 indices = texelFetch(u_clusterIndices, ivec2(texel % clusterIndicesWidth, texel / clusterIndicesWidth), 0);
+				int light = int(indices[index - texel * 4]);
+
+				vec4 positionRadius = texelFetch(u_clusterLights, ivec2(0, light), 0);
+				vec3 toLight = positionRadius.xyz - v_position;
+				float dist2 = dot(toLight, toLight);
+				float radius2 = positionRadius.w * positionRadius.w;
+				if (dist2 >= radius2) continue;
+				vec3 lightDir = toLight * inversesqrt(dist2);
+				float NdotL = dot(normal, lightDir);
+				if (NdotL <= 0.0) continue;
+
+				vec4 colorCone = texelFetch(u_clusterLights, ivec2(1, light), 0);
+				// The attenuation of the default shader, lowered so it reaches zero at the radius of the light.
+				float attenuation = 1.0 / (1.0 + dist2) - 1.0 / (1.0 + radius2);
+				if (colorCone.w >= -1.0) {
+					vec4 directionExponent = texelFetch(u_clusterLights, ivec2(2, light), 0);
+					float cosAngle = dot(-lightDir, directionExponent.xyz);
+					if (cosAngle < colorCone.w) continue;
+					attenuation *= pow(cosAngle, directionExponent.w);
+				}
+				lightDiffuse += colorCone.rgb * (NdotL * attenuation);
+			}
+		#endif // normalFlag
+
+		fragColor.rgb = diffuse.rgb * lightDiffuse + emissive.rgb;
+	#else
+		fragColor.rgb = diffuse.rgb + emissive.rgb;
+	#endif // lightingFlag
+
+	#ifdef fogFlag
+		fragColor.rgb = mix(fragColor.rgb, u_fogColor.rgb, v_fog);
+	#endif // end fogFlag
+
+	#ifdef blendedFlag
+		fragColor.a = diffuse.a * v_opacity;
+		#ifdef alphaTestFlag
+			if (fragColor.a <= v_alphaTest)
+				discard;
+		#endif
+	#else
+		fragColor.a = 1.0;
+	#endif
+}
@@ -0,0 +1,249 @@
+#if defined(diffuseTextureFlag) || defined(emissiveTextureFlag)
+#define textureFlag
+#endif
+
+in vec3 a_position;
+uniform mat4 u_projViewTrans;
+uniform mat4 u_viewTrans;
+out vec3 v_position;
+out vec4 v_clipPosition;
+out float v_viewDepth;
+
+#if defined(colorFlag)
+out vec4 v_color;
+in vec4 a_color;
+#endif // colorFlag
+
+#ifdef normalFlag
+in vec3 a_normal;
+uniform mat3 u_normalMatrix;
+out vec3 v_normal;
+#endif // normalFlag
+
+#ifdef textureFlag
+in vec2 a_texCoord0;
+#endif // textureFlag
+
+#ifdef diffuseTextureFlag
+uniform vec4 u_diffuseUVTransform;
+out vec2 v_diffuseUV;
+#endif
+
+#ifdef emissiveTextureFlag
+uniform vec4 u_emissiveUVTransform;
+out vec2 v_emissiveUV;
+#endif
+
+#ifdef boneWeight0Flag
+#define boneWeightsFlag
+in vec2 a_boneWeight0;
+#endif //boneWeight0Flag
+
+#ifdef boneWeight1Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight1;
+#endif //boneWeight1Flag
+
+#ifdef boneWeight2Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight2;
+#endif //boneWeight2Flag
+
+#ifdef boneWeight3Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight3;
+#endif //boneWeight3Flag
+
+#ifdef boneWeight4Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight4;
+#endif //boneWeight4Flag
+
+#ifdef boneWeight5Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight5;
+#endif //boneWeight5Flag
+
+#ifdef boneWeight6Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight6;
+#endif //boneWeight6Flag
+
+#ifdef boneWeight7Flag
+#ifndef boneWeightsFlag
+#define boneWeightsFlag
+#endif
+in vec2 a_boneWeight7;
+#endif //boneWeight7Flag
+
+#if defined(numBones) && defined(boneWeightsFlag)
+#if (numBones > 0) 
+#define skinningFlag
+#endif
+#endif
+
+#ifdef instancedFlag
+in mat4 a_worldTrans;
+#define worldTrans a_worldTrans
+#else
+uniform mat4 u_worldTrans;
+#define worldTrans u_worldTrans
+#endif //instancedFlag
+
+#if defined(numBones)
+#if numBones > 0
+uniform mat4 u_bones[numBones];
+#endif //numBones
+#endif
+
+#ifdef blendedFlag
+uniform float u_opacity;
+out float v_opacity;
+
+#ifdef alphaTestFlag
+uniform float u_alphaTest;
+out float v_alphaTest;
+#endif //alphaTestFlag
+#endif // blendedFlag
+
+#ifdef fogFlag
+uniform vec4 u_cameraPosition;
+out float v_fog;
+#endif // fogFlag
+
+#ifdef lightingFlag
+out vec3 v_lightDiffuse;
+
+#ifdef ambientLightFlag
+uniform vec3 u_ambientLight;
+#endif // ambientLightFlag
+
+#ifdef ambientCubemapFlag
+uniform vec3 u_ambientCubemap[6];
+#endif // ambientCubemapFlag
+
+#if numDirectionalLights > 0
+struct DirectionalLight
+{
+	vec3 color;
+	vec3 direction;
+};
+uniform DirectionalLight u_dirLights[numDirectionalLights];
+#endif // numDirectionalLights
+#endif // lightingFlag
+
+void main() {
+	#ifdef diffuseTextureFlag
+		v_diffuseUV = u_diffuseUVTransform.xy + a_texCoord0 * u_diffuseUVTransform.zw;
+	#endif //diffuseTextureFlag
+
+	#ifdef emissiveTextureFlag
+		v_emissiveUV = u_emissiveUVTransform.xy + a_texCoord0 * u_emissiveUVTransform.zw;
+	#endif //emissiveTextureFlag
+
+	#if defined(colorFlag)
+		v_color = a_color;
+	#endif // colorFlag
+
+	#ifdef blendedFlag
+		v_opacity = u_opacity;
+		#ifdef alphaTestFlag
+			v_alphaTest = u_alphaTest;
+		#endif //alphaTestFlag
+	#endif // blendedFlag
+
+	#ifdef skinningFlag
+		mat4 skinning = mat4(0.0);
+		#ifdef boneWeight0Flag
+			skinning += (a_boneWeight0.y) * u_bones[int(a_boneWeight0.x)];
+		#endif //boneWeight0Flag
+		#ifdef boneWeight1Flag
+			skinning += (a_boneWeight1.y) * u_bones[int(a_boneWeight1.x)];
+		#endif //boneWeight1Flag
+		#ifdef boneWeight2Flag
+			skinning += (a_boneWeight2.y) * u_bones[int(a_boneWeight2.x)];
+		#endif //boneWeight2Flag
+		#ifdef boneWeight3Flag
+			skinning += (a_boneWeight3.y) * u_bones[int(a_boneWeight3.x)];
+		#endif //boneWeight3Flag
+		#ifdef boneWeight4Flag
+			skinning += (a_boneWeight4.y) * u_bones[int(a_boneWeight4.x)];
+		#endif //boneWeight4Flag
+		#ifdef boneWeight5Flag
+			skinning += (a_boneWeight5.y) * u_bones[int(a_boneWeight5.x)];
+		#endif //boneWeight5Flag
+		#ifdef boneWeight6Flag
+			skinning += (a_boneWeight6.y) * u_bones[int(a_boneWeight6.x)];
+		#endif //boneWeight6Flag
+		#ifdef boneWeight7Flag
+			skinning += (a_boneWeight7.y) * u_bones[int(a_boneWeight7.x)];
+		#endif //boneWeight7Flag
+	#endif //skinningFlag
+
+	#ifdef skinningFlag
+		vec4 pos = worldTrans * skinning * vec4(a_position, 1.0);
+	#else
+		vec4 pos = worldTrans * vec4(a_position, 1.0);
+	#endif
+
+	gl_Position = u_projViewTrans * pos;
+	v_position = pos.xyz;
+	v_clipPosition = gl_Position;
+	v_viewDepth = -(u_viewTrans * pos).z;
+
+	#if defined(normalFlag)
+		#if defined(skinningFlag)
+			vec3 normal = normalize((worldTrans * skinning * vec4(a_normal, 0.0)).xyz);
+		#elif defined(instancedFlag)
+			// Assumes a uniform scale, the normal matrix is not available per instance.
+			vec3 normal = normalize((worldTrans * vec4(a_normal, 0.0)).xyz);
+		#else
+			vec3 normal = normalize(u_normalMatrix * a_normal);
+		#endif
+		v_normal = normal;
+	#endif // normalFlag
+
+	#ifdef fogFlag
+		vec3 flen = u_cameraPosition.xyz - pos.xyz;
+		float fog = dot(flen, flen) * u_cameraPosition.w;
+		v_fog = min(fog, 1.0);
+	#endif
+
+	#ifdef lightingFlag
+		vec3 lightDiffuse = vec3(0.0);
+
+		#ifdef ambientLightFlag
+			lightDiffuse += u_ambientLight;
+		#endif // ambientLightFlag
+
+		#if defined(ambientCubemapFlag) && defined(normalFlag)
+			vec3 squaredNormal = normal * normal;
+			vec3 isPositive  = step(0.0, normal);
+			lightDiffuse += squaredNormal.x * mix(u_ambientCubemap[0], u_ambientCubemap[1], isPositive.x) +
+					squaredNormal.y * mix(u_ambientCubemap[2], u_ambientCubemap[3], isPositive.y) +
+					squaredNormal.z * mix(u_ambientCubemap[4], u_ambientCubemap[5], isPositive.z);
+		#endif // ambientCubemapFlag
+
+		#if (numDirectionalLights > 0) && defined(normalFlag)
+			for (int i = 0; i < numDirectionalLights; i++) {
+				vec3 lightDir = -u_dirLights[i].direction;
+				float NdotL = clamp(dot(normal, lightDir), 0.0, 1.0);
+				lightDiffuse += u_dirLights[i].color * NdotL;
+			}
+		#endif // numDirectionalLights
+
+		v_lightDiffuse = lightDiffuse;
+	#endif // lightingFlag
+}
@@ -103,7 +103,13 @@ attribute vec2 a_boneWeight7;
 #endif
 #endif
 
+#ifdef instancedFlag
+attribute mat4 a_worldTrans;
+#define worldTrans a_worldTrans
+#else
 uniform mat4 u_worldTrans;
+#define worldTrans u_worldTrans
+#endif //instancedFlag
 
 #if defined(numBones)
 #if numBones > 0
@@ -242,9 +248,9 @@ void main() {
 	#endif //skinningFlag
 
 	#ifdef skinningFlag
-		vec4 pos = u_worldTrans * skinning * vec4(a_position, 1.0);
+		vec4 pos = worldTrans * skinning * vec4(a_position, 1.0);
 	#else
-		vec4 pos = u_worldTrans * vec4(a_position, 1.0);
+		vec4 pos = worldTrans * vec4(a_position, 1.0);
 	#endif
 		
 	gl_Position = u_projViewTrans * pos;
@@ -257,7 +263,10 @@ void main() {
 	
 	#if defined(normalFlag)
 		#if defined(skinningFlag)
-			vec3 normal = normalize((u_worldTrans * skinning * vec4(a_normal, 0.0)).xyz);
+			vec3 normal = normalize((worldTrans * skinning * vec4(a_normal, 0.0)).xyz);
+		#elif defined(instancedFlag)
+			// Assumes a uniform scale, the normal matrix is not available per instance.
+			vec3 normal = normalize((worldTrans * vec4(a_normal, 0.0)).xyz);
 		#else
 			vec3 normal = normalize(u_normalMatrix * a_normal);
 		#endif
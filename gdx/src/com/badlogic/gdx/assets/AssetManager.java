@@ -70,7 +70,13 @@ public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, RefCountedContainer>> assets = new ObjectMap();
 	final ObjectMap<String, Class> assetTypes = new ObjectMap();
 	final ObjectMap<String, Array<String>> assetDependencies = new ObjectMap();
+	final ObjectMap<String, AssetDescriptor> assetDescriptors = new ObjectMap();
 	final ObjectSet<String> injected = new ObjectSet();
+	/** The dependencies recorded by {@link #load(AssetManifest)} for queued assets, handed to the task that loads the asset. */
+	final ObjectMap<String, Array<AssetDescriptor>> manifestDependencies = new ObjectMap();
+	/** The dependencies queued by {@link #load(AssetManifest)} whose reference is taken over by the queued asset that needs them
+	 * first, handed to the task that loads that asset. */
+	final ObjectMap<String, Array<String>> preloadedDependencies = new ObjectMap();
 
 	final ObjectMap<Class, ObjectMap<String, AssetLoader>> loaders = new ObjectMap();
 	final Array<AssetDescriptor> loadQueue = new Array();
@@ -85,6 +91,7 @@ public class AssetManager implements Disposable {
 	final FileHandleResolver resolver;
 
 	Logger log = new Logger("AssetManager", Application.LOG_NONE);
+	@Null AssetProfiler profiler;
 
 	/** Creates a new AssetManager with all default loaders. */
 	public AssetManager () {
@@ -266,6 +273,7 @@ public class AssetManager implements Disposable {
 
 			// remove the asset from the manager.
 			assetTypes.remove(fileName);
+			assetDescriptors.remove(fileName);
 			assets.get(type).remove(fileName);
 		} else
 			log.info("Unload (decrement): " + fileName);
@@ -400,6 +408,7 @@ public class AssetManager implements Disposable {
 		toLoad++;
 		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter);
 		loadQueue.add(assetDesc);
+		if (profiler != null) profiler.queued(fileName);
 		log.debug("Queued: " + assetDesc);
 	}
 
@@ -409,6 +418,50 @@ public class AssetManager implements Disposable {
 		load(desc.fileName, desc.type, desc.params);
 	}
 
+	/** Adds all assets in the manifest to the loading queue, dependencies first. Loaders that don't
+	 * {@link AssetLoader#requiresGetDependencies() require} getDependencies get the dependencies recorded in the manifest
+	 * instead. An asset that is only in the manifest as a {@link AssetManifest.Entry#dependency dependency} of other assets
+	 * doesn't keep an extra reference: the first asset in the manifest that depends on it takes over the reference from queuing
+	 * it, so unloading the assets that aren't dependencies unloads everything, as when the manifest wasn't used. */
+	public synchronized void load (AssetManifest manifest) {
+		Array<AssetManifest.Entry> entries = manifest.getEntries();
+		for (int i = 0, n = entries.size; i < n; i++) {
+			AssetManifest.Entry entry = entries.get(i);
+			load(entry.fileName, entry.type, entry.params);
+
+			Array<AssetDescriptor> dependencies = getDependencies(manifest, entry);
+			if (dependencies != null) manifestDependencies.put(entry.fileName, dependencies);
+
+			if (entry.dependency) {
+				for (int ii = i + 1; ii < n; ii++) {
+					AssetManifest.Entry dependent = entries.get(ii);
+					if (dependent.dependencies == null || !dependent.dependencies.contains(entry.fileName, false)) continue;
+					Array<String> preloaded = preloadedDependencies.get(dependent.fileName);
+					if (preloaded == null) {
+						preloaded = new Array();
+						preloadedDependencies.put(dependent.fileName, preloaded);
+					}
+					preloaded.add(entry.fileName);
+					break;
+				}
+			}
+		}
+	}
+
+	/** Returns the dependencies of the entry with the types and parameters of their entries, or null if a dependency is not in
+	 * the manifest. */
+	private @Null Array<AssetDescriptor> getDependencies (AssetManifest manifest, AssetManifest.Entry entry) {
+		Array<AssetDescriptor> dependencies = new Array();
+		if (entry.dependencies != null) {
+			for (String fileName : entry.dependencies) {
+				AssetManifest.Entry dependency = manifest.getEntry(fileName);
+				if (dependency == null) return null;
+				dependencies.add(new AssetDescriptor(fileName, dependency.type, dependency.params));
+			}
+		}
+		return dependencies;
+	}
+
 	/** Updates the AssetManager for a single task. Returns if the current task is still being processed or there are no tasks,
 	 * otherwise it finishes the current task and starts the next task.
 	 * @return true if all loading is finished. */
@@ -486,17 +539,21 @@ public class AssetManager implements Disposable {
 		}
 	}
 
-	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
+	/** @param preloaded the dependencies queued by {@link #load(AssetManifest)} whose reference the parent asset takes over, or
+	 *           null. */
+	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs,
+		@Null Array<String> preloaded) {
 		ObjectSet<String> injected = this.injected;
 		for (AssetDescriptor desc : dependendAssetDescs) {
 			if (injected.contains(desc.fileName)) continue; // Ignore subsequent dependencies if there are duplicates.
 			injected.add(desc.fileName);
-			injectDependency(parentAssetFilename, desc);
+			injectDependency(parentAssetFilename, desc, preloaded);
 		}
 		injected.clear(32);
 	}
 
-	private synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
+	private synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc,
+		@Null Array<String> preloaded) {
 		// add the asset as a dependency of the parent asset
 		Array<String> dependencies = assetDependencies.get(parentAssetFilename);
 		if (dependencies == null) {
@@ -505,6 +562,13 @@ public class AssetManager implements Disposable {
 		}
 		dependencies.add(dependendAssetDesc.fileName);
 
+		// if the asset was queued from a manifest as a dependency, take over the reference from queuing it.
+		if (preloaded != null && isLoaded(dependendAssetDesc.fileName)
+			&& preloaded.removeValue(dependendAssetDesc.fileName, false)) {
+			log.debug("Dependency preloaded: " + dependendAssetDesc);
+			return;
+		}
+
 		// if the asset is already loaded, increase its reference count.
 		if (isLoaded(dependendAssetDesc.fileName)) {
 			log.debug("Dependency already loaded: " + dependendAssetDesc);
@@ -515,7 +579,7 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			addTask(dependendAssetDesc, true);
 		}
 	}
 
@@ -531,24 +595,40 @@ public class AssetManager implements Disposable {
 			RefCountedContainer assetRef = assets.get(type).get(assetDesc.fileName);
 			assetRef.refCount++;
 			incrementRefCountedDependencies(assetDesc.fileName);
+			// the dependencies got a reference from the line above, release the one from queuing them from a manifest.
+			manifestDependencies.remove(assetDesc.fileName);
+			releasePreloadedDependencies(preloadedDependencies.remove(assetDesc.fileName));
 			if (assetDesc.params != null && assetDesc.params.loadedCallback != null)
 				assetDesc.params.loadedCallback.finishedLoading(this, assetDesc.fileName, assetDesc.type);
 			loaded++;
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			addTask(assetDesc, false);
 		}
 	}
 
 	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset. */
-	private void addTask (AssetDescriptor assetDesc) {
+	private void addTask (AssetDescriptor assetDesc, boolean dependency) {
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
-		tasks.add(new AssetLoadingTask(this, assetDesc, loader, executor));
+		AssetLoadingTask task = new AssetLoadingTask(this, assetDesc, loader, executor);
+		task.manifestDependencies = manifestDependencies.remove(assetDesc.fileName);
+		task.preloadedDependencies = preloadedDependencies.remove(assetDesc.fileName);
+		if (profiler != null) task.timing = profiler.start(assetDesc, loader, dependency);
+		tasks.add(task);
 		peakTasks++;
 	}
 
+	/** Releases the references from queuing dependencies from a manifest that the asset didn't take over, because it didn't
+	 * depend on them anymore or was already loaded. */
+	private void releasePreloadedDependencies (@Null Array<String> preloaded) {
+		if (preloaded == null) return;
+		for (String fileName : preloaded)
+			if (isLoaded(fileName)) unload(fileName);
+		preloaded.clear();
+	}
+
 	/** Adds an asset to this AssetManager */
 	protected <T> void addAsset (final String fileName, Class<T> type, T asset) {
 		// add the asset to the filename lookup
@@ -590,6 +670,9 @@ public class AssetManager implements Disposable {
 			if (task.cancel) return true;
 
 			addAsset(task.assetDesc.fileName, task.assetDesc.type, task.asset);
+			assetDescriptors.put(task.assetDesc.fileName, task.assetDesc);
+			releasePreloadedDependencies(task.preloadedDependencies);
+			if (task.timing != null) endTiming(task);
 
 			// otherwise, if a listener was found in the parameter invoke it
 			if (task.assetDesc.params != null && task.assetDesc.params.loadedCallback != null)
@@ -603,6 +686,14 @@ public class AssetManager implements Disposable {
 		return false;
 	}
 
+	private void endTiming (AssetLoadingTask task) {
+		task.timing.endTime = TimeUtils.nanoTime();
+		try {
+			if (task.assetDesc.file != null) task.timing.bytes = task.assetDesc.file.length();
+		} catch (RuntimeException ignored) { // The loader may not use a file.
+		}
+	}
+
 	/** Called when a task throws an exception during loading. The default implementation rethrows the exception. A subclass may
 	 * supress the default implementation when loading assets where loading failure is recoverable. */
 	protected void taskFailed (AssetDescriptor assetDesc, RuntimeException ex) {
@@ -735,6 +826,9 @@ public class AssetManager implements Disposable {
 			this.assets.clear(51);
 			this.assetTypes.clear(51);
 			this.assetDependencies.clear(51);
+			this.assetDescriptors.clear(51);
+			this.manifestDependencies.clear(51);
+			this.preloadedDependencies.clear(51);
 			this.loaded = 0;
 			this.toLoad = 0;
 			this.peakTasks = 0;
@@ -752,6 +846,16 @@ public class AssetManager implements Disposable {
 		log = logger;
 	}
 
+	/** Sets the profiler that records the loading timings of assets queued after this call, or null to stop profiling.
+	 * @see AssetProfiler#writeChromeTrace(java.io.Writer) */
+	public synchronized void setProfiler (@Null AssetProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	public synchronized @Null AssetProfiler getProfiler () {
+		return profiler;
+	}
+
 	/** Returns the reference count of an asset.
 	 * @param fileName */
 	public synchronized int getReferenceCount (String fileName) {
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.assets;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+/** The assets loaded by an {@link AssetManager}, with their types, parameters and resolved dependencies. A manifest can be
+ * recorded after a run with {@link #add(AssetManager)}, saved with {@link #write(FileHandle)} and passed to
+ * {@link AssetManager#load(AssetManifest)} on the next run.
+ * <p>
+ * The entries are ordered so that each asset comes after its dependencies. When loading a manifest, dependencies are queued as
+ * regular assets ahead of the assets that need them, so each asset's loader finds its dependencies already loaded instead of the
+ * manager discovering them one asset at a time. The reference counts are the same as if only the assets that were loaded directly
+ * had been queued.
+ * <p>
+ * Parameters are written using {@link Json}, so they should only contain data fields. The
+ * {@link AssetLoaderParameters#loadedCallback} is not written. */
+public class AssetManifest implements Json.Serializable {
+	final Array<Entry> entries = new Array();
+	final ObjectMap<String, Entry> entriesByName = new ObjectMap();
+
+	/** Adds all assets currently loaded by the manager, and the dependencies between them. Assets already in this manifest are
+	 * skipped. */
+	public void add (AssetManager manager) {
+		synchronized (manager) {
+			ObjectSet<String> visiting = new ObjectSet();
+			for (String fileName : manager.assetTypes.keys())
+				add(manager, fileName, visiting);
+		}
+	}
+
+	private void add (AssetManager manager, String fileName, ObjectSet<String> visiting) {
+		if (entriesByName.containsKey(fileName) || !visiting.add(fileName)) return;
+		Array<String> dependencies = manager.assetDependencies.get(fileName);
+		if (dependencies != null) {
+			for (String dependency : dependencies)
+				if (manager.isLoaded(dependency)) add(manager, dependency, visiting);
+		}
+		AssetDescriptor assetDesc = manager.assetDescriptors.get(fileName);
+		Entry entry = new Entry();
+		entry.fileName = fileName;
+		entry.type = manager.assetTypes.get(fileName);
+		entry.params = assetDesc != null ? assetDesc.params : null;
+		if (dependencies != null) entry.dependencies = new Array(dependencies);
+		entry.dependency = isDependencyOnly(manager, fileName);
+		add(entry);
+	}
+
+	/** Returns true if all references to the asset come from assets that depend on it. Loading an asset that depends on it
+	 * increments its reference count once for each reference of the dependent asset, the rest are from loading it directly. */
+	private boolean isDependencyOnly (AssetManager manager, String fileName) {
+		int dependentRefs = 0;
+		for (ObjectMap.Entry<String, Array<String>> entry : manager.assetDependencies) {
+			if (entry.value.contains(fileName, false) && manager.isLoaded(entry.key))
+				dependentRefs += manager.getReferenceCount(entry.key);
+		}
+		return dependentRefs > 0 && manager.getReferenceCount(fileName) <= dependentRefs;
+	}
+
+	/** Adds an entry. Its dependencies should have been added before it. */
+	public void add (Entry entry) {
+		if (entriesByName.containsKey(entry.fileName)) throw new GdxRuntimeException("Entry already added: " + entry.fileName);
+		entries.add(entry);
+		entriesByName.put(entry.fileName, entry);
+	}
+
+	/** Returns the entries, ordered so that dependencies come before the assets that need them. */
+	public Array<Entry> getEntries () {
+		return entries;
+	}
+
+	public @Null Entry getEntry (String fileName) {
+		return entriesByName.get(fileName);
+	}
+
+	public void clear () {
+		entries.clear();
+		entriesByName.clear();
+	}
+
+	public void write (FileHandle file) {
+		Json json = new Json(OutputType.json);
+		file.writeString(json.prettyPrint(this), false, "UTF-8");
+	}
+
+	static public AssetManifest read (FileHandle file) {
+		return new Json().fromJson(AssetManifest.class, file);
+	}
+
+	public void write (Json json) {
+		json.writeArrayStart("assets");
+		for (int i = 0, n = entries.size; i < n; i++) {
+			Entry entry = entries.get(i);
+			json.writeObjectStart();
+			json.writeValue("file", entry.fileName);
+			json.writeValue("type", entry.type.getName());
+			if (entry.params != null) {
+				AssetLoaderParameters.LoadedCallback callback = entry.params.loadedCallback;
+				entry.params.loadedCallback = null;
+				try {
+					json.writeValue("params", entry.params, null);
+				} finally {
+					entry.params.loadedCallback = callback;
+				}
+			}
+			if (entry.dependencies != null) json.writeValue("dependencies", entry.dependencies, Array.class, String.class);
+			if (entry.dependency) json.writeValue("dependency", true);
+			json.writeObjectEnd();
+		}
+		json.writeArrayEnd();
+	}
+
+	public void read (Json json, JsonValue jsonData) {
+		for (JsonValue value = jsonData.getChild("assets"); value != null; value = value.next) {
+			Entry entry = new Entry();
+			entry.fileName = value.getString("file");
+			String typeName = value.getString("type");
+			try {
+				entry.type = ClassReflection.forName(typeName);
+			} catch (ReflectionException ex) {
+				throw new GdxRuntimeException("Unknown asset type: " + typeName, ex);
+			}
+			entry.params = json.readValue("params", AssetLoaderParameters.class, value);
+			entry.dependencies = json.readValue("dependencies", Array.class, String.class, value);
+			entry.dependency = value.getBoolean("dependency", false);
+			add(entry);
+		}
+	}
+
+	static public class Entry {
+		public String fileName;
+		public Class type;
+		public @Null AssetLoaderParameters params;
+		/** The file names of the assets this asset depends on, or null. */
+		public @Null Array<String> dependencies;
+		/** True if the asset was only loaded as a dependency of other assets, not directly. */
+		public boolean dependency;
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.assets;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+
+/** Records how long each asset loaded by an {@link AssetManager} spent in each loading phase. Set it with
+ * {@link AssetManager#setProfiler(AssetProfiler)} before queuing assets. The timings can be exported in the Chrome trace event
+ * format with {@link #writeChromeTrace(Writer)}, which can be opened with chrome://tracing or https://ui.perfetto.dev.
+ * <p>
+ * All times are in nanoseconds, relative to {@link TimeUtils#nanoTime()}. */
+public class AssetProfiler {
+	final ObjectLongMap<String> queueTimes = new ObjectLongMap();
+	final Array<AssetTiming> timings = new Array();
+	long startTime = TimeUtils.nanoTime();
+
+	synchronized void queued (String fileName) {
+		if (!queueTimes.containsKey(fileName)) queueTimes.put(fileName, TimeUtils.nanoTime());
+	}
+
+	synchronized AssetTiming start (AssetDescriptor assetDesc, AssetLoader loader, boolean dependency) {
+		AssetTiming timing = new AssetTiming();
+		timing.fileName = assetDesc.fileName;
+		timing.type = assetDesc.type;
+		timing.loaderType = loader.getClass();
+		timing.dependency = dependency;
+		timing.startTime = TimeUtils.nanoTime();
+		timing.queuedTime = queueTimes.remove(assetDesc.fileName, timing.startTime);
+		timings.add(timing);
+		return timing;
+	}
+
+	/** Returns the timings of all assets that started loading since the last {@link #clear()}, in the order they started. The
+	 * timings of assets still loading are incomplete. */
+	public synchronized Array<AssetTiming> getTimings () {
+		return new Array(timings);
+	}
+
+	/** Removes all timings and makes the time when this method is called the start of the trace. */
+	public synchronized void clear () {
+		queueTimes.clear();
+		timings.clear();
+		startTime = TimeUtils.nanoTime();
+	}
+
+	/** Returns the timings as a Chrome trace event JSON string.
+	 * @see #writeChromeTrace(Writer) */
+	public String toChromeTrace () {
+		StringWriter writer = new StringWriter(256 + timings.size * 512);
+		try {
+			writeChromeTrace(writer);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		return writer.toString();
+	}
+
+	/** Writes the timings as a Chrome trace event JSON file.
+	 * @see #writeChromeTrace(Writer) */
+	public void writeChromeTrace (FileHandle file) {
+		Writer writer = file.writer(false, "UTF-8");
+		try {
+			writeChromeTrace(writer);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error writing trace file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(writer);
+		}
+	}
+
+	/** Writes the timings in the Chrome trace event format. Each thread that did loading work gets a row with one event each for
+	 * the dependencies, async and sync phases of an asset. The time an asset waited in the queue before its task was created is
+	 * written as an async "queued" event, since those overlap. The writer is not closed. */
+	public synchronized void writeChromeTrace (Writer writer) throws IOException {
+		ObjectIntMap<String> threadIds = new ObjectIntMap();
+		JsonWriter json = new JsonWriter(writer);
+		json.object().array("traceEvents");
+		for (int i = 0, n = timings.size; i < n; i++) {
+			AssetTiming timing = timings.get(i);
+			if (timing.startTime > timing.queuedTime) {
+				writeQueuedEvent(json, timing, i, "b", timing.queuedTime);
+				writeQueuedEvent(json, timing, i, "e", timing.startTime);
+			}
+			writeEvent(json, timing, "getDependencies", timing.dependenciesStart, timing.dependenciesEnd, timing.dependenciesThread,
+				threadIds);
+			writeEvent(json, timing, "loadAsync", timing.asyncStart, timing.asyncEnd, timing.asyncThread, threadIds);
+			writeEvent(json, timing, "loadSync", timing.syncStart, timing.syncEnd, timing.syncThread, threadIds);
+		}
+		for (ObjectIntMap.Entry<String> entry : threadIds) {
+			json.object();
+			json.set("name", "thread_name");
+			json.set("ph", "M");
+			json.set("pid", 1);
+			json.set("tid", entry.value);
+			json.object("args").set("name", entry.key).pop();
+			json.pop();
+		}
+		json.pop();
+		json.set("displayTimeUnit", "ms");
+		json.pop();
+		json.flush();
+	}
+
+	private void writeQueuedEvent (JsonWriter json, AssetTiming timing, int id, String ph, long time) throws IOException {
+		json.object();
+		json.set("name", timing.fileName);
+		json.set("cat", "queued");
+		json.set("ph", ph);
+		json.set("id", id);
+		json.set("ts", (time - startTime) / 1000d);
+		json.set("pid", 1);
+		json.set("tid", 0);
+		json.pop();
+	}
+
+	private void writeEvent (JsonWriter json, AssetTiming timing, String phase, long start, long end, @Null String thread,
+		ObjectIntMap<String> threadIds) throws IOException {
+		if (start == 0 || end < start || thread == null) return;
+		int tid = threadIds.get(thread, -1);
+		if (tid == -1) {
+			tid = threadIds.size + 1;
+			threadIds.put(thread, tid);
+		}
+		json.object();
+		json.set("name", timing.fileName);
+		json.set("cat", phase);
+		json.set("ph", "X");
+		json.set("ts", (start - startTime) / 1000d);
+		json.set("dur", (end - start) / 1000d);
+		json.set("pid", 1);
+		json.set("tid", tid);
+		json.object("args");
+		json.set("phase", phase);
+		json.set("type", ClassReflection.getSimpleName(timing.type));
+		json.set("loader", ClassReflection.getSimpleName(timing.loaderType));
+		json.set("bytes", timing.bytes);
+		json.set("dependency", timing.dependency);
+		json.pop();
+		json.pop();
+	}
+
+	/** The loading timings of a single asset. A phase's start and end times are zero if the phase did not happen, eg for
+	 * synchronous loaders there is no async phase. */
+	static public class AssetTiming {
+		public String fileName;
+		public Class type;
+		public Class loaderType;
+		/** True if the asset was loaded as a dependency of another asset rather than queued with {@link AssetManager#load}. */
+		public boolean dependency;
+		/** The size of the asset's file, or 0 if unknown. Files loaded by the loader for the asset other than its own file and its
+		 * dependencies are not included. */
+		public long bytes;
+		/** When the asset was queued and when its loading task was created. */
+		public long queuedTime, startTime, endTime;
+		public long dependenciesStart, dependenciesEnd, asyncStart, asyncEnd, syncStart, syncEnd;
+		/** The names of the threads the phases ran on, or null if the phase did not happen. */
+		public @Null String dependenciesThread, asyncThread, syncThread;
+
+		public long getQueueWait () {
+			return startTime - queuedTime;
+		}
+
+		public long getDependenciesTime () {
+			return dependenciesEnd - dependenciesStart;
+		}
+
+		public long getAsyncTime () {
+			return asyncEnd - asyncStart;
+		}
+
+		public long getSyncTime () {
+			return syncEnd - syncStart;
+		}
+
+		/** Returns the time from the task being created until the asset was loaded, including waiting for dependencies. */
+		public long getTotalTime () {
+			return endTime - startTime;
+		}
+
+		public String toString () {
+			return fileName + ", " + ClassReflection.getSimpleName(type) + ", queued: " + getQueueWait() / 1000000f + "ms, deps: "
+				+ getDependenciesTime() / 1000000f + "ms, async: " + getAsyncTime() / 1000000f + "ms, sync: " + getSyncTime() / 1000000f
+				+ "ms, total: " + getTotalTime() / 1000000f + "ms, bytes: " + bytes;
+		}
+	}
+}
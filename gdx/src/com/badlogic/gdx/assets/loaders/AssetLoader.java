@@ -48,4 +48,12 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 	 * @param parameter parameters for loading the asset
 	 * @return other assets that the asset depends on and need to be loaded first or null if there are no dependencies. */
 	public abstract Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, P parameter);
+
+	/** Returns false if the asset can be loaded without {@link #getDependencies(String, FileHandle, AssetLoaderParameters)}
+	 * being called first. {@link com.badlogic.gdx.assets.AssetManager#load(com.badlogic.gdx.assets.AssetManifest)} then uses
+	 * the dependencies recorded in the manifest instead of calling it. Loaders that keep state from getDependencies to load the
+	 * asset must return true, the default. */
+	public boolean requiresGetDependencies () {
+		return true;
+	}
 }
@@ -41,10 +41,13 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 	}
 
 	BitmapFontData data;
+	/** The file name of the asset {@link #data} was read for, a loader is shared by all tasks. */
+	String dataFileName;
 
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, BitmapFontParameter parameter) {
 		Array<AssetDescriptor> deps = new Array();
+		dataFileName = fileName;
 		if (parameter != null && parameter.bitmapFontData != null) {
 			data = parameter.bitmapFontData;
 			return deps;
@@ -76,10 +79,20 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+		// getDependencies may have been called for another font whose loading didn't complete.
+		if (data != null && fileName.equals(dataFileName)) return;
+		dataFileName = fileName;
+		if (parameter != null && parameter.bitmapFontData != null)
+			data = parameter.bitmapFontData;
+		else
+			data = new BitmapFontData(file, parameter != null && parameter.flip);
 	}
 
 	@Override
 	public BitmapFont loadSync (AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+		BitmapFontData data = this.data;
+		this.data = null;
+		dataFileName = null;
 		if (parameter != null && parameter.atlasName != null) {
 			TextureAtlas atlas = manager.get(parameter.atlasName, TextureAtlas.class);
 			String name = file.sibling(data.imagePaths[0]).nameWithoutExtension().toString();
@@ -98,6 +111,13 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 		}
 	}
 
+	/** Returns false, the font file is read by {@link #loadAsync(AssetManager, String, FileHandle, BitmapFontParameter)} if
+	 * {@link #getDependencies(String, FileHandle, BitmapFontParameter)} wasn't called for it. */
+	@Override
+	public boolean requiresGetDependencies () {
+		return false;
+	}
+
 	/** Parameter to be passed to {@link AssetManager#load(String, Class, AssetLoaderParameters)} if additional configuration is
 	 * necessary for the {@link BitmapFont}.
 	 * @author mzechner */
@@ -96,6 +96,19 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, P parameters) {
+		// The model data is loaded by getDependencies, unless it wasn't called.
+		synchronized (items) {
+			for (int i = 0; i < items.size; i++)
+				if (items.get(i).key.equals(fileName)) return;
+		}
+		ModelData data = loadModelData(file, parameters);
+		if (data == null) return;
+		ObjectMap.Entry<String, ModelData> item = new ObjectMap.Entry<String, ModelData>();
+		item.key = fileName;
+		item.value = data;
+		synchronized (items) {
+			items.add(item);
+		}
 	}
 
 	@Override
@@ -123,6 +136,13 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		return result;
 	}
 
+	/** Returns false, the model file is read by {@link #loadAsync(AssetManager, String, FileHandle, ModelParameters)} if
+	 * {@link #getDependencies(String, FileHandle, ModelParameters)} wasn't called. */
+	@Override
+	public boolean requiresGetDependencies () {
+		return false;
+	}
+
 	static public class ModelParameters extends AssetLoaderParameters<Model> {
 		public TextureLoader.TextureParameter textureParameter;
 
@@ -49,6 +49,12 @@ public class SkinLoader extends AsynchronousAssetLoader<Skin, SkinLoader.SkinPar
 		return deps;
 	}
 
+	/** Returns false, the dependencies are only computed from the parameters. */
+	@Override
+	public boolean requiresGetDependencies () {
+		return false;
+	}
+
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, SkinParameter parameter) {
 	}
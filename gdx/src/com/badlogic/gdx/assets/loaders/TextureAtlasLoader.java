@@ -29,7 +29,7 @@ import com.badlogic.gdx.utils.Array;
 
 /** {@link AssetLoader} to load {@link TextureAtlas} instances. Passing a {@link TextureAtlasParameter} to
  * {@link AssetManager#load(String, Class, AssetLoaderParameters)} allows to specify whether the atlas regions should be flipped
- * on the y-axis or not.
+ * on the y-axis or not. Both text and binary atlas files are supported, see {@link TextureAtlasData#isBinary(FileHandle)}.
  * @author mzechner */
 public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasLoader.TextureAtlasParameter> {
 	public TextureAtlasLoader (FileHandleResolver resolver) {
@@ -37,9 +37,14 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 	}
 
 	TextureAtlasData data;
+	/** The file name of the asset {@link #data} was read for, a loader is shared by all tasks. */
+	String dataFileName;
 
 	@Override
 	public TextureAtlas load (AssetManager assetManager, String fileName, FileHandle file, TextureAtlasParameter parameter) {
+		// getDependencies may have been called for another atlas whose loading didn't complete.
+		if (data == null || !fileName.equals(dataFileName))
+			data = new TextureAtlasData(file, file.parent(), parameter != null && parameter.flip);
 		for (Page page : data.getPages()) {
 			Texture texture = assetManager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
 			page.texture = texture;
@@ -47,6 +52,7 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 
 		TextureAtlas atlas = new TextureAtlas(data);
 		data = null;
+		dataFileName = null;
 		return atlas;
 	}
 
@@ -59,6 +65,7 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 		else {
 			data = new TextureAtlasData(atlasFile, imgDir, false);
 		}
+		dataFileName = fileName;
 
 		Array<AssetDescriptor> dependencies = new Array();
 		for (Page page : data.getPages()) {
@@ -72,6 +79,13 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 		return dependencies;
 	}
 
+	/** Returns false, the atlas file is read when loading if {@link #getDependencies(String, FileHandle, TextureAtlasParameter)}
+	 * wasn't called for it. */
+	@Override
+	public boolean requiresGetDependencies () {
+		return false;
+	}
+
 	static public class TextureAtlasParameter extends AssetLoaderParameters<TextureAtlas> {
 		/** whether to flip the texture atlas vertically **/
 		public boolean flip = false;
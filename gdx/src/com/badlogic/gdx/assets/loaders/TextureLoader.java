@@ -27,7 +27,9 @@ import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.utils.Array;
 
-/** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture is then created on the
+/** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously, including conversion to the
+ * requested format and, when {@link com.badlogic.gdx.graphics.glutils.MipMapGenerator#setUseHardwareMipMap(boolean) hardware
+ * mipmaps} are disabled, generation of the mipmap chain. The texture is then created and the prepared data uploaded on the
  * rendering thread, synchronously. Passing a {@link TextureParameter} to
  * {@link AssetManager#load(String, Class, AssetLoaderParameters)} allows one to specify parameters as can be passed to the
  * various Texture constructors, e.g. filtering, whether to generate mipmaps and so on.
@@ -32,6 +32,7 @@ import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
 import com.badlogic.gdx.graphics.glutils.InstanceData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
@@ -70,7 +71,9 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com>, Xoppa */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO,
+		/** A {@link StreamingVertexBufferObject}, for vertices that are replaced every time the mesh is rendered. */
+		VertexBufferObjectStreaming
 	}
 
 	/** list of all meshes **/
@@ -184,6 +187,11 @@ public class Mesh implements Disposable {
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
 			break;
+		case VertexBufferObjectStreaming:
+			vertices = new StreamingVertexBufferObject(maxVertices, 4, attributes);
+			indices = new IndexBufferObject(isStatic, maxIndices);
+			isVertexArray = false;
+			break;
 		case VertexArray:
 		default:
 			vertices = new VertexArray(maxVertices, attributes);
@@ -320,6 +328,12 @@ public class Mesh implements Disposable {
 		return this.isInstanced;
 	}
 
+	/** @return Indicates whether the vertices and indices are stored in client memory, see {@link VertexDataType#VertexArray}.
+	 *         Instanced draw calls require buffer objects. */
+	public boolean isVertexArray () {
+		return this.isVertexArray;
+	}
+
 	/** Sets the vertices of this Mesh. The attributes are assumed to be given in float format.
 	 *
 	 * @param vertices the vertices.
@@ -990,6 +1004,7 @@ public class Mesh implements Disposable {
 		for (int i = 0; i < meshesArray.size; i++) {
 			meshesArray.get(i).vertices.invalidate();
 			meshesArray.get(i).indices.invalidate();
+			if (meshesArray.get(i).instances != null) meshesArray.get(i).instances.invalidate();
 		}
 	}
 
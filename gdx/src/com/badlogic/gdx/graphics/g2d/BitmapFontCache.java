@@ -25,6 +25,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.Pools;
 
@@ -40,6 +41,13 @@ public class BitmapFontCache {
 	private boolean integer;
 	private final Array<GlyphLayout> layouts = new Array(1);
 	private final Array<GlyphLayout> pooledLayouts = new Array(0);
+	private @Null GlyphLayoutCache layoutCache;
+
+	/** The layout set by {@link #updateText(CharSequence, float, float)}, or null if it can't be updated. */
+	private @Null GlyphLayout updateLayout;
+	private final StringBuilder updateText = new StringBuilder();
+	private float updateX, updateY, updateColor, updateScaleX, updateScaleY;
+	private boolean updateMarkupEnabled, updateInteger;
 	private int glyphCount;
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
@@ -303,6 +311,8 @@ public class BitmapFontCache {
 	public void clear () {
 		x = 0;
 		y = 0;
+		glyphCount = 0;
+		updateLayout = null;
 		Pools.freeAll(pooledLayouts, true);
 		pooledLayouts.clear();
 		layouts.clear();
@@ -486,6 +496,132 @@ public class BitmapFontCache {
 		addText(layout, x, y);
 	}
 
+	/** Clears any cached glyphs and adds glyphs for the specified text, like {@link #setText(CharSequence, float, float)}. If the
+	 * previous text was set with this method at the same position and is a single line, only the glyphs after the characters
+	 * both texts start with are laid out and written again. This is much faster for text that changes often at the end, such as
+	 * counters, timers or logs.
+	 * <p>
+	 * Unlike setText, the position set by {@link #setPosition(float, float)} or {@link #translate(float, float)} is kept, and
+	 * added glyphs use the color of the last unchanged glyph, which includes any {@link #tint(Color) tint} or
+	 * {@link #setColors(Color) colors} set on the cache.
+	 * @return The glyph layout for the cached string. It is updated by the next call and should not be modified. */
+	public GlyphLayout updateText (CharSequence str, float x, float y) {
+		int common = getUpdateCommon(str, x, y);
+		if (common > 0) {
+			// Count the glyphs for the common characters, some characters don't have a glyph.
+			BitmapFontData data = font.data;
+			int glyphIndex = 0;
+			for (int i = 0; i < common; i++) {
+				char ch = str.charAt(i);
+				if (ch != '\r' && (data.getGlyph(ch) != null || data.missingGlyph != null)) glyphIndex++;
+			}
+			if (glyphIndex > 0) {
+				updateGlyphs(str, common, glyphIndex);
+				return updateLayout;
+			}
+		}
+
+		clear();
+		GlyphLayout layout = Pools.obtain(GlyphLayout.class);
+		pooledLayouts.add(layout);
+		layout.setText(font, str, 0, str.length(), color, 0, Align.left, false, null);
+		addText(layout, x, y);
+
+		BitmapFontData data = font.data;
+		if (layout.runs.size == 1 && isUpdatable(str, 0, data)) {
+			updateLayout = layout;
+			updateText.setLength(0);
+			updateText.append(str);
+			updateX = x;
+			updateY = y;
+			updateColor = color.toFloatBits();
+			updateScaleX = data.scaleX;
+			updateScaleY = data.scaleY;
+			updateMarkupEnabled = data.markupEnabled;
+			updateInteger = integer;
+		}
+		return layout;
+	}
+
+	/** Returns the number of characters the text starts with that can be kept from the text set by
+	 * {@link #updateText(CharSequence, float, float)}, or 0 if the text must be set again. */
+	private int getUpdateCommon (CharSequence str, float x, float y) {
+		GlyphLayout layout = updateLayout;
+		if (layout == null || layouts.size != 1 || layouts.first() != layout) return 0;
+		BitmapFontData data = font.data;
+		if (x != updateX || y != updateY || color.toFloatBits() != updateColor || data.scaleX != updateScaleX
+			|| data.scaleY != updateScaleY || data.markupEnabled != updateMarkupEnabled || integer != updateInteger
+			|| pageVertices.length != font.regions.size) return 0;
+
+		StringBuilder updateText = this.updateText;
+		int common = 0, n = Math.min(str.length(), updateText.length());
+		while (common < n && str.charAt(common) == updateText.charAt(common))
+			common++;
+		return isUpdatable(str, common, data) ? common : 0;
+	}
+
+	/** Returns true if the text from start is on a single line and has no color markup. */
+	private boolean isUpdatable (CharSequence str, int start, BitmapFontData data) {
+		for (int i = start, n = str.length(); i < n; i++) {
+			char ch = str.charAt(i);
+			if (ch == '\n' || (ch == '[' && data.markupEnabled)) return false;
+		}
+		return true;
+	}
+
+	/** Replaces the glyphs after glyphIndex with the glyphs for the text after the common characters. */
+	private void updateGlyphs (CharSequence str, int common, int glyphIndex) {
+		// Remove the vertices of the glyphs being replaced.
+		if (pageGlyphIndices == null)
+			idx[0] = glyphIndex * 20;
+		else {
+			for (int i = 0, n = pageGlyphIndices.length; i < n; i++) {
+				IntArray glyphIndices = pageGlyphIndices[i];
+				int size = glyphIndices.size;
+				while (size > 0 && glyphIndices.items[size - 1] >= glyphIndex)
+					size--;
+				glyphIndices.size = size;
+				idx[i] = size * 20;
+			}
+		}
+		glyphCount = glyphIndex;
+
+		GlyphLayout layout = updateLayout;
+		GlyphRun run = layout.runs.first();
+		Glyph lastGlyph = run.glyphs.get(glyphIndex - 1);
+		float color = pageVertices[lastGlyph.page][idx[lastGlyph.page] - 18];
+
+		updateText.setLength(common);
+		updateText.append(str, common, str.length());
+		layout.replaceGlyphs(font, str, common, str.length(), glyphIndex);
+
+		// Ensure capacity for the new glyphs.
+		Object[] glyphs = run.glyphs.items;
+		int glyphCount = run.glyphs.size;
+		if (pageGlyphIndices == null)
+			requirePageGlyphs(0, glyphCount - glyphIndex);
+		else {
+			int[] tempGlyphCount = this.tempGlyphCount;
+			Arrays.fill(tempGlyphCount, 0);
+			for (int i = glyphIndex; i < glyphCount; i++)
+				tempGlyphCount[((Glyph)glyphs[i]).page]++;
+			for (int i = 0, n = tempGlyphCount.length; i < n; i++)
+				requirePageGlyphs(i, tempGlyphCount[i]);
+		}
+
+		// Sum the advances in the same order as addToCache, so the glyphs are at the same positions as if the text were set.
+		float[] xAdvances = run.xAdvances.items;
+		float gx = updateX + run.x, gy = updateY + font.data.ascent + run.y;
+		for (int i = 0; i < glyphIndex; i++)
+			gx += xAdvances[i];
+		gx += this.x;
+		gy += this.y;
+		for (int i = glyphIndex; i < glyphCount; i++) {
+			gx += xAdvances[i];
+			addGlyph((Glyph)glyphs[i], gx, gy, color);
+		}
+	}
+
 	/** Adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout addText (CharSequence str, float x, float y) {
@@ -515,12 +651,18 @@ public class BitmapFontCache {
 	 * @param wrap If true, the text will be wrapped within targetWidth.
 	 * @param truncate If not null, the text will be truncated within targetWidth with this string appended. May be an empty
 	 *           string.
-	 * @return The glyph layout for the cached string (the layout's height is the distance from y to the baseline). */
+	 * @return The glyph layout for the cached string (the layout's height is the distance from y to the baseline). If a
+	 *         {@link #setLayoutCache(GlyphLayoutCache) layout cache} is set, the layout is shared and must not be modified. */
 	public GlyphLayout addText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
 		boolean wrap, String truncate) {
-		GlyphLayout layout = Pools.obtain(GlyphLayout.class);
-		pooledLayouts.add(layout);
-		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		GlyphLayout layout;
+		if (layoutCache != null)
+			layout = layoutCache.get(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		else {
+			layout = Pools.obtain(GlyphLayout.class);
+			pooledLayouts.add(layout);
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		}
 		addText(layout, x, y);
 		return layout;
 	}
@@ -545,6 +687,17 @@ public class BitmapFontCache {
 		return font;
 	}
 
+	/** Sets the cache used to look up the layouts of text added to this cache, so text that was laid out before, by this or
+	 * another BitmapFontCache using the same layout cache, isn't laid out again.
+	 * @param layoutCache May be null to lay out all text. */
+	public void setLayoutCache (@Null GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+	}
+
+	public @Null GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** Specifies whether to use integer positions or not. Default is to use them so filtering doesn't kick in as badly.
 	 * @param use */
 	public void setUseIntegerPositions (boolean use) {
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Pool;
+
+/** DeferredSpriteBatch behaves like SpriteBatch, except that switching textures doesn't render the sprites drawn so far. They
+ * are recorded instead and rendered sorted by {@link #setLayer(int) layer} and texture on the next {@link #flush()}, so drawing
+ * from textures A, B, A, B in the same layer takes two render calls instead of four. Within a layer, sprites with the same
+ * texture keep their submission order, but sprites with different textures may be reordered, so this is for scenes where the
+ * order within a layer doesn't matter, or where overlapping sprites are put in different layers.
+ * <p>
+ * {@link #flush()} renders all recorded sprites, so it is called as usual by {@link #end()}, when the shader, blending or a
+ * matrix is changed, when the batch is full and before changing OpenGL state that affects drawing, such as the scissors.
+ * Sprites are only sorted between flushes.
+ * @see SpriteBatch#renderCalls */
+public class DeferredSpriteBatch extends SpriteBatch {
+	private final FloatArray commands = new FloatArray(1024);
+	private final Array<Run> runs = new Array();
+	private final Pool<Run> runPool = new Pool<Run>() {
+		protected Run newObject () {
+			return new Run();
+		}
+	};
+	private int layer;
+
+	/** Constructs a DeferredSpriteBatch with a size of 1000 and the default shader.
+	 * @see SpriteBatch#SpriteBatch() */
+	public DeferredSpriteBatch () {
+		this(1000);
+	}
+
+	/** Constructs a DeferredSpriteBatch with the default shader.
+	 * @see SpriteBatch#SpriteBatch(int) */
+	public DeferredSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a DeferredSpriteBatch with a custom shader.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram) */
+	public DeferredSpriteBatch (int size, ShaderProgram defaultShader) {
+		super(size, defaultShader);
+	}
+
+	/** Sets the layer for subsequent draws. Lower layers are drawn first. */
+	public void setLayer (int layer) {
+		if (layer == this.layer) return;
+		record();
+		this.layer = layer;
+	}
+
+	public int getLayer () {
+		return layer;
+	}
+
+	@Override
+	public void end () {
+		flush();
+		super.end();
+	}
+
+	/** Renders the recorded sprites sorted by layer and texture, then the sprites drawn since the last texture switch. */
+	@Override
+	public void flush () {
+		if (runs.size == 0) {
+			super.flush();
+			return;
+		}
+		record();
+
+		Texture texture = lastTexture;
+		runs.sort(runComparator);
+		float[] commands = this.commands.items, vertices = this.vertices;
+		for (int i = 0, n = runs.size; i < n; i++) {
+			Run run = runs.get(i);
+			if (run.texture != lastTexture) {
+				super.flush();
+				lastTexture = run.texture;
+			}
+			for (int offset = run.start, count = run.count; count > 0;) {
+				if (idx == vertices.length) super.flush();
+				int copyCount = Math.min(vertices.length - idx, count);
+				System.arraycopy(commands, offset, vertices, idx, copyCount);
+				idx += copyCount;
+				offset += copyCount;
+				count -= copyCount;
+			}
+		}
+		super.flush();
+		lastTexture = texture;
+
+		runPool.freeAll(runs);
+		runs.clear();
+		this.commands.clear();
+	}
+
+	/** Records the sprites drawn with the previous texture instead of rendering them. */
+	@Override
+	protected void switchTexture (Texture texture) {
+		record();
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	/** Moves the sprites drawn since the last texture switch to the recorded sprites. */
+	private void record () {
+		if (idx == 0) return;
+		// Extend the previous run if the layer and texture are the same.
+		Run run = runs.size > 0 ? runs.peek() : null;
+		if (run == null || run.layer != layer || run.texture != lastTexture) {
+			run = runPool.obtain();
+			run.layer = layer;
+			run.texture = lastTexture;
+			run.start = commands.size;
+			runs.add(run);
+		}
+		commands.addAll(vertices, 0, idx);
+		run.count += idx;
+		idx = 0;
+	}
+
+	private final Comparator<Run> runComparator = new Comparator<Run>() {
+		public int compare (Run a, Run b) {
+			if (a.layer != b.layer) return a.layer < b.layer ? -1 : 1;
+			int handleA = a.texture.getTextureObjectHandle(), handleB = b.texture.getTextureObjectHandle();
+			return handleA == handleB ? 0 : handleA < handleB ? -1 : 1;
+		}
+	};
+
+	/** Sprites recorded with the same layer and texture, stored in {@link DeferredSpriteBatch#commands}. */
+	static class Run implements Pool.Poolable {
+		int layer;
+		Texture texture;
+		int start, count;
+
+		public void reset () {
+			texture = null;
+			count = 0;
+		}
+	}
+}
@@ -271,6 +271,22 @@ public class GlyphLayout implements Poolable {
 		if (markupEnabled) colorStack.clear();
 	}
 
+	/** Replaces the glyphs after the first glyphIndex glyphs of a single line layout with the glyphs for the specified characters,
+	 * so the first glyphs don't need to be laid out again. The layout must have been set with no alignment, wrapping, truncation or
+	 * color markup, and the characters before start must produce the first glyphIndex glyphs.
+	 * @param glyphIndex Must be > 0 and <= {@link #glyphCount}. */
+	void replaceGlyphs (BitmapFont font, CharSequence str, int start, int end, int glyphIndex) {
+		BitmapFontData fontData = font.data;
+		GlyphRun run = runs.first();
+		run.glyphs.truncate(glyphIndex);
+		run.xAdvances.size = glyphIndex;
+		fontData.getGlyphs(run, str, start, end, run.glyphs.peek());
+		if (run.xAdvances.size == glyphIndex) run.xAdvances.add(0); // No glyphs were added, the last glyph's width is set below.
+		setLastGlyphXAdvance(fontData, run);
+		glyphCount = run.glyphs.size;
+		calculateWidths(fontData);
+	}
+
 	/** Calculate run widths and the entire layout width. */
 	private void calculateWidths (BitmapFontData fontData) {
 		float width = 0;
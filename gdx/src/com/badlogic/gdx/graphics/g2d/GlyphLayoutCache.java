@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Caches {@link GlyphLayout GlyphLayouts} so text that is laid out repeatedly, such as every frame or by many widgets, is only
+ * laid out once. Layouts are looked up by font, text, color, target width, alignment, wrap and truncate, and by the font's scale
+ * and {@link BitmapFontData#markupEnabled markup} setting. When the cache is full, the least recently used layout is removed.
+ * <p>
+ * The returned layouts are shared and must not be modified. A removed layout is not reused, so it stays valid for anything still
+ * referencing it, such as a {@link BitmapFontCache}. Call {@link #clear()} if the glyphs of a font are changed.
+ * <p>
+ * GlyphLayoutCache is not thread safe.
+ * @see BitmapFontCache#setLayoutCache(GlyphLayoutCache) */
+public class GlyphLayoutCache {
+	private final ObjectMap<Key, Key> entries;
+	private final Key lookup = new Key();
+	private int maxSize;
+	/** The least and most recently used entries. */
+	private @Null Key head, tail;
+
+	/** Number of lookups that found a cached layout. Will not be reset unless set manually. */
+	public int hits;
+	/** Number of lookups that had to lay out the text. Will not be reset unless set manually. */
+	public int misses;
+
+	/** Creates a cache that holds up to 512 layouts. */
+	public GlyphLayoutCache () {
+		this(512);
+	}
+
+	/** @param maxSize The maximum number of layouts to keep. */
+	public GlyphLayoutCache (int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be > 0: " + maxSize);
+		this.maxSize = maxSize;
+		entries = new ObjectMap(maxSize);
+	}
+
+	/** Returns a layout for the whole string, the font's current color, and no alignment or wrapping.
+	 * @see #get(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public GlyphLayout get (BitmapFont font, CharSequence str) {
+		return get(font, str, 0, str.length(), font.getColor(), 0, Align.left, false, null);
+	}
+
+	/** Returns a layout for the whole string and no truncation.
+	 * @see #get(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public GlyphLayout get (BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+		return get(font, str, 0, str.length(), color, targetWidth, halign, wrap, null);
+	}
+
+	/** Returns a cached layout, or lays out the text and caches it. The parameters are the same as for
+	 * {@link GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)}.
+	 * @return A shared layout that must not be modified. */
+	public GlyphLayout get (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth, int halign,
+		boolean wrap, @Null String truncate) {
+		Key lookup = this.lookup;
+		lookup.set(font, str, start, end, color.toIntBits(), targetWidth, halign, wrap, truncate);
+		Key entry = entries.get(lookup);
+		lookup.font = null;
+		lookup.text = null;
+		if (entry != null) {
+			hits++;
+			if (entry != tail) {
+				unlink(entry);
+				link(entry);
+			}
+			return entry.layout;
+		}
+
+		misses++;
+		if (entries.size >= maxSize) {
+			Key eldest = head;
+			unlink(eldest);
+			entries.remove(eldest);
+		}
+		entry = new Key();
+		entry.set(font, str.subSequence(start, end).toString(), 0, end - start, lookup.color, targetWidth, halign, wrap, truncate);
+		entry.layout = new GlyphLayout();
+		entry.layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		entries.put(entry, entry);
+		link(entry);
+		return entry.layout;
+	}
+
+	private void link (Key entry) {
+		entry.previous = tail;
+		entry.next = null;
+		if (tail != null)
+			tail.next = entry;
+		else
+			head = entry;
+		tail = entry;
+	}
+
+	private void unlink (Key entry) {
+		if (entry.previous != null)
+			entry.previous.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.previous = entry.previous;
+		else
+			tail = entry.previous;
+		entry.previous = null;
+		entry.next = null;
+	}
+
+	/** Sets the maximum number of layouts to keep, removing the least recently used layouts if needed. */
+	public void setMaxSize (int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be > 0: " + maxSize);
+		this.maxSize = maxSize;
+		while (entries.size > maxSize) {
+			Key eldest = head;
+			unlink(eldest);
+			entries.remove(eldest);
+		}
+	}
+
+	public int getMaxSize () {
+		return maxSize;
+	}
+
+	/** Returns the number of cached layouts. */
+	public int getSize () {
+		return entries.size;
+	}
+
+	/** Removes all cached layouts. */
+	public void clear () {
+		entries.clear();
+		head = null;
+		tail = null;
+	}
+
+	/** The parameters a layout was created with. Cached entries own a copy of the text, the lookup key references the text being
+	 * looked up. */
+	static private class Key {
+		BitmapFont font;
+		CharSequence text;
+		int start, end;
+		int color, halign;
+		float targetWidth, scaleX, scaleY;
+		boolean wrap, markupEnabled;
+		@Null String truncate;
+		int hash;
+
+		GlyphLayout layout;
+		@Null Key previous, next;
+
+		void set (BitmapFont font, CharSequence text, int start, int end, int color, float targetWidth, int halign, boolean wrap,
+			@Null String truncate) {
+			BitmapFontData data = font.getData();
+			this.font = font;
+			this.text = text;
+			this.start = start;
+			this.end = end;
+			this.color = color;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.truncate = truncate;
+			scaleX = data.scaleX;
+			scaleY = data.scaleY;
+			markupEnabled = data.markupEnabled;
+
+			int h = font.hashCode();
+			for (int i = start; i < end; i++)
+				h = 31 * h + text.charAt(i);
+			h = 31 * h + color;
+			h = 31 * h + Float.floatToIntBits(targetWidth);
+			h = 31 * h + halign;
+			h = 31 * h + Float.floatToIntBits(scaleX);
+			h = 31 * h + Float.floatToIntBits(scaleY);
+			if (wrap) h += 1;
+			if (markupEnabled) h += 2;
+			if (truncate != null) h = 31 * h + truncate.hashCode();
+			hash = h;
+		}
+
+		public int hashCode () {
+			return hash;
+		}
+
+		public boolean equals (Object object) {
+			if (this == object) return true;
+			if (!(object instanceof Key)) return false;
+			Key other = (Key)object;
+			if (hash != other.hash || font != other.font || color != other.color || targetWidth != other.targetWidth
+				|| halign != other.halign || wrap != other.wrap || scaleX != other.scaleX || scaleY != other.scaleY
+				|| markupEnabled != other.markupEnabled) return false;
+			if (truncate == null ? other.truncate != null : !truncate.equals(other.truncate)) return false;
+			int length = end - start;
+			if (length != other.end - other.start) return false;
+			CharSequence text = this.text, otherText = other.text;
+			for (int i = 0, offset = start, otherOffset = other.start; i < length; i++)
+				if (text.charAt(offset + i) != otherText.charAt(otherOffset + i)) return false;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,670 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Draws sprites using instanced rendering, which requires OpenGL ES 3.0. Instead of 4 vertices per sprite, one instance of 12
+ * floats is written per sprite: the position, size, origin, rotation, texture region and packed color. The quad is rotated and
+ * expanded to its corners in the vertex shader, so rotated and scaled sprites need no trigonometry on the CPU and 40% less data
+ * is uploaded than with {@link SpriteBatch}.
+ * <p>
+ * Sprites drawn with vertices, with an {@link Affine2} or with a rotated region are converted to an instance from their corners.
+ * An instance can only describe a rectangle with a single color, so quads that are skewed or that have a different color per
+ * vertex are drawn as the closest rectangle with the color of the first vertex. Use {@link SpriteBatch} for those.
+ * <p>
+ * A custom shader set with {@link #setShader(ShaderProgram)} must declare the {@link #CORNER_ATTRIBUTE},
+ * {@link #QUAD_ATTRIBUTE}, {@link #ORIGIN_ATTRIBUTE}, {@link #REGION_ATTRIBUTE} and {@link ShaderProgram#COLOR_ATTRIBUTE}
+ * attributes, see {@link #createDefaultShader()}.
+ * @see Batch */
+public class InstancedSpriteBatch implements Batch {
+	/** The per vertex corner of the quad, 0 or 1 for x and y. */
+	static public final String CORNER_ATTRIBUTE = "a_corner";
+	/** The per instance x, y of the bottom left corner before rotation, width and height. */
+	static public final String QUAD_ATTRIBUTE = "a_quad";
+	/** The per instance origin relative to the bottom left corner and the rotation in degrees around it. */
+	static public final String ORIGIN_ATTRIBUTE = "a_origin";
+	/** The per instance u, v, u2, v2 of the texture region. */
+	static public final String REGION_ATTRIBUTE = "a_region";
+
+	static final int INSTANCE_SIZE = 4 + 3 + 4 + 1;
+
+	private Mesh mesh;
+
+	final float[] instances;
+	int idx = 0;
+	Texture lastTexture = null;
+	float invTexWidth = 0, invTexHeight = 0;
+	private final float[] quad = new float[16];
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private final ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** The maximum number of sprites rendered in one batch so far. **/
+	public int maxSpritesInBatch = 0;
+
+	/** Constructs a new InstancedSpriteBatch with a size of 1000 and the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(1000, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch with the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards,
+	 * x-axis point to the right and the origin being in the bottom left corner of the screen.
+	 * @param size The max number of sprites in a single batch. As the quad has only 4 vertices, this is not limited by the max
+	 *           vertex index.
+	 * @param defaultShader The default shader to use, or null to use {@link #createDefaultShader()}. This is not owned by the
+	 *           InstancedSpriteBatch and must be disposed separately.
+	 * @throws GdxRuntimeException if OpenGL ES 3.0 is not available. */
+	public InstancedSpriteBatch (int size, ShaderProgram defaultShader) {
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("InstancedSpriteBatch requires OpenGL ES 3.0.");
+
+		mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Generic, 2, CORNER_ATTRIBUTE));
+		mesh.setVertices(new float[] {0, 0, 0, 1, 1, 1, 1, 0});
+		mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+		mesh.enableInstancedRendering(false, size, new VertexAttribute(Usage.Generic, 4, QUAD_ATTRIBUTE),
+			new VertexAttribute(Usage.Generic, 3, ORIGIN_ATTRIBUTE), new VertexAttribute(Usage.Generic, 4, REGION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+		instances = new float[size * INSTANCE_SIZE];
+
+		if (defaultShader == null) {
+			shader = createDefaultShader();
+			ownsShader = true;
+		} else
+			shader = defaultShader;
+	}
+
+	/** Returns a new instance of the default shader used by InstancedSpriteBatch when no shader is specified. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "attribute vec2 " + CORNER_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + QUAD_ATTRIBUTE + ";\n" //
+			+ "attribute vec3 " + ORIGIN_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + REGION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   vec2 local = " + CORNER_ATTRIBUTE + " * " + QUAD_ATTRIBUTE + ".zw - " + ORIGIN_ATTRIBUTE + ".xy;\n" //
+			+ "   float angle = radians(" + ORIGIN_ATTRIBUTE + ".z);\n" //
+			+ "   float c = cos(angle);\n" //
+			+ "   float s = sin(angle);\n" //
+			+ "   vec2 position = vec2(c * local.x - s * local.y, s * local.x + c * local.y) + " + QUAD_ATTRIBUTE + ".xy + "
+			+ ORIGIN_ATTRIBUTE + ".xy;\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = mix(" + REGION_ATTRIBUTE + ".xy, " + REGION_ATTRIBUTE + ".zw, " + CORNER_ATTRIBUTE + ");\n" //
+			+ "   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	@Override
+	public void begin () {
+		if (drawing) throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+		renderCalls = 0;
+
+		Gdx.gl.glDepthMask(false);
+		if (customShader != null)
+			customShader.bind();
+		else
+			shader.bind();
+		setupMatrices();
+
+		drawing = true;
+	}
+
+	@Override
+	public void end () {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+		if (idx > 0) flush();
+		lastTexture = null;
+		drawing = false;
+
+		GL20 gl = Gdx.gl;
+		gl.glDepthMask(true);
+		if (isBlendingEnabled()) gl.glDisable(GL20.GL_BLEND);
+	}
+
+	@Override
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	@Override
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor () {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.colorPacked = packedColor;
+	}
+
+	@Override
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	/** Adds an instance. The quad is rotated around x + originX, y + originY. */
+	private void add (float x, float y, float width, float height, float originX, float originY, float rotation, float u, float v,
+		float u2, float v2, float color) {
+		float[] instances = this.instances;
+		if (idx == instances.length) flush();
+		int idx = this.idx;
+		instances[idx] = x;
+		instances[idx + 1] = y;
+		instances[idx + 2] = width;
+		instances[idx + 3] = height;
+		instances[idx + 4] = originX;
+		instances[idx + 5] = originY;
+		instances[idx + 6] = rotation;
+		instances[idx + 7] = u;
+		instances[idx + 8] = v;
+		instances[idx + 9] = u2;
+		instances[idx + 10] = v2;
+		instances[idx + 11] = color;
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	/** Adds a quad scaled around its origin. */
+	private void add (float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+		float rotation, float u, float v, float u2, float v2) {
+		if (scaleX != 1 || scaleY != 1) {
+			x += originX - originX * scaleX;
+			y += originY - originY * scaleY;
+			originX *= scaleX;
+			originY *= scaleY;
+			width *= scaleX;
+			height *= scaleY;
+		}
+		add(x, y, width, height, originX, originY, rotation, u, v, u2, v2, colorPacked);
+	}
+
+	/** Adds the quad with the corners in {@link #quad}: x, y, u and v for each corner, clockwise from the bottom left (bottom left,
+	 * top left, top right, bottom right), the order of the vertices of {@link #draw(Texture, float[], int, int)}. */
+	private void addQuad (float color) {
+		float[] quad = this.quad;
+		// Use a corner whose neighbors share its u and v, so the UVs map to the quad's edges.
+		for (int i = 0; i < 16; i += 4) {
+			int next = (i + 4) & 15, prev = (i + 12) & 15;
+			float u = quad[i + 2], v = quad[i + 3];
+			if (quad[prev + 3] == v && quad[next + 2] == u)
+				addEdges(i, prev, next, color);
+			else if (quad[next + 3] == v && quad[prev + 2] == u)
+				addEdges(i, next, prev, color);
+			else
+				continue;
+			return;
+		}
+		addEdges(0, 12, 4, color);
+	}
+
+	/** Adds the quad from a corner and its neighbors along the u and v axes of the texture region. */
+	private void addEdges (int corner, int uCorner, int vCorner, float color) {
+		float[] quad = this.quad;
+		float x = quad[corner], y = quad[corner + 1];
+		float ux = quad[uCorner] - x, uy = quad[uCorner + 1] - y;
+		float vx = quad[vCorner] - x, vy = quad[vCorner + 1] - y;
+		float width, height, rotation;
+		if (uy == 0 && vx == 0 && ux >= 0) {
+			width = ux;
+			height = vy;
+			rotation = 0;
+		} else {
+			width = (float)Math.sqrt(ux * ux + uy * uy);
+			if (width != 0) {
+				rotation = (float)Math.atan2(uy, ux) * MathUtils.radiansToDegrees;
+				height = (ux * vy - uy * vx) / width; // Skew is dropped.
+			} else {
+				height = (float)Math.sqrt(vx * vx + vy * vy);
+				rotation = (float)Math.atan2(vy, vx) * MathUtils.radiansToDegrees - 90;
+			}
+		}
+		add(x, y, width, height, 0, 0, rotation, quad[corner + 2], quad[corner + 3], quad[uCorner + 2], quad[vCorner + 3], color);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u2, v2);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x, y, width, height, 0, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		final float u = srcX * invTexWidth;
+		final float v = (srcY + srcHeight) * invTexHeight;
+		final float u2 = (srcX + srcWidth) * invTexWidth;
+		final float v2 = srcY * invTexHeight;
+		add(x, y, srcWidth, srcHeight, 0, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		add(x, y, width, height, 0, 0, 0, u, v, u2, v2, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		add(x, y, width, height, 0, 0, 0, 0, 1, 1, 0, colorPacked);
+	}
+
+	/** Draws sprites from vertices in the {@link SpriteBatch} format. Each sprite is converted to an instance from its corners, see
+	 * the class documentation. */
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		float[] quad = this.quad;
+		for (int end = offset + count; offset < end; offset += Sprite.SPRITE_SIZE) {
+			for (int i = 0, o = offset; i < 16; i += 4, o += Sprite.VERTEX_SIZE) {
+				quad[i] = spriteVertices[o];
+				quad[i + 1] = spriteVertices[o + 1];
+				quad[i + 2] = spriteVertices[o + 3];
+				quad[i + 3] = spriteVertices[o + 4];
+			}
+			addQuad(spriteVertices[offset + 2]);
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		Texture texture = region.texture;
+		if (texture != lastTexture) switchTexture(texture);
+
+		add(x, y, width, height, 0, 0, 0, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		Texture texture = region.texture;
+		if (texture != lastTexture) switchTexture(texture);
+
+		add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v2, region.u2, region.v);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		Texture texture = region.texture;
+		if (texture != lastTexture) switchTexture(texture);
+
+		// The region is rotated 90 degrees, so the quad is converted from its corners.
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX * scaleX;
+		float fy = -originY * scaleY;
+		float fx2 = (width - originX) * scaleX;
+		float fy2 = (height - originY) * scaleY;
+		final float cos = MathUtils.cosDeg(rotation);
+		final float sin = MathUtils.sinDeg(rotation);
+
+		float[] quad = this.quad;
+		quad[0] = cos * fx - sin * fy + worldOriginX;
+		quad[1] = sin * fx + cos * fy + worldOriginY;
+		quad[4] = cos * fx - sin * fy2 + worldOriginX;
+		quad[5] = sin * fx + cos * fy2 + worldOriginY;
+		quad[8] = cos * fx2 - sin * fy2 + worldOriginX;
+		quad[9] = sin * fx2 + cos * fy2 + worldOriginY;
+		quad[12] = quad[0] + (quad[8] - quad[4]);
+		quad[13] = quad[9] - (quad[5] - quad[1]);
+
+		if (clockwise) {
+			quad[2] = region.u2;
+			quad[3] = region.v2;
+			quad[6] = region.u;
+			quad[7] = region.v2;
+			quad[10] = region.u;
+			quad[11] = region.v;
+			quad[14] = region.u2;
+			quad[15] = region.v;
+		} else {
+			quad[2] = region.u;
+			quad[3] = region.v;
+			quad[6] = region.u2;
+			quad[7] = region.v;
+			quad[10] = region.u2;
+			quad[11] = region.v2;
+			quad[14] = region.u;
+			quad[15] = region.v2;
+		}
+		addQuad(colorPacked);
+	}
+
+	/** Draws the region with the transform. The transform is converted to an instance from the corners, so skew is dropped, see
+	 * the class documentation. */
+	@Override
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		Texture texture = region.texture;
+		if (texture != lastTexture) switchTexture(texture);
+
+		float[] quad = this.quad;
+		quad[0] = transform.m02;
+		quad[1] = transform.m12;
+		quad[4] = transform.m01 * height + transform.m02;
+		quad[5] = transform.m11 * height + transform.m12;
+		quad[8] = transform.m00 * width + transform.m01 * height + transform.m02;
+		quad[9] = transform.m10 * width + transform.m11 * height + transform.m12;
+		quad[12] = transform.m00 * width + transform.m02;
+		quad[13] = transform.m10 * width + transform.m12;
+		quad[2] = region.u;
+		quad[3] = region.v2;
+		quad[6] = region.u;
+		quad[7] = region.v;
+		quad[10] = region.u2;
+		quad[11] = region.v;
+		quad[14] = region.u2;
+		quad[15] = region.v2;
+		addQuad(colorPacked);
+	}
+
+	@Override
+	public void flush () {
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / INSTANCE_SIZE;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		Mesh mesh = this.mesh;
+		mesh.setInstanceData(instances, 0, idx);
+
+		if (blendingDisabled) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (blendSrcFunc != -1) Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+		}
+
+		mesh.render(customShader != null ? customShader : shader, GL20.GL_TRIANGLES, 0, 6);
+
+		idx = 0;
+	}
+
+	@Override
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	@Override
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	@Override
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	@Override
+	public void dispose () {
+		mesh.dispose();
+		if (ownsShader && shader != null) shader.dispose();
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+		if (drawing) setupMatrices();
+	}
+
+	@Override
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) flush();
+		transformMatrix.set(transform);
+		if (drawing) setupMatrices();
+	}
+
+	protected void setupMatrices () {
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		if (customShader != null) {
+			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
+			customShader.setUniformi("u_texture", 0);
+		} else {
+			shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			shader.setUniformi("u_texture", 0);
+		}
+	}
+
+	protected void switchTexture (Texture texture) {
+		flush();
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	@Override
+	public void setShader (ShaderProgram shader) {
+		if (shader == customShader) // avoid unnecessary flushing in case we are drawing
+			return;
+		if (drawing) {
+			flush();
+		}
+		customShader = shader;
+		if (drawing) {
+			if (customShader != null)
+				customShader.bind();
+			else
+				this.shader.bind();
+			setupMatrices();
+		}
+	}
+
+	@Override
+	public ShaderProgram getShader () {
+		if (customShader == null) {
+			return shader;
+		}
+		return customShader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+}
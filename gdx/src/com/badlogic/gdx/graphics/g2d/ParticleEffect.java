@@ -308,4 +308,12 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).setCleansUpBlendFunction(cleanUpBlendFunction);
 		}
 	}
+
+	/** Sets {@link com.badlogic.gdx.graphics.g2d.ParticleEmitter#setPacked(boolean) packed} on all
+	 * {@link com.badlogic.gdx.graphics.g2d.ParticleEmitter ParticleEmitters} currently in this ParticleEffect. */
+	public void setEmittersPacked (boolean packed) {
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			emitters.get(i).setPacked(packed);
+		}
+	}
 }
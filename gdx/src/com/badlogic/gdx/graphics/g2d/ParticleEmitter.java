@@ -17,7 +17,9 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
@@ -66,6 +68,9 @@ public class ParticleEmitter {
 	private Array<Sprite> sprites;
 	private SpriteMode spriteMode = SpriteMode.single;
 	private Particle[] particles;
+	private boolean packed;
+	private ParticleArrays arrays;
+	private final Color tempColor = new Color();
 	private int minParticleCount, maxParticleCount = 4;
 	private float x, y;
 	private String name;
@@ -85,6 +90,7 @@ public class ParticleEmitter {
 	private float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
+	private float spawnX, spawnY, spawnAngle;
 
 	private boolean attached;
 	private boolean continuous;
@@ -107,6 +113,7 @@ public class ParticleEmitter {
 		sprites = new Array<Sprite>(emitter.sprites);
 		name = emitter.name;
 		imagePaths = new Array<String>(emitter.imagePaths);
+		packed = emitter.packed;
 		setMaxParticleCount(emitter.maxParticleCount);
 		minParticleCount = emitter.minParticleCount;
 		delayValue.load(emitter.delayValue);
@@ -157,11 +164,32 @@ public class ParticleEmitter {
 		active = new boolean[maxParticleCount];
 		activeCount = 0;
 		particles = new Particle[maxParticleCount];
+		if (packed) arrays = new ParticleArrays(maxParticleCount);
+	}
+
+	/** If true, particle state is stored in parallel primitive arrays instead of a {@link Particle} sprite per particle. Particles
+	 * are updated one property at a time over all particles and their vertices are written directly to the batch, which is more
+	 * efficient for emitters with many particles. {@link #newParticle(Sprite)} is not used, so this should not be enabled for
+	 * subclasses that customize particles. Changing this removes all active particles. Default is false. */
+	public void setPacked (boolean packed) {
+		if (this.packed == packed) return;
+		this.packed = packed;
+		setMaxParticleCount(maxParticleCount);
+		if (!packed) arrays = null;
+	}
+
+	public boolean isPacked () {
+		return packed;
 	}
 
 	public void addParticle () {
 		int activeCount = this.activeCount;
 		if (activeCount == maxParticleCount) return;
+		if (packed) {
+			this.activeCount = activeCount + 1;
+			activatePackedParticle(activeCount);
+			return;
+		}
 		boolean[] active = this.active;
 		for (int i = 0, n = active.length; i < n; i++) {
 			if (!active[i]) {
@@ -176,6 +204,11 @@ public class ParticleEmitter {
 	public void addParticles (int count) {
 		count = Math.min(count, maxParticleCount - activeCount);
 		if (count == 0) return;
+		if (packed) {
+			for (int i = 0; i < count; i++)
+				activatePackedParticle(activeCount++);
+			return;
+		}
 		boolean[] active = this.active;
 		int index = 0, n = active.length;
 		outer:
@@ -233,6 +266,11 @@ public class ParticleEmitter {
 			}
 		}
 
+		if (packed) {
+			updatePackedParticles(delta, deltaMillis);
+			return;
+		}
+
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
 		Particle[] particles = this.particles;
@@ -253,11 +291,14 @@ public class ParticleEmitter {
 		} else {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) particles[i].draw(batch);
+		if (packed)
+			drawPackedParticles(batch);
+		else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) particles[i].draw(batch);
+			}
 		}
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
@@ -283,21 +324,26 @@ public class ParticleEmitter {
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 		}
 
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-		int activeCount = this.activeCount;
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i]) {
-				Particle particle = particles[i];
-				if (updateParticle(particle, delta, deltaMillis))
-					particle.draw(batch);
-				else {
-					active[i] = false;
-					activeCount--;
+		if (packed) {
+			updatePackedParticles(delta, deltaMillis);
+			drawPackedParticles(batch);
+		} else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			int activeCount = this.activeCount;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i]) {
+					Particle particle = particles[i];
+					if (updateParticle(particle, delta, deltaMillis))
+						particle.draw(batch);
+					else {
+						active[i] = false;
+						activeCount--;
+					}
 				}
 			}
+			this.activeCount = activeCount;
 		}
-		this.activeCount = activeCount;
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -393,6 +439,7 @@ public class ParticleEmitter {
 		return new Particle(sprite);
 	}
 
+	/** Not used when {@link #setPacked(boolean) packed}. */
 	protected Particle[] getParticles () {
 		return particles;
 	}
@@ -491,7 +538,25 @@ public class ParticleEmitter {
 		particle.transparency = transparencyValue.newLowValue();
 		particle.transparencyDiff = transparencyValue.newHighValue() - particle.transparency;
 
-		// Spawn.
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			particle.angle = spawnAngle;
+			particle.angleCos = MathUtils.cosDeg(spawnAngle);
+			particle.angleSin = MathUtils.sinDeg(spawnAngle);
+		}
+
+		particle.setBounds(spawnX - spriteWidth * 0.5f, spawnY - spriteHeight * 0.5f, spriteWidth, spriteHeight);
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
+			updateParticle(particle, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	/** Sets {@link #spawnX} and {@link #spawnY} to a random position in the spawn shape.
+	 * @return true if the position is on the edge of an ellipse and {@link #spawnAngle} was set to its angle. */
+	private boolean spawn (float percent) {
+		boolean edge = false;
 		float x = this.x;
 		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
 		float y = this.y;
@@ -524,15 +589,10 @@ public class ParticleEmitter {
 					spawnAngle = MathUtils.random(360f);
 					break;
 				}
-				float cosDeg = MathUtils.cosDeg(spawnAngle);
-				float sinDeg = MathUtils.sinDeg(spawnAngle);
-				x += cosDeg * radiusX;
-				y += sinDeg * radiusX / scaleY;
-				if ((updateFlags & UPDATE_ANGLE) == 0) {
-					particle.angle = spawnAngle;
-					particle.angleCos = cosDeg;
-					particle.angleSin = sinDeg;
-				}
+				x += MathUtils.cosDeg(spawnAngle) * radiusX;
+				y += MathUtils.sinDeg(spawnAngle) * radiusX / scaleY;
+				this.spawnAngle = spawnAngle;
+				edge = true;
 			} else {
 				float radius2 = radiusX * radiusX;
 				while (true) {
@@ -559,14 +619,9 @@ public class ParticleEmitter {
 			break;
 		}
 		}
-
-		particle.setBounds(x - spriteWidth * 0.5f, y - spriteHeight * 0.5f, spriteWidth, spriteHeight);
-
-		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
-		if (offsetTime > 0) {
-			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
-			updateParticle(particle, offsetTime / 1000f, offsetTime);
-		}
+		spawnX = x;
+		spawnY = y;
+		return edge;
 	}
 
 	private boolean updateParticle (Particle particle, float delta, int deltaMillis) {
@@ -653,6 +708,347 @@ public class ParticleEmitter {
 		return true;
 	}
 
+	private void activatePackedParticle (int index) {
+		ParticleArrays arrays = this.arrays;
+		int spriteIndex = spriteMode == SpriteMode.random ? MathUtils.random(sprites.size - 1) : 0;
+		Sprite sprite = sprites.get(spriteIndex);
+		arrays.sprite[index] = spriteIndex;
+
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		if (lifeValue.independent) generateLifeValues();
+
+		if (lifeOffsetValue.independent) generateLifeOffsetValues();
+
+		int life = this.life + (int)(lifeDiff * lifeValue.getScale(percent));
+		arrays.life[index] = life;
+		arrays.currentLife[index] = life;
+		arrays.percent[index] = 0;
+
+		if (velocityValue.active) {
+			float velocity = velocityValue.newLowValue(), velocityDiff = velocityValue.newHighValue();
+			if (!velocityValue.relative) velocityDiff -= velocity;
+			arrays.velocity[index] = velocity;
+			arrays.velocityDiff[index] = velocityDiff;
+		}
+
+		float angle = angleValue.newLowValue(), angleDiff = angleValue.newHighValue();
+		if (!angleValue.relative) angleDiff -= angle;
+		arrays.angle[index] = angle;
+		arrays.angleDiff[index] = angleDiff;
+		float alignedAngle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			alignedAngle = angle + angleDiff * angleValue.getScale(0);
+			arrays.angle[index] = alignedAngle;
+			arrays.angleCos[index] = MathUtils.cosDeg(alignedAngle);
+			arrays.angleSin[index] = MathUtils.sinDeg(alignedAngle);
+		}
+
+		float spriteWidth = sprite.getWidth();
+		float spriteHeight = sprite.getHeight();
+
+		float xScale = xScaleValue.newLowValue() / spriteWidth, xScaleDiff = xScaleValue.newHighValue() / spriteWidth;
+		if (!xScaleValue.relative) xScaleDiff -= xScale;
+		arrays.xScale[index] = xScale;
+		arrays.xScaleDiff[index] = xScaleDiff;
+		float scaleX = xScale + xScaleDiff * xScaleValue.getScale(0);
+		arrays.scaleX[index] = scaleX;
+		if (yScaleValue.active) {
+			float yScale = yScaleValue.newLowValue() / spriteHeight, yScaleDiff = yScaleValue.newHighValue() / spriteHeight;
+			if (!yScaleValue.relative) yScaleDiff -= yScale;
+			arrays.yScale[index] = yScale;
+			arrays.yScaleDiff[index] = yScaleDiff;
+			arrays.scaleY[index] = yScale + yScaleDiff * yScaleValue.getScale(0);
+		} else
+			arrays.scaleY[index] = scaleX;
+
+		if (rotationValue.active) {
+			float rotation = rotationValue.newLowValue(), rotationDiff = rotationValue.newHighValue();
+			if (!rotationValue.relative) rotationDiff -= rotation;
+			arrays.rotation[index] = rotation;
+			arrays.rotationDiff[index] = rotationDiff;
+			float spriteRotation = rotation + rotationDiff * rotationValue.getScale(0);
+			if (aligned) spriteRotation += alignedAngle;
+			arrays.spriteRotation[index] = spriteRotation;
+		} else {
+			arrays.rotation[index] = 0;
+			arrays.rotationDiff[index] = 0;
+			arrays.spriteRotation[index] = sprite.getRotation();
+		}
+
+		if (windValue.active) {
+			float wind = windValue.newLowValue(), windDiff = windValue.newHighValue();
+			if (!windValue.relative) windDiff -= wind;
+			arrays.wind[index] = wind;
+			arrays.windDiff[index] = windDiff;
+		}
+
+		if (gravityValue.active) {
+			float gravity = gravityValue.newLowValue(), gravityDiff = gravityValue.newHighValue();
+			if (!gravityValue.relative) gravityDiff -= gravity;
+			arrays.gravity[index] = gravity;
+			arrays.gravityDiff[index] = gravityDiff;
+		}
+
+		float transparency = transparencyValue.newLowValue();
+		arrays.transparency[index] = transparency;
+		arrays.transparencyDiff[index] = transparencyValue.newHighValue() - transparency;
+		arrays.color[index] = sprite.getPackedColor();
+
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			arrays.angle[index] = spawnAngle;
+			arrays.angleCos[index] = MathUtils.cosDeg(spawnAngle);
+			arrays.angleSin[index] = MathUtils.sinDeg(spawnAngle);
+		}
+		arrays.x[index] = spawnX - spriteWidth * 0.5f;
+		arrays.y[index] = spawnY - spriteHeight * 0.5f;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= life) offsetTime = life - 1;
+			life -= offsetTime;
+			arrays.currentLife[index] = life;
+			arrays.percent[index] = 1 - life / (float)arrays.life[index];
+			updatePackedParticles(index, index + 1, offsetTime / 1000f);
+		}
+	}
+
+	/** Removes expired packed particles, then updates the rest. */
+	private void updatePackedParticles (float delta, int deltaMillis) {
+		ParticleArrays arrays = this.arrays;
+		int[] particleLife = arrays.life, currentLife = arrays.currentLife;
+		float[] percent = arrays.percent;
+		int activeCount = this.activeCount;
+		for (int i = 0; i < activeCount;) {
+			int life = currentLife[i] - deltaMillis;
+			if (life <= 0) {
+				arrays.move(--activeCount, i);
+				continue;
+			}
+			currentLife[i] = life;
+			percent[i] = 1 - life / (float)particleLife[i];
+			i++;
+		}
+		this.activeCount = activeCount;
+		updatePackedParticles(0, activeCount, delta);
+	}
+
+	/** Updates packed particles from start, inclusive, to end, exclusive, using their percent of life that has passed. Each
+	 * property is updated for all particles before the next property. */
+	private void updatePackedParticles (int start, int end, float delta) {
+		ParticleArrays arrays = this.arrays;
+		float[] percent = arrays.percent;
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0) {
+			float[] scaleX = arrays.scaleX, scaleY = arrays.scaleY, xScale = arrays.xScale, xScaleDiff = arrays.xScaleDiff;
+			if (yScaleValue.active) {
+				float[] yScale = arrays.yScale, yScaleDiff = arrays.yScaleDiff;
+				for (int i = start; i < end; i++) {
+					scaleX[i] = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(percent[i]);
+					scaleY[i] = yScale[i] + yScaleDiff[i] * yScaleValue.getScale(percent[i]);
+				}
+			} else {
+				for (int i = start; i < end; i++) {
+					float scale = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(percent[i]);
+					scaleX[i] = scale;
+					scaleY[i] = scale;
+				}
+			}
+		}
+
+		float[] rotation = arrays.rotation, rotationDiff = arrays.rotationDiff, spriteRotation = arrays.spriteRotation;
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float[] x = arrays.x, y = arrays.y, velocity = arrays.velocity, velocityDiff = arrays.velocityDiff;
+			float[] angle = arrays.angle, angleDiff = arrays.angleDiff, angleCos = arrays.angleCos, angleSin = arrays.angleSin;
+			boolean updateAngle = (updateFlags & UPDATE_ANGLE) != 0, updateRotation = (updateFlags & UPDATE_ROTATION) != 0;
+			for (int i = start; i < end; i++) {
+				float speed = (velocity[i] + velocityDiff[i] * velocityValue.getScale(percent[i])) * delta;
+				if (updateAngle) {
+					float particleAngle = angle[i] + angleDiff[i] * angleValue.getScale(percent[i]);
+					x[i] += speed * MathUtils.cosDeg(particleAngle);
+					y[i] += speed * MathUtils.sinDeg(particleAngle);
+					if (updateRotation) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent[i]);
+						if (aligned) particleRotation += particleAngle;
+						spriteRotation[i] = particleRotation;
+					}
+				} else {
+					x[i] += speed * angleCos[i];
+					y[i] += speed * angleSin[i];
+					if (aligned || updateRotation) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent[i]);
+						if (aligned) particleRotation += angle[i];
+						spriteRotation[i] = particleRotation;
+					}
+				}
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0) {
+				float[] wind = arrays.wind, windDiff = arrays.windDiff;
+				for (int i = start; i < end; i++)
+					x[i] += (wind[i] + windDiff[i] * windValue.getScale(percent[i])) * delta;
+			}
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0) {
+				float[] gravity = arrays.gravity, gravityDiff = arrays.gravityDiff;
+				for (int i = start; i < end; i++)
+					y[i] += (gravity[i] + gravityDiff[i] * gravityValue.getScale(percent[i])) * delta;
+			}
+		} else if ((updateFlags & UPDATE_ROTATION) != 0) {
+			for (int i = start; i < end; i++)
+				spriteRotation[i] = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent[i]);
+		}
+
+		float[] color = arrays.color, transparency = arrays.transparency, transparencyDiff = arrays.transparencyDiff;
+		boolean updateTint = (updateFlags & UPDATE_TINT) != 0;
+		float[] tint = tintValue.getColor(0);
+		float r = tint[0], g = tint[1], b = tint[2];
+		float alphaMultiplier = additive ? 0 : 1;
+		Color tempColor = this.tempColor;
+		for (int i = start; i < end; i++) {
+			if (updateTint) {
+				tint = tintValue.getColor(percent[i]);
+				r = tint[0];
+				g = tint[1];
+				b = tint[2];
+			}
+			float a = transparency[i] + transparencyDiff[i] * transparencyValue.getScale(percent[i]);
+			if (premultipliedAlpha)
+				tempColor.set(r * a, g * a, b * a, a * alphaMultiplier);
+			else
+				tempColor.set(r, g, b, a);
+			color[i] = tempColor.toFloatBits();
+		}
+
+		if ((updateFlags & UPDATE_SPRITE) != 0) {
+			float[] x = arrays.x, y = arrays.y;
+			int[] particleSprite = arrays.sprite;
+			Array<Sprite> sprites = this.sprites;
+			int spriteCount = sprites.size;
+			for (int i = start; i < end; i++) {
+				int frame = Math.min((int)(percent[i] * spriteCount), spriteCount - 1);
+				if (particleSprite[i] != frame) {
+					Sprite previous = sprites.get(particleSprite[i]), sprite = sprites.get(frame);
+					x[i] += (previous.getWidth() - sprite.getWidth()) * 0.5f;
+					y[i] += (previous.getHeight() - sprite.getHeight()) * 0.5f;
+					particleSprite[i] = frame;
+				}
+			}
+		}
+	}
+
+	/** Writes the vertices of the packed particles to the batch, in runs of particles that use the same texture. */
+	private void drawPackedParticles (Batch batch) {
+		ParticleArrays arrays = this.arrays;
+		float[] vertices = arrays.vertices;
+		int[] particleSprite = arrays.sprite;
+		Array<Sprite> sprites = this.sprites;
+		Texture texture = null;
+		int offset = 0;
+		for (int i = 0, n = activeCount; i < n; i++) {
+			Texture particleTexture = sprites.get(particleSprite[i]).getTexture();
+			if (particleTexture != texture || offset == vertices.length) {
+				if (offset > 0) batch.draw(texture, vertices, 0, offset);
+				texture = particleTexture;
+				offset = 0;
+			}
+			packedVertices(i, vertices, offset);
+			offset += 20;
+		}
+		if (offset > 0) batch.draw(texture, vertices, 0, offset);
+	}
+
+	/** Computes the 20 vertex values of a packed particle the same way as {@link Sprite#getVertices()}. */
+	private void packedVertices (int index, float[] vertices, int offset) {
+		ParticleArrays arrays = this.arrays;
+		Sprite sprite = sprites.get(arrays.sprite[index]);
+
+		float localX = -sprite.getOriginX();
+		float localY = -sprite.getOriginY();
+		float localX2 = localX + sprite.getWidth();
+		float localY2 = localY + sprite.getHeight();
+		float worldOriginX = arrays.x[index] - localX;
+		float worldOriginY = arrays.y[index] - localY;
+		float scaleX = arrays.scaleX[index], scaleY = arrays.scaleY[index];
+		if (scaleX != 1 || scaleY != 1) {
+			localX *= scaleX;
+			localY *= scaleY;
+			localX2 *= scaleX;
+			localY2 *= scaleY;
+		}
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+		float rotation = arrays.spriteRotation[index];
+		if (rotation != 0) {
+			float cos = MathUtils.cosDeg(rotation);
+			float sin = MathUtils.sinDeg(rotation);
+			float localXCos = localX * cos;
+			float localXSin = localX * sin;
+			float localYCos = localY * cos;
+			float localYSin = localY * sin;
+			float localX2Cos = localX2 * cos;
+			float localX2Sin = localX2 * sin;
+			float localY2Cos = localY2 * cos;
+			float localY2Sin = localY2 * sin;
+
+			x1 = localXCos - localYSin + worldOriginX;
+			y1 = localYCos + localXSin + worldOriginY;
+			x2 = localXCos - localY2Sin + worldOriginX;
+			y2 = localY2Cos + localXSin + worldOriginY;
+			x3 = localX2Cos - localY2Sin + worldOriginX;
+			y3 = localY2Cos + localX2Sin + worldOriginY;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = localX + worldOriginX;
+			y1 = localY + worldOriginY;
+			x3 = localX2 + worldOriginX;
+			y3 = localY2 + worldOriginY;
+			x2 = x1;
+			y2 = y3;
+			x4 = x3;
+			y4 = y1;
+		}
+
+		float u = sprite.getU(), v = sprite.getV2(), u2 = sprite.getU2(), v2 = sprite.getV();
+		if (flipX) {
+			float temp = u;
+			u = u2;
+			u2 = temp;
+		}
+		if (flipY) {
+			float temp = v;
+			v = v2;
+			v2 = temp;
+		}
+		float color = arrays.color[index];
+
+		vertices[offset] = x1;
+		vertices[offset + 1] = y1;
+		vertices[offset + 2] = color;
+		vertices[offset + 3] = u;
+		vertices[offset + 4] = v;
+
+		vertices[offset + 5] = x2;
+		vertices[offset + 6] = y2;
+		vertices[offset + 7] = color;
+		vertices[offset + 8] = u;
+		vertices[offset + 9] = v2;
+
+		vertices[offset + 10] = x3;
+		vertices[offset + 11] = y3;
+		vertices[offset + 12] = color;
+		vertices[offset + 13] = u2;
+		vertices[offset + 14] = v2;
+
+		vertices[offset + 15] = x4;
+		vertices[offset + 16] = y4;
+		vertices[offset + 17] = color;
+		vertices[offset + 18] = u2;
+		vertices[offset + 19] = v;
+	}
+
 	private void generateLifeValues () {
 		life = (int)lifeValue.newLowValue();
 		lifeDiff = (int)lifeValue.newHighValue();
@@ -669,9 +1065,17 @@ public class ParticleEmitter {
 		if (attached) {
 			float xAmount = x - this.x;
 			float yAmount = y - this.y;
-			boolean[] active = this.active;
-			for (int i = 0, n = active.length; i < n; i++)
-				if (active[i]) particles[i].translate(xAmount, yAmount);
+			if (packed) {
+				float[] particleX = arrays.x, particleY = arrays.y;
+				for (int i = 0, n = activeCount; i < n; i++) {
+					particleX[i] += xAmount;
+					particleY[i] += yAmount;
+				}
+			} else {
+				boolean[] active = this.active;
+				for (int i = 0, n = active.length; i < n; i++)
+					if (active[i]) particles[i].translate(xAmount, yAmount);
+			}
 		}
 		this.x = x;
 		this.y = y;
@@ -680,6 +1084,23 @@ public class ParticleEmitter {
 	public void setSprites (Array<Sprite> sprites) {
 		this.sprites = sprites;
 		if (sprites.size == 0) return;
+		if (packed) {
+			int[] particleSprite = arrays.sprite;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				switch (spriteMode) {
+				case single:
+					particleSprite[i] = 0;
+					break;
+				case random:
+					particleSprite[i] = MathUtils.random(sprites.size - 1);
+					break;
+				case animated:
+					particleSprite[i] = Math.min((int)(arrays.percent[i] * sprites.size), sprites.size - 1);
+					break;
+				}
+			}
+			return;
+		}
 		for (int i = 0, n = particles.length; i < n; i++) {
 			Particle particle = particles[i];
 			if (particle == null) break;
@@ -711,6 +1132,7 @@ public class ParticleEmitter {
 	public void preAllocateParticles () {
 		if (sprites.isEmpty())
 			throw new IllegalStateException("ParticleEmitter.setSprites() must have been called before preAllocateParticles()");
+		if (packed) return;
 		for (int index = 0; index < particles.length; index++) {
 			Particle particle = particles[index];
 			if (particle == null) {
@@ -967,6 +1389,15 @@ public class ParticleEmitter {
 		BoundingBox bounds = this.bounds;
 
 		bounds.inf();
+		if (packed) {
+			float[] vertices = arrays.vertices;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				packedVertices(i, vertices, 0);
+				for (int ii = 0; ii < 20; ii += 5)
+					bounds.ext(vertices[ii], vertices[ii + 1], 0);
+			}
+			return bounds;
+		}
 		for (int i = 0, n = active.length; i < n; i++)
 			if (active[i]) {
 				Rectangle r = particles[i].getBoundingRectangle();
@@ -1243,6 +1674,89 @@ public class ParticleEmitter {
 		}
 	}
 
+	/** The state of {@link ParticleEmitter#setPacked(boolean) packed} particles, in parallel arrays. Active particles are stored
+	 * first, in the same order as the draw order. */
+	static private class ParticleArrays {
+		final int[] life, currentLife, sprite;
+		final float[] percent;
+		final float[] x, y, scaleX, scaleY, spriteRotation, color;
+		final float[] xScale, xScaleDiff;
+		final float[] yScale, yScaleDiff;
+		final float[] rotation, rotationDiff;
+		final float[] velocity, velocityDiff;
+		final float[] angle, angleDiff;
+		final float[] angleCos, angleSin;
+		final float[] transparency, transparencyDiff;
+		final float[] wind, windDiff;
+		final float[] gravity, gravityDiff;
+		/** Vertices for drawing, at most 1000 particles at a time. */
+		final float[] vertices;
+
+		ParticleArrays (int capacity) {
+			life = new int[capacity];
+			currentLife = new int[capacity];
+			sprite = new int[capacity];
+			percent = new float[capacity];
+			x = new float[capacity];
+			y = new float[capacity];
+			scaleX = new float[capacity];
+			scaleY = new float[capacity];
+			spriteRotation = new float[capacity];
+			color = new float[capacity];
+			xScale = new float[capacity];
+			xScaleDiff = new float[capacity];
+			yScale = new float[capacity];
+			yScaleDiff = new float[capacity];
+			rotation = new float[capacity];
+			rotationDiff = new float[capacity];
+			velocity = new float[capacity];
+			velocityDiff = new float[capacity];
+			angle = new float[capacity];
+			angleDiff = new float[capacity];
+			angleCos = new float[capacity];
+			angleSin = new float[capacity];
+			transparency = new float[capacity];
+			transparencyDiff = new float[capacity];
+			wind = new float[capacity];
+			windDiff = new float[capacity];
+			gravity = new float[capacity];
+			gravityDiff = new float[capacity];
+			vertices = new float[Math.max(1, Math.min(capacity, 1000)) * 20];
+		}
+
+		/** Copies the particle at the from index over the particle at the to index. */
+		void move (int from, int to) {
+			life[to] = life[from];
+			currentLife[to] = currentLife[from];
+			sprite[to] = sprite[from];
+			percent[to] = percent[from];
+			x[to] = x[from];
+			y[to] = y[from];
+			scaleX[to] = scaleX[from];
+			scaleY[to] = scaleY[from];
+			spriteRotation[to] = spriteRotation[from];
+			color[to] = color[from];
+			xScale[to] = xScale[from];
+			xScaleDiff[to] = xScaleDiff[from];
+			yScale[to] = yScale[from];
+			yScaleDiff[to] = yScaleDiff[from];
+			rotation[to] = rotation[from];
+			rotationDiff[to] = rotationDiff[from];
+			velocity[to] = velocity[from];
+			velocityDiff[to] = velocityDiff[from];
+			angle[to] = angle[from];
+			angleDiff[to] = angleDiff[from];
+			angleCos[to] = angleCos[from];
+			angleSin[to] = angleSin[from];
+			transparency[to] = transparency[from];
+			transparencyDiff[to] = transparencyDiff[from];
+			wind[to] = wind[from];
+			windDiff[to] = windDiff[from];
+			gravity[to] = gravity[from];
+			gravityDiff[to] = gravityDiff[from];
+		}
+	}
+
 	static public class ParticleValue {
 		boolean active;
 		boolean alwaysActive;
@@ -264,6 +264,30 @@ public class SpriteCache implements Disposable {
 		mesh.getVerticesBuffer(true).put(vertices, offset, length);
 	}
 
+	/** Adds all images of the specified vertices to the cache, which can have been built on another thread. The vertices are
+	 * copied at once and must use the same geometry as this cache, see {@link SpriteVertices#SpriteVertices(int, boolean)}. */
+	public void add (SpriteVertices vertices) {
+		if (currentCache == null) throw new IllegalStateException("beginCache must be called before add.");
+		int verticesPerImage = mesh.getNumIndices() > 0 ? 4 : 6;
+		if (vertices.getVerticesPerImage() != verticesPerImage)
+			throw new IllegalArgumentException("SpriteVertices must " + (verticesPerImage == 4 ? "" : "not ") + "use indices.");
+
+		Array<Texture> vertexTextures = vertices.getTextures();
+		IntArray vertexCounts = vertices.getCounts();
+		for (int i = 0, n = vertexTextures.size; i < n; i++) {
+			Texture texture = vertexTextures.get(i);
+			int count = vertexCounts.get(i) * 6;
+			int lastIndex = textures.size - 1;
+			if (lastIndex < 0 || textures.get(lastIndex) != texture) {
+				textures.add(texture);
+				counts.add(count);
+			} else
+				counts.incr(lastIndex, count);
+		}
+
+		mesh.getVerticesBuffer(true).put(vertices.getVertices());
+	}
+
 	/** Adds the specified texture to the cache. */
 	public void add (Texture texture, float x, float y) {
 		final float fx2 = x + texture.getWidth();
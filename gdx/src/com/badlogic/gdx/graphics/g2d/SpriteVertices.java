@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static com.badlogic.gdx.graphics.g2d.Sprite.SPRITE_SIZE;
+import static com.badlogic.gdx.graphics.g2d.Sprite.VERTEX_SIZE;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Sprite vertices stored in a direct buffer, built without OpenGL so they can be built on any thread. This allows the vertices of
+ * large static or semi-static sets, such as tile map or decoration layers, to be built in parallel on worker threads, one
+ * SpriteVertices per thread, and then added to a {@link SpriteCache} with {@link SpriteCache#add(SpriteVertices)} on the render
+ * thread. Adding copies the whole buffer at once and the cache uploads it when it is next drawn.
+ * <p>
+ * Each vertex has 5 elements: x, y, color, u and v. Each image is 4 vertices if the vertices are for indexed geometry, otherwise
+ * 6 vertices, which must match the SpriteCache they are added to. A {@link #setTransform(Affine2) transform} can be applied to the
+ * vertices as they are built, so it doesn't need to be applied on the render thread as {@link CpuSpriteBatch} does.
+ * <p>
+ * A SpriteVertices must not be used by more than one thread at a time. Textures and regions are only read, so they can be shared.
+ * @see SpriteCache
+ * @see #draw(Batch) */
+public class SpriteVertices {
+	private final int verticesPerImage;
+	private FloatBuffer vertices;
+	private int imageCount;
+	private final Array<Texture> textures = new Array();
+	/** The number of images for each texture in {@link #textures}. */
+	private final IntArray counts = new IntArray();
+	private final float[] tempVertices = new float[VERTEX_SIZE * 6], tempVertex = new float[VERTEX_SIZE];
+	private float[] drawVertices;
+
+	private final Affine2 transform = new Affine2();
+	private boolean transformed;
+	private final Color color = new Color(1, 1, 1, 1);
+	private float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** @param size The initial number of images. The buffer grows as needed.
+	 * @param useIndices If true, the vertices are for indexed geometry, see {@link SpriteCache#SpriteCache(int, boolean)}. */
+	public SpriteVertices (int size, boolean useIndices) {
+		verticesPerImage = useIndices ? 4 : 6;
+		vertices = BufferUtils.newFloatBuffer(Math.max(1, size) * verticesPerImage * VERTEX_SIZE);
+	}
+
+	/** Sets the color used to tint images when they are added. Default is {@link Color#WHITE}. */
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	/** @see #setColor(Color) */
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	public Color getColor () {
+		return color;
+	}
+
+	/** @see Color#toFloatBits() */
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		colorPacked = packedColor;
+	}
+
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	/** Sets the transform applied to the positions of images when they are added. */
+	public void setTransform (Affine2 transform) {
+		this.transform.set(transform);
+		transformed = transform.m00 != 1 || transform.m01 != 0 || transform.m02 != 0 || transform.m10 != 0 || transform.m11 != 1
+			|| transform.m12 != 0;
+	}
+
+	/** Sets the transform back to the identity. */
+	public void clearTransform () {
+		transform.idt();
+		transformed = false;
+	}
+
+	public Affine2 getTransform () {
+		return transform;
+	}
+
+	/** Adds the specified vertices. Each vertex should have 5 elements, one for each of the attributes: x, y, color, u, and v. If
+	 * indexed geometry is used, each image should be specified as 4 vertices, otherwise each image should be specified as 6
+	 * vertices. */
+	public void add (Texture texture, float[] vertices, int offset, int length) {
+		int images = length / (verticesPerImage * VERTEX_SIZE);
+		if (images == 0) return;
+		length = images * verticesPerImage * VERTEX_SIZE;
+		ensureCapacity(length);
+		if (!transformed)
+			this.vertices.put(vertices, offset, length);
+		else {
+			Affine2 t = transform;
+			float[] temp = tempVertex;
+			for (int i = offset, n = offset + length; i < n; i += VERTEX_SIZE) {
+				float x = vertices[i], y = vertices[i + 1];
+				temp[0] = t.m00 * x + t.m01 * y + t.m02;
+				temp[1] = t.m10 * x + t.m11 * y + t.m12;
+				temp[2] = vertices[i + 2];
+				temp[3] = vertices[i + 3];
+				temp[4] = vertices[i + 4];
+				this.vertices.put(temp, 0, VERTEX_SIZE);
+			}
+		}
+		addImages(texture, images);
+	}
+
+	/** Adds the specified region. */
+	public void add (TextureRegion region, float x, float y) {
+		add(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	/** Adds the specified region. */
+	public void add (TextureRegion region, float x, float y, float width, float height) {
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+		addQuad(region.texture, x, y, x, fy2, fx2, fy2, fx2, y, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	/** Adds the specified region. */
+	public void add (TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation) {
+
+		// bottom left and top right corner points relative to origin
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		// scale
+		if (scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+
+		// rotate
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+
+			x2 = fx;
+			y2 = fy2;
+
+			x3 = fx2;
+			y3 = fy2;
+
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		addQuad(region.texture, x1 + worldOriginX, y1 + worldOriginY, x2 + worldOriginX, y2 + worldOriginY, x3 + worldOriginX,
+			y3 + worldOriginY, x4 + worldOriginX, y4 + worldOriginY, region.u, region.v2, region.u2, region.v, colorPacked);
+	}
+
+	/** Adds the specified sprite. The sprite's own color is used. */
+	public void add (Sprite sprite) {
+		float[] v = sprite.getVertices();
+		if (verticesPerImage == 4 && !transformed) {
+			add(sprite.getTexture(), v, 0, SPRITE_SIZE);
+			return;
+		}
+		float[] temp = tempVertices;
+		System.arraycopy(v, 0, temp, 0, SPRITE_SIZE);
+		if (verticesPerImage == 6) {
+			System.arraycopy(v, 2 * VERTEX_SIZE, temp, 3 * VERTEX_SIZE, VERTEX_SIZE);
+			System.arraycopy(v, 3 * VERTEX_SIZE, temp, 4 * VERTEX_SIZE, VERTEX_SIZE);
+			System.arraycopy(v, 0, temp, 5 * VERTEX_SIZE, VERTEX_SIZE);
+		}
+		add(sprite.getTexture(), temp, 0, verticesPerImage * VERTEX_SIZE);
+	}
+
+	/** Adds an image with corners in the order bottom left, top left, top right, bottom right. */
+	private void addQuad (Texture texture, float x1, float y1, float x2, float y2, float x3, float y3, float x4, float y4, float u,
+		float v, float u2, float v2, float color) {
+		if (transformed) {
+			Affine2 t = transform;
+			float tx = x1;
+			x1 = t.m00 * tx + t.m01 * y1 + t.m02;
+			y1 = t.m10 * tx + t.m11 * y1 + t.m12;
+			tx = x2;
+			x2 = t.m00 * tx + t.m01 * y2 + t.m02;
+			y2 = t.m10 * tx + t.m11 * y2 + t.m12;
+			tx = x3;
+			x3 = t.m00 * tx + t.m01 * y3 + t.m02;
+			y3 = t.m10 * tx + t.m11 * y3 + t.m12;
+			tx = x4;
+			x4 = t.m00 * tx + t.m01 * y4 + t.m02;
+			y4 = t.m10 * tx + t.m11 * y4 + t.m12;
+		}
+
+		final float[] temp = tempVertices;
+		temp[0] = x1;
+		temp[1] = y1;
+		temp[2] = color;
+		temp[3] = u;
+		temp[4] = v;
+
+		temp[5] = x2;
+		temp[6] = y2;
+		temp[7] = color;
+		temp[8] = u;
+		temp[9] = v2;
+
+		temp[10] = x3;
+		temp[11] = y3;
+		temp[12] = color;
+		temp[13] = u2;
+		temp[14] = v2;
+
+		if (verticesPerImage == 4) {
+			temp[15] = x4;
+			temp[16] = y4;
+			temp[17] = color;
+			temp[18] = u2;
+			temp[19] = v;
+		} else {
+			temp[15] = x3;
+			temp[16] = y3;
+			temp[17] = color;
+			temp[18] = u2;
+			temp[19] = v2;
+
+			temp[20] = x4;
+			temp[21] = y4;
+			temp[22] = color;
+			temp[23] = u2;
+			temp[24] = v;
+
+			temp[25] = x1;
+			temp[26] = y1;
+			temp[27] = color;
+			temp[28] = u;
+			temp[29] = v;
+		}
+		int length = verticesPerImage * VERTEX_SIZE;
+		ensureCapacity(length);
+		vertices.put(temp, 0, length);
+		addImages(texture, 1);
+	}
+
+	private void addImages (Texture texture, int images) {
+		int lastIndex = textures.size - 1;
+		if (lastIndex < 0 || textures.get(lastIndex) != texture) {
+			textures.add(texture);
+			counts.add(images);
+		} else
+			counts.incr(lastIndex, images);
+		imageCount += images;
+	}
+
+	private void ensureCapacity (int length) {
+		if (vertices.remaining() >= length) return;
+		FloatBuffer newVertices = BufferUtils
+			.newFloatBuffer(Math.max(vertices.capacity() * 2, vertices.position() + length + verticesPerImage * VERTEX_SIZE * 16));
+		((Buffer)vertices).flip();
+		newVertices.put(vertices);
+		vertices = newVertices;
+	}
+
+	/** Removes all images. The buffer is kept, so the SpriteVertices can be reused. */
+	public void clear () {
+		((Buffer)vertices).clear();
+		textures.clear();
+		counts.clear();
+		imageCount = 0;
+	}
+
+	/** Returns the number of images added since the last {@link #clear()}. */
+	public int getImageCount () {
+		return imageCount;
+	}
+
+	/** Returns 4 if the vertices are for indexed geometry, otherwise 6. */
+	public int getVerticesPerImage () {
+		return verticesPerImage;
+	}
+
+	/** Returns the textures of consecutive images, in the order they were added. The same texture may occur more than once. */
+	public Array<Texture> getTextures () {
+		return textures;
+	}
+
+	/** Returns the number of consecutive images for each texture in {@link #getTextures()}. */
+	public IntArray getCounts () {
+		return counts;
+	}
+
+	/** Returns a new view of the vertices, from position 0 to the end of the last image. The view's position and limit can be
+	 * changed without affecting this SpriteVertices. For example, to use the vertices with a {@link Mesh}:
+	 *
+	 * <pre>
+	 * FloatBuffer buffer = mesh.getVerticesBuffer(true);
+	 * buffer.clear();
+	 * buffer.put(spriteVertices.getVertices());
+	 * buffer.flip();
+	 * </pre>
+	 */
+	public FloatBuffer getVertices () {
+		FloatBuffer view = vertices.duplicate();
+		((Buffer)view).flip();
+		return view;
+	}
+
+	/** Draws the images with the specified batch, one render call per texture run at most. The vertices must be for indexed
+	 * geometry. This can be used for sets that change too often to be cached, such as with a {@link CpuSpriteBatch}, as the
+	 * vertices already have the transform applied. */
+	public void draw (Batch batch) {
+		if (verticesPerImage != 4) throw new IllegalStateException("Only vertices for indexed geometry can be drawn with a batch.");
+		if (drawVertices == null) drawVertices = new float[SPRITE_SIZE * 256];
+		float[] drawVertices = this.drawVertices;
+		int maxImages = drawVertices.length / SPRITE_SIZE;
+		FloatBuffer view = getVertices();
+		for (int i = 0, n = textures.size; i < n; i++) {
+			Texture texture = textures.get(i);
+			for (int remaining = counts.get(i); remaining > 0;) {
+				int images = Math.min(remaining, maxImages);
+				view.get(drawVertices, 0, images * SPRITE_SIZE);
+				batch.draw(texture, drawVertices, 0, images * SPRITE_SIZE);
+				remaining -= images;
+			}
+		}
+	}
+}
@@ -17,6 +17,9 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.Comparator;
 
 import com.badlogic.gdx.Files.FileType;
@@ -29,8 +32,10 @@ import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
@@ -42,7 +47,10 @@ import com.badlogic.gdx.utils.StreamUtils;
  * @author Nathan Sweet */
 public class TextureAtlas implements Disposable {
 	private final ObjectSet<Texture> textures = new ObjectSet(4);
-	private final Array<AtlasRegion> regions = new Array();
+	private final RegionArray regions = new RegionArray();
+	private final ObjectMap<String, Array<AtlasRegion>> regionsByName = new ObjectMap();
+	private final ObjectMap<String, IntMap<AtlasRegion>> regionsByIndex = new ObjectMap();
+	private int indexedRegions, indexedModCount;
 
 	/** Creates an empty atlas to which regions can be added. */
 	public TextureAtlas () {
@@ -106,6 +114,7 @@ public class TextureAtlas implements Disposable {
 			if (region.flip) atlasRegion.flip(false, true);
 			regions.add(atlasRegion);
 		}
+		updateIndex();
 	}
 
 	/** Adds a region to the atlas. The specified texture will be disposed when the atlas is disposed. */
@@ -114,6 +123,7 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(texture, x, y, width, height);
 		region.name = name;
 		regions.add(region);
+		updateIndex();
 		return region;
 	}
 
@@ -123,44 +133,80 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(textureRegion);
 		region.name = name;
 		regions.add(region);
+		updateIndex();
 		return region;
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. Changes to the returned array are picked up by the find methods the next time a lookup is
+	 * done, except changes made directly to {@link Array#items}. A region's name or index should not be changed after it has been
+	 * added. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the
-	 * result should be cached rather than calling this method multiple times. */
+	/** Returns the first region found with the specified name. Regions are indexed by name, so this method does not need to
+	 * compare against every region in the atlas. */
 	public @Null AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		Array<AtlasRegion> named = findNamed(name);
+		return named == null ? null : named.first();
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times. */
+	/** Returns the first region found with the specified name and index. Regions are indexed by name and index, so this method
+	 * does not need to compare against every region in the atlas. */
 	public @Null AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
-		}
-		return null;
+		if (name == null) return null;
+		updateIndex();
+		IntMap<AtlasRegion> indexed = regionsByIndex.get(name);
+		return indexed == null ? null : indexed.get(index);
 	}
 
 	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple
-	 * times. */
+	 * constructs a new region for each match, so the result should be cached rather than calling this method multiple times. */
 	public Array<AtlasRegion> findRegions (String name) {
-		Array<AtlasRegion> matched = new Array<>(AtlasRegion[]::new);
-		for (int i = 0, n = regions.size; i < n; i++) {
+		Array<AtlasRegion> named = findNamed(name);
+		if (named == null) return new Array<>(AtlasRegion[]::new);
+		Array<AtlasRegion> matched = new Array<>(true, named.size, AtlasRegion[]::new);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
+		return matched;
+	}
+
+	/** Returns the regions with the specified name in the order they were added, or null if there are none. Changes to
+	 * {@link #getRegions()} are indexed lazily, the next time a lookup is done. */
+	private @Null Array<AtlasRegion> findNamed (String name) {
+		if (name == null) return null;
+		updateIndex();
+		return regionsByName.get(name);
+	}
+
+	/** Adds the regions appended to {@link #getRegions()} since the last update to the lookup maps. If the array was changed in
+	 * any other way, the maps are rebuilt. */
+	private void updateIndex () {
+		int start = indexedRegions;
+		if (indexedModCount != regions.modCount || start > regions.size) {
+			regionsByName.clear();
+			regionsByIndex.clear();
+			start = 0;
+		} else if (start == regions.size) //
+			return;
+		for (int i = start, n = regions.size; i < n; i++) {
 			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
+			if (region == null || region.name == null) continue;
+			Array<AtlasRegion> named = regionsByName.get(region.name);
+			if (named == null) {
+				named = new Array(true, 1, AtlasRegion[]::new);
+				regionsByName.put(region.name, named);
+			}
+			named.add(region);
+			IntMap<AtlasRegion> indexed = regionsByIndex.get(region.name);
+			if (indexed == null) {
+				indexed = new IntMap(4);
+				regionsByIndex.put(region.name, indexed);
+			}
+			if (!indexed.containsKey(region.index)) indexed.put(region.index, region);
 		}
-		return matched;
+		indexedRegions = regions.size;
+		indexedModCount = regions.modCount;
 	}
 
 	/** Returns all regions in the atlas as sprites. This method creates a new sprite for each region, so the result should be
@@ -174,38 +220,30 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple
-	 * times. */
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times. */
 	public @Null Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		return region == null ? null : newSprite(region);
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find
-	 * the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public @Null Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.index != index) continue;
-			if (!region.name.equals(name)) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		return region == null ? null : newSprite(region);
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}.
-	 * This method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather
-	 * than calling this method multiple times.
+	 * This method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public Array<Sprite> createSprites (String name) {
-		Array<Sprite> matched = new Array<>(Sprite[]::new);
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = findNamed(name);
+		if (named == null) return new Array<>(Sprite[]::new);
+		Array<Sprite> matched = new Array<>(true, named.size, Sprite[]::new);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
@@ -223,21 +261,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times. */
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times. */
 	public @Null NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.findValue("split");
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				int[] pads = region.findValue("pad");
-				if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.findValue("split");
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		int[] pads = region.findValue("pad");
+		if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -254,6 +288,10 @@ public class TextureAtlas implements Disposable {
 	}
 
 	static public class TextureAtlasData {
+		/** The bytes at the start of a binary atlas file. Text atlas files never start with a zero byte. */
+		static public final byte[] BINARY_HEADER = {0, 'A', 'T', 'L'};
+		static public final int BINARY_VERSION = 1;
+
 		final Array<Page> pages = new Array();
 		final Array<Region> regions = new Array();
 
@@ -264,7 +302,31 @@ public class TextureAtlas implements Disposable {
 			load(packFile, imagesDir, flip);
 		}
 
+		/** Loads a text or binary atlas file. Binary atlas files are detected by their {@link #BINARY_HEADER header}, which is read
+		 * from the same stream that is then parsed. */
 		public void load (FileHandle packFile, FileHandle imagesDir, boolean flip) {
+			InputStream input = packFile.read(4096);
+			try {
+				byte[] header = new byte[BINARY_HEADER.length];
+				int count = 0;
+				while (count < header.length) {
+					int b = input.read();
+					if (b == -1) break;
+					header[count++] = (byte)b;
+				}
+				if (isBinary(header, count))
+					loadBinary(new DataInput(input), packFile, imagesDir, flip);
+				else
+					loadText(new BufferedReader(new InputStreamReader(new HeaderInputStream(header, count, input)), 1024), packFile,
+						imagesDir, flip);
+			} catch (IOException ex) {
+				throw new GdxRuntimeException("Error reading texture atlas file: " + packFile, ex);
+			} finally {
+				StreamUtils.closeQuietly(input);
+			}
+		}
+
+		private void loadText (BufferedReader reader, FileHandle packFile, FileHandle imagesDir, boolean flip) {
 			final String[] entry = new String[5];
 
 			ObjectMap<String, Field<Page>> pageFields = new ObjectMap(15, 0.99f); // Size needed to avoid collisions.
@@ -357,7 +419,6 @@ public class TextureAtlas implements Disposable {
 				}
 			});
 
-			BufferedReader reader = packFile.reader(1024);
 			String line = null;
 			try {
 				line = reader.readLine();
@@ -436,16 +497,141 @@ public class TextureAtlas implements Disposable {
 				StreamUtils.closeQuietly(reader);
 			}
 
-			if (hasIndexes[0]) {
-				regions.sort(new Comparator<Region>() {
-					public int compare (Region region1, Region region2) {
-						int i1 = region1.index;
-						if (i1 == -1) i1 = Integer.MAX_VALUE;
-						int i2 = region2.index;
-						if (i2 == -1) i2 = Integer.MAX_VALUE;
-						return i1 - i2;
+			if (hasIndexes[0]) sortRegions();
+		}
+
+		/** Loads an atlas file written in the binary format. Each page is prefixed by a 1 byte and followed by its regions, so pages
+		 * can be appended to an existing file. */
+		private void loadBinary (DataInput input, FileHandle packFile, FileHandle imagesDir, boolean flip) {
+			try {
+				int version = input.readInt(true);
+				if (version != BINARY_VERSION) throw new GdxRuntimeException("Unsupported binary atlas version: " + version);
+				boolean hasIndexes = false;
+				while (input.read() == 1) {
+					Page page = new Page();
+					page.name = input.readString();
+					page.textureFile = imagesDir.child(page.name);
+					page.width = input.readInt(true);
+					page.height = input.readInt(true);
+					page.format = Format.valueOf(input.readString());
+					page.minFilter = TextureFilter.valueOf(input.readString());
+					page.magFilter = TextureFilter.valueOf(input.readString());
+					page.useMipMaps = page.minFilter.isMipMap();
+					int flags = input.readByte();
+					if ((flags & 1) != 0) page.uWrap = TextureWrap.Repeat;
+					if ((flags & 2) != 0) page.vWrap = TextureWrap.Repeat;
+					page.pma = (flags & 4) != 0;
+					pages.add(page);
+
+					int regionCount = input.readInt(true);
+					regions.ensureCapacity(regionCount);
+					for (int i = 0; i < regionCount; i++) {
+						Region region = new Region();
+						region.page = page;
+						region.name = input.readString();
+						region.flip = flip;
+						region.index = input.readInt(false);
+						if (region.index != -1) hasIndexes = true;
+						region.left = input.readInt(true);
+						region.top = input.readInt(true);
+						region.width = input.readInt(true);
+						region.height = input.readInt(true);
+						region.offsetX = input.readInt(false);
+						region.offsetY = input.readInt(false);
+						region.originalWidth = input.readInt(true);
+						region.originalHeight = input.readInt(true);
+						region.degrees = input.readInt(true);
+						region.rotate = region.degrees == 90;
+						int nameCount = input.readInt(true);
+						if (nameCount > 0) {
+							region.names = new String[nameCount];
+							region.values = new int[nameCount][];
+							for (int ii = 0; ii < nameCount; ii++) {
+								region.names[ii] = input.readString();
+								int[] values = new int[input.readInt(true)];
+								for (int iii = 0; iii < values.length; iii++)
+									values[iii] = input.readInt(false);
+								region.values[ii] = values;
+							}
+						}
+						regions.add(region);
 					}
-				});
+				}
+				if (hasIndexes) sortRegions();
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error reading binary texture atlas file: " + packFile, ex);
+			} finally {
+				StreamUtils.closeQuietly(input);
+			}
+		}
+
+		private void sortRegions () {
+			regions.sort(new Comparator<Region>() {
+				public int compare (Region region1, Region region2) {
+					int i1 = region1.index;
+					if (i1 == -1) i1 = Integer.MAX_VALUE;
+					int i2 = region2.index;
+					if (i2 == -1) i2 = Integer.MAX_VALUE;
+					return i1 - i2;
+				}
+			});
+		}
+
+		/** Returns true if the file starts with the {@link #BINARY_HEADER binary atlas header}. Loading does not need this check,
+		 * {@link #load(FileHandle, FileHandle, boolean)} detects the format while reading. */
+		static public boolean isBinary (FileHandle packFile) {
+			InputStream input = packFile.read();
+			try {
+				for (int i = 0; i < BINARY_HEADER.length; i++)
+					if (input.read() != BINARY_HEADER[i]) return false;
+				return true;
+			} catch (IOException ex) {
+				throw new GdxRuntimeException("Error reading texture atlas file: " + packFile, ex);
+			} finally {
+				StreamUtils.closeQuietly(input);
+			}
+		}
+
+		static private boolean isBinary (byte[] header, int count) {
+			if (count != BINARY_HEADER.length) return false;
+			for (int i = 0; i < count; i++)
+				if (header[i] != BINARY_HEADER[i]) return false;
+			return true;
+		}
+
+		/** Returns the bytes that were read to detect the format, then the rest of the stream. */
+		static private class HeaderInputStream extends InputStream {
+			private final byte[] header;
+			private final int count;
+			private final InputStream input;
+			private int position;
+
+			HeaderInputStream (byte[] header, int count, InputStream input) {
+				this.header = header;
+				this.count = count;
+				this.input = input;
+			}
+
+			@Override
+			public int read () throws IOException {
+				if (position < count) return header[position++] & 0xff;
+				return input.read();
+			}
+
+			@Override
+			public int read (byte[] bytes, int offset, int length) throws IOException {
+				if (position < count) {
+					int n = Math.min(length, count - position);
+					System.arraycopy(header, position, bytes, offset, n);
+					position += n;
+					return n;
+				}
+				return input.read(bytes, offset, length);
+			}
+
+			@Override
+			public void close () throws IOException {
+				input.close();
 			}
 		}
 
@@ -517,6 +703,114 @@ public class TextureAtlas implements Disposable {
 		}
 	}
 
+	/** The regions of an atlas, which counts every change other than appending regions so the lookup maps know when they must be
+	 * rebuilt. */
+	static private class RegionArray extends Array<AtlasRegion> {
+		int modCount;
+
+		@Override
+		public void set (int index, AtlasRegion value) {
+			super.set(index, value);
+			modCount++;
+		}
+
+		@Override
+		public void insert (int index, AtlasRegion value) {
+			super.insert(index, value);
+			modCount++;
+		}
+
+		@Override
+		public void insertRange (int index, int count) {
+			super.insertRange(index, count);
+			modCount++;
+		}
+
+		@Override
+		public void swap (int first, int second) {
+			super.swap(first, second);
+			modCount++;
+		}
+
+		@Override
+		public boolean replaceFirst (@Null AtlasRegion value, boolean identity, AtlasRegion replacement) {
+			modCount++;
+			return super.replaceFirst(value, identity, replacement);
+		}
+
+		@Override
+		public int replaceAll (@Null AtlasRegion value, boolean identity, @Null AtlasRegion replacement) {
+			modCount++;
+			return super.replaceAll(value, identity, replacement);
+		}
+
+		@Override
+		public AtlasRegion removeIndex (int index) {
+			modCount++;
+			return super.removeIndex(index);
+		}
+
+		@Override
+		public void removeRange (int start, int end) {
+			super.removeRange(start, end);
+			modCount++;
+		}
+
+		@Override
+		public AtlasRegion pop () {
+			modCount++;
+			return super.pop();
+		}
+
+		@Override
+		public void clear () {
+			super.clear();
+			modCount++;
+		}
+
+		@Override
+		public void truncate (int newSize) {
+			super.truncate(newSize);
+			modCount++;
+		}
+
+		@Override
+		public void sort () {
+			super.sort();
+			modCount++;
+		}
+
+		@Override
+		public void sort (Comparator<? super AtlasRegion> comparator) {
+			super.sort(comparator);
+			modCount++;
+		}
+
+		@Override
+		public AtlasRegion selectRanked (Comparator<AtlasRegion> comparator, int kthLowest) {
+			modCount++;
+			return super.selectRanked(comparator, kthLowest);
+		}
+
+		@Override
+		public int selectRankedIndex (Comparator<AtlasRegion> comparator, int kthLowest) {
+			modCount++;
+			return super.selectRankedIndex(comparator, kthLowest);
+		}
+
+		@Override
+		public void reverse () {
+			super.reverse();
+			modCount++;
+		}
+
+		@Override
+		public void shuffle () {
+			super.shuffle();
+			modCount++;
+		}
+	}
+
 	/** Describes the region of a packed image and provides information about the original image before it was packed. */
 	static public class AtlasRegion extends TextureRegion {
 		/** The number at the end of the original image file name, or -1 if none.<br>
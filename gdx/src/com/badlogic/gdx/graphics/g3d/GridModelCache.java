@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Splits static scenery into a grid of cells, each with its own {@link ModelCache}, so adding, moving or removing a
+ * {@link RenderableProvider} only rebuilds the cache of its cell instead of all merged meshes. Changes mark cells dirty, and
+ * {@link #rebuild()} rebuilds the dirty cells. {@link #rebuild(AsyncExecutor)} combines the renderables on the executor's thread
+ * instead, while the cells keep rendering their previous content until {@link #update()} uploads the result.
+ * <p>
+ * The merged parts of each cell have bounds, so {@link ModelBatch#setFrustumCulling(boolean) frustum culling} skips cells that
+ * are not visible. Providers that are rendered with the cache should not be rendered separately. */
+public class GridModelCache implements RenderableProvider, Disposable {
+	/** The size of the cells along each axis. */
+	public final float cellSize;
+	/** Number of cells rebuilt by the last call to {@link #rebuild()} or {@link #rebuild(AsyncExecutor)}. */
+	public int rebuiltCells;
+
+	private final LongMap<Cell> cellsByKey = new LongMap<Cell>();
+	private final Array<Cell> cells = new Array<Cell>();
+	private final ObjectMap<RenderableProvider, Cell> providerCells = new ObjectMap<RenderableProvider, Cell>();
+	private final Vector3 tmp = new Vector3();
+
+	/** @param cellSize The size of the cells along each axis, in world units. Larger cells make fewer render calls, smaller cells
+	 *           make rebuilds cheaper. */
+	public GridModelCache (float cellSize) {
+		if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0: " + cellSize);
+		this.cellSize = cellSize;
+	}
+
+	/** Creates the cache of a new cell. By default a {@link ModelCache} with a {@link ModelCache.TightMeshPool}. */
+	protected ModelCache newCache () {
+		return new ModelCache(new ModelCache.Sorter(), new ModelCache.TightMeshPool());
+	}
+
+	/** Adds the instance to the cell that contains the translation of its transform, see
+	 * {@link #add(RenderableProvider, float, float, float)}. */
+	public void add (ModelInstance instance) {
+		instance.transform.getTranslation(tmp);
+		add(instance, tmp.x, tmp.y, tmp.z);
+	}
+
+	/** Adds the provider to the cell that contains the position, or moves it there if it was added before. The renderables of the
+	 * provider are obtained again when its cell is rebuilt. */
+	public void add (RenderableProvider provider, float x, float y, float z) {
+		final long key = key(MathUtils.floor(x / cellSize), MathUtils.floor(y / cellSize), MathUtils.floor(z / cellSize));
+		Cell cell = cellsByKey.get(key);
+		if (cell == null) {
+			cell = new Cell(key, newCache());
+			cellsByKey.put(key, cell);
+			cells.add(cell);
+		}
+		final Cell previous = providerCells.put(provider, cell);
+		if (previous == cell) {
+			cell.dirty = true;
+			return;
+		}
+		if (previous != null) {
+			previous.providers.removeValue(provider, true);
+			previous.dirty = true;
+		}
+		cell.providers.add(provider);
+		cell.dirty = true;
+	}
+
+	/** Removes the provider, its cell is rebuilt on the next rebuild.
+	 * @return Whether the provider was added. */
+	public boolean remove (RenderableProvider provider) {
+		final Cell cell = providerCells.remove(provider);
+		if (cell == null) return false;
+		cell.providers.removeValue(provider, true);
+		cell.dirty = true;
+		return true;
+	}
+
+	/** Marks the cell of the provider dirty, e.g. when the provider moved within its cell or its renderables changed. To move a
+	 * provider to another cell, add it again.
+	 * @return Whether the provider was added. */
+	public boolean invalidate (RenderableProvider provider) {
+		final Cell cell = providerCells.get(provider);
+		if (cell == null) return false;
+		cell.dirty = true;
+		return true;
+	}
+
+	/** Removes all providers, the cells are emptied on the next rebuild. */
+	public void clear () {
+		providerCells.clear();
+		for (int i = 0; i < cells.size; i++) {
+			final Cell cell = cells.get(i);
+			cell.providers.clear();
+			cell.dirty = true;
+		}
+	}
+
+	/** Rebuilds the caches of the dirty cells on the calling thread. Cells that are still merging in the background stay dirty. */
+	public void rebuild () {
+		rebuild(null);
+	}
+
+	/** Starts rebuilding the caches of the dirty cells, combining the renderables on the executor's thread. Call {@link #update()}
+	 * on the rendering thread until it returns true to upload the results. The providers must not change until then.
+	 * @param executor The executor to merge with, or null to rebuild on the calling thread. */
+	public void rebuild (AsyncExecutor executor) {
+		rebuiltCells = 0;
+		for (int i = cells.size - 1; i >= 0; i--) {
+			final Cell cell = cells.get(i);
+			if (!cell.dirty || cell.cache.isMerging()) continue;
+			cell.dirty = false;
+			rebuiltCells++;
+			if (cell.providers.size == 0) {
+				cell.cache.dispose();
+				cellsByKey.remove(cell.key);
+				cells.removeIndex(i);
+				continue;
+			}
+			final ModelCache cache = cell.cache;
+			cache.begin();
+			for (int j = 0, n = cell.providers.size; j < n; j++)
+				cache.add(cell.providers.get(j));
+			if (executor == null)
+				cache.end();
+			else
+				cache.end(executor);
+		}
+	}
+
+	/** Uploads the cells that finished merging in the background. Must be called on the rendering thread.
+	 * @return Whether no cell is still merging. */
+	public boolean update () {
+		boolean done = true;
+		for (int i = 0, n = cells.size; i < n; i++)
+			if (!cells.get(i).cache.update()) done = false;
+		return done;
+	}
+
+	/** @return Whether any cell has changes that have not been rebuilt yet. */
+	public boolean isDirty () {
+		for (int i = 0, n = cells.size; i < n; i++)
+			if (cells.get(i).dirty) return true;
+		return false;
+	}
+
+	/** @return The number of cells, including cells that are emptied on the next rebuild. */
+	public int getCellCount () {
+		return cells.size;
+	}
+
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		for (int i = 0, n = cells.size; i < n; i++)
+			cells.get(i).cache.getRenderables(renderables, pool);
+	}
+
+	/** Waits for background merges to finish and disposes the caches of all cells. */
+	@Override
+	public void dispose () {
+		for (int i = 0, n = cells.size; i < n; i++)
+			cells.get(i).cache.dispose();
+		cells.clear();
+		cellsByKey.clear();
+		providerCells.clear();
+	}
+
+	static private long key (int x, int y, int z) {
+		return ((long)(x & 0x1FFFFF) << 42) | ((long)(y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+	}
+
+	static private class Cell {
+		final long key;
+		final ModelCache cache;
+		final Array<RenderableProvider> providers = new Array<RenderableProvider>();
+		boolean dirty;
+
+		Cell (long key, ModelCache cache) {
+			this.key = key;
+			this.cache = cache;
+		}
+	}
+}
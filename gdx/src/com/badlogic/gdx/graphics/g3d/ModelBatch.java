@@ -16,8 +16,17 @@
 
 package com.badlogic.gdx.graphics.g3d;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
@@ -25,10 +34,15 @@ import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
+import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pool;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
@@ -39,6 +53,12 @@ import com.badlogic.gdx.utils.Pool;
  * 
  * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}.
  * 
+ * When a {@link DefaultShader} is created with {@link DefaultShader.Config#instancing} enabled, consecutive sorted renderables
+ * that use that shader and share the same mesh part, material and environment are rendered with one instanced draw call.
+ * Renderables with bones or with a {@link com.badlogic.gdx.graphics.Mesh#isVertexArray() vertex array} mesh are rendered one
+ * by one. The {@link RenderableSorter} should keep the renderables of a mesh part together, for example by sorting on the mesh
+ * part first.
+ * 
  * @author xoppa, badlogic */
 public class ModelBatch implements Disposable {
 	protected static class RenderablePool extends FlushablePool<Renderable> {
@@ -71,6 +91,25 @@ public class ModelBatch implements Disposable {
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
 
+	private boolean frustumCulling;
+
+	/** Number of renderables provided to the batch since the last {@link #begin(Camera)}, including culled renderables. **/
+	public int submittedRenderables = 0;
+
+	/** Number of renderables that were not rendered since the last {@link #begin(Camera)}, because
+	 * {@link #setFrustumCulling(boolean) frustum culling} found them outside the camera's frustum. **/
+	public int culledRenderables = 0;
+
+	/** Number of renderables that were rendered with instanced draw calls since the last {@link #begin(Camera)}, see
+	 * {@link DefaultShader.Config#instancing}. **/
+	public int instancedRenderables = 0;
+
+	/** list of all model batches that have an instance buffer **/
+	static final Map<Application, Array<ModelBatch>> instancedBatches = new HashMap<Application, Array<ModelBatch>>();
+
+	private @Null InstanceBufferObject instances;
+	private float[] instanceData = new float[0];
+
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end()
 	 * yourself.
 	 * @param context The {@link RenderContext} to use.
@@ -153,6 +192,9 @@ public class ModelBatch implements Disposable {
 	public void begin (final Camera cam) {
 		if (camera != null) throw new GdxRuntimeException("Call end() first.");
 		camera = cam;
+		submittedRenderables = 0;
+		culledRenderables = 0;
+		instancedRenderables = 0;
 		if (ownContext) context.begin();
 	}
 
@@ -195,25 +237,119 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** If true, renderables that are outside the camera's frustum are discarded when they are provided to the batch, before a
+	 * shader is fetched for them. See {@link #isVisible(Camera, Renderable)}. Default is false. */
+	public void setFrustumCulling (boolean frustumCulling) {
+		this.frustumCulling = frustumCulling;
+	}
+
+	public boolean getFrustumCulling () {
+		return frustumCulling;
+	}
+
+	/** Returns whether the renderable may be visible to the camera, used when {@link #setFrustumCulling(boolean) frustum culling}
+	 * is enabled. By default the bounding box of the renderable's {@link MeshPart}, transformed by its
+	 * {@link Renderable#worldTransform}, is tested against the camera's frustum. Renderables with {@link Renderable#bones bones}
+	 * or whose mesh part bounds were not calculated (see {@link MeshPart#update()}) are always considered visible. */
+	protected boolean isVisible (final Camera camera, final Renderable renderable) {
+		final MeshPart meshPart = renderable.meshPart;
+		if (meshPart.radius < 0 || renderable.bones != null) return true;
+		final float[] val = renderable.worldTransform.val;
+		final Vector3 center = meshPart.center, halfExtents = meshPart.halfExtents;
+		final float x = val[Matrix4.M00] * center.x + val[Matrix4.M01] * center.y + val[Matrix4.M02] * center.z
+			+ val[Matrix4.M03];
+		final float y = val[Matrix4.M10] * center.x + val[Matrix4.M11] * center.y + val[Matrix4.M12] * center.z
+			+ val[Matrix4.M13];
+		final float z = val[Matrix4.M20] * center.x + val[Matrix4.M21] * center.y + val[Matrix4.M22] * center.z
+			+ val[Matrix4.M23];
+		// The axis aligned box enclosing the transformed box.
+		final float halfWidth = Math.abs(val[Matrix4.M00]) * halfExtents.x + Math.abs(val[Matrix4.M01]) * halfExtents.y
+			+ Math.abs(val[Matrix4.M02]) * halfExtents.z;
+		final float halfHeight = Math.abs(val[Matrix4.M10]) * halfExtents.x + Math.abs(val[Matrix4.M11]) * halfExtents.y
+			+ Math.abs(val[Matrix4.M12]) * halfExtents.z;
+		final float halfDepth = Math.abs(val[Matrix4.M20]) * halfExtents.x + Math.abs(val[Matrix4.M21]) * halfExtents.y
+			+ Math.abs(val[Matrix4.M22]) * halfExtents.z;
+		return camera.frustum.boundsInFrustum(x, y, z, halfWidth, halfHeight, halfDepth);
+	}
+
+	/** Counts the renderables from the offset and, if frustum culling is enabled, removes those that are not visible. */
+	private void cull (final int offset) {
+		final Array<Renderable> renderables = this.renderables;
+		submittedRenderables += renderables.size - offset;
+		if (!frustumCulling) return;
+		final Camera camera = this.camera;
+		int visible = offset;
+		for (int i = offset, n = renderables.size; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (isVisible(camera, renderable)) renderables.set(visible++, renderable);
+		}
+		culledRenderables += renderables.size - visible;
+		renderables.truncate(visible);
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
 		sorter.sort(camera, renderables);
 		Shader currentShader = null;
-		for (int i = 0; i < renderables.size; i++) {
+		for (int i = 0; i < renderables.size;) {
 			final Renderable renderable = renderables.get(i);
 			if (currentShader != renderable.shader) {
 				if (currentShader != null) currentShader.end();
 				currentShader = renderable.shader;
 				currentShader.begin(camera, context);
 			}
-			currentShader.render(renderable);
+			final int count = instanceCount(i);
+			if (count > 1) {
+				renderInstanced((DefaultShader)currentShader, i, count);
+				instancedRenderables += count;
+			} else
+				currentShader.render(renderable);
+			i += count;
 		}
 		if (currentShader != null) currentShader.end();
 		renderablesPool.flush();
 		renderables.clear();
 	}
 
+	/** Returns the number of renderables from the offset that can be rendered with one instanced draw call, at least 1. */
+	private int instanceCount (final int offset) {
+		final Array<Renderable> renderables = this.renderables;
+		final Renderable first = renderables.get(offset);
+		if (!(first.shader instanceof DefaultShader) || !((DefaultShader)first.shader).isInstanced() || first.bones != null
+			|| first.meshPart.mesh.isVertexArray()) return 1;
+		int end = offset + 1;
+		for (int n = renderables.size; end < n; end++) {
+			final Renderable renderable = renderables.get(end);
+			if (renderable.shader != first.shader || renderable.bones != null || renderable.environment != first.environment
+				|| !renderable.meshPart.equals(first.meshPart)
+				|| (renderable.material != first.material && !renderable.material.equals(first.material))) break;
+		}
+		return end - offset;
+	}
+
+	/** Writes the world transforms of the renderables to the instance buffer and renders them with the shader. */
+	private void renderInstanced (final DefaultShader shader, final int offset, final int count) {
+		final int size = count * 16;
+		if (instanceData.length < size) instanceData = new float[MathUtils.nextPowerOfTwo(size)];
+		if (instances == null || instances.getNumMaxInstances() < count) {
+			if (instances != null)
+				instances.dispose();
+			else
+				addInstancedBatch(Gdx.app, this);
+			instances = new InstanceBufferObject(false, MathUtils.nextPowerOfTwo(count),
+				new VertexAttributes(new VertexAttribute(Usage.Generic, 4, DefaultShader.worldTransAttribute, 0),
+					new VertexAttribute(Usage.Generic, 4, DefaultShader.worldTransAttribute, 1),
+					new VertexAttribute(Usage.Generic, 4, DefaultShader.worldTransAttribute, 2),
+					new VertexAttribute(Usage.Generic, 4, DefaultShader.worldTransAttribute, 3)));
+		}
+		final float[] instanceData = this.instanceData;
+		for (int i = 0; i < count; i++)
+			System.arraycopy(renderables.get(offset + i).worldTransform.val, 0, instanceData, i * 16, 16);
+		instances.setInstanceData(instanceData, 0, size);
+		shader.render(renderables.get(offset), instances);
+	}
+
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
 	 * batch, causing any renderables provided using one of the render() methods to be rendered. After a call to this method the
 	 * OpenGL context can be altered again. */
@@ -227,6 +363,11 @@ public class ModelBatch implements Disposable {
 	 * Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
 	 * @param renderable The {@link Renderable} to be added. */
 	public void render (final Renderable renderable) {
+		submittedRenderables++;
+		if (frustumCulling && !isVisible(camera, renderable)) {
+			culledRenderables++;
+			return;
+		}
 		renderable.shader = shaderProvider.getShader(renderable);
 		renderables.add(renderable);
 	}
@@ -237,6 +378,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shaderProvider.getShader(renderable);
@@ -259,6 +401,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Environment environment) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -284,6 +427,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Shader shader) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shader;
@@ -311,6 +455,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Environment environment, final Shader shader) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -335,5 +480,31 @@ public class ModelBatch implements Disposable {
 	@Override
 	public void dispose () {
 		shaderProvider.dispose();
+		if (instances != null) {
+			instances.dispose();
+			instances = null;
+			if (instancedBatches.get(Gdx.app) != null) instancedBatches.get(Gdx.app).removeValue(this, true);
+		}
+	}
+
+	private static void addInstancedBatch (Application app, ModelBatch batch) {
+		Array<ModelBatch> managedResources = instancedBatches.get(app);
+		if (managedResources == null) managedResources = new Array<ModelBatch>();
+		managedResources.add(batch);
+		instancedBatches.put(app, managedResources);
+	}
+
+	/** Drops the instance buffers of all model batches, so the next instanced draw call creates a new one. The buffer objects of
+	 * a lost context are not deleted, as their handles may already name new buffers. Use this in case of a context loss.
+	 * @param app */
+	public static void invalidateAllModelBatches (Application app) {
+		Array<ModelBatch> batches = instancedBatches.remove(app);
+		if (batches == null) return;
+		for (int i = 0; i < batches.size; i++)
+			batches.get(i).instances = null;
+	}
+
+	public static void clearAllModelBatches (Application app) {
+		instancedBatches.remove(app);
 	}
 }
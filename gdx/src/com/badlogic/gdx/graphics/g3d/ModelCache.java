@@ -26,15 +26,23 @@ import com.badlogic.gdx.graphics.g3d.utils.MeshBuilder;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.badlogic.gdx.utils.ShortArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** ModelCache tries to combine multiple render calls into a single render call by merging them where possible. Can be used for
  * multiple type of models (e.g. varying vertex attributes or materials), the ModelCache will combine where possible. Can be used
  * dynamically (e.g. every frame) or statically (e.g. to combine part of scenery). Be aware that any combined vertices are
  * directly transformed, therefore the resulting {@link Renderable#worldTransform} might not be suitable for sorting anymore (such
- * as the default sorter of ModelBatch does).
+ * as the default sorter of ModelBatch does). The combining can be done on another thread with {@link #end(AsyncExecutor)}, and
+ * {@link GridModelCache} splits large static scenery into cells so a change only rebuilds one cell.
  * @author Xoppa */
 public class ModelCache implements Disposable, RenderableProvider {
 	/** Allows to reuse one or more meshes while avoiding creating new objects. Depending on the implementation it might add memory
@@ -168,18 +176,41 @@ public class ModelCache implements Disposable, RenderableProvider {
 			return new Renderable();
 		}
 	};
+	/** Obtains the renderables of the providers that are added. Swapped with {@link #renderedItemsPool} when the cache is
+	 * committed, because skinned renderables are rendered by reference. */
+	private FlushablePool<Renderable> itemsPool = new FlushablePool<Renderable>() {
+		@Override
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+	};
+	private FlushablePool<Renderable> renderedItemsPool = new FlushablePool<Renderable>() {
+		@Override
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+	};
 	private FlushablePool<MeshPart> meshPartPool = new FlushablePool<MeshPart>() {
 		@Override
 		protected MeshPart newObject () {
 			return new MeshPart();
 		}
 	};
+	private Pool<MergedMesh> mergedPool = new Pool<MergedMesh>() {
+		@Override
+		protected MergedMesh newObject () {
+			return new MergedMesh();
+		}
+	};
 
 	private Array<Renderable> items = new Array<Renderable>();
+	private Array<Renderable> skinned = new Array<Renderable>();
+	private Array<MergedMesh> merged = new Array<MergedMesh>();
 	private Array<Renderable> tmp = new Array<Renderable>();
 
 	private MeshBuilder meshBuilder;
 	private boolean building;
+	private @Null AsyncResult<Void> merging;
 	private RenderableSorter sorter;
 	private MeshPool meshPool;
 	private Camera camera;
@@ -215,14 +246,13 @@ public class ModelCache implements Disposable, RenderableProvider {
 	 * @param camera The {@link Camera} that will passed to the {@link RenderableSorter} */
 	public void begin (Camera camera) {
 		if (building) throw new GdxRuntimeException("Call end() after calling begin()");
+		if (merging != null) throw new GdxRuntimeException("Call update() until the previous merge is done");
 		building = true;
 
 		this.camera = camera;
-		renderablesPool.flush();
-		renderables.clear();
+		itemsPool.flush();
 		items.clear();
-		meshPartPool.flush();
-		meshPool.flush();
+		skinned.clear();
 	}
 
 	private Renderable obtainRenderable (Material material, int primitiveType) {
@@ -250,65 +280,125 @@ public class ModelCache implements Disposable, RenderableProvider {
 		if (!building) throw new GdxRuntimeException("Call begin() prior to calling end()");
 		building = false;
 
-		if (items.size == 0) return;
-		sorter.sort(camera, items);
+		merge();
+		commit();
+	}
 
-		int itemCount = items.size;
-		int initCount = renderables.size;
+	/** Finishes creating the cache like {@link #end()}, but combines the renderables on the executor's thread. Until the combined
+	 * meshes are uploaded by {@link #update()} the cache keeps rendering its previous content, so {@link #update()} must be called
+	 * on the rendering thread (e.g. every frame) until it returns true. The added renderables and their meshes must not change
+	 * until then.
+	 * @return The result of the merge, which is done when the renderables are combined. */
+	public AsyncResult<Void> end (AsyncExecutor executor) {
+		if (!building) throw new GdxRuntimeException("Call begin() prior to calling end()");
+		building = false;
 
-		final Renderable first = items.get(0);
-		VertexAttributes vertexAttributes = first.meshPart.mesh.getVertexAttributes();
-		Material material = first.material;
-		int primitiveType = first.meshPart.primitiveType;
-		int offset = renderables.size;
+		return merging = executor.submit(new AsyncTask<Void>() {
+			@Override
+			public Void call () {
+				merge();
+				return null;
+			}
+		});
+	}
 
-		meshBuilder.begin(vertexAttributes);
-		MeshPart part = meshBuilder.part("", primitiveType, meshPartPool.obtain());
-		renderables.add(obtainRenderable(material, primitiveType));
+	/** Uploads the combined meshes of {@link #end(AsyncExecutor)} once the merge is done. Must be called on the rendering thread.
+	 * @return Whether the cache is up to date, false while the merge is still running.
+	 * @throws GdxRuntimeException if the merge failed. */
+	public boolean update () {
+		if (merging == null) return true;
+		if (!merging.isDone()) return false;
+		final AsyncResult<Void> result = merging;
+		merging = null;
+		result.get();
+		commit();
+		return true;
+	}
+
+	/** @return Whether a merge started by {@link #end(AsyncExecutor)} hasn't been uploaded by {@link #update()} yet. */
+	public boolean isMerging () {
+		return merging != null;
+	}
+
+	/** Combines the items into {@link #merged} on the CPU, which doesn't require a GL context. */
+	private void merge () {
+		meshPartPool.flush();
+		mergedPool.freeAll(merged);
+		merged.clear();
+
+		if (items.size == 0) return;
+		sorter.sort(camera, items);
+
+		MergedMesh current = null;
+		VertexAttributes vertexAttributes = null;
+		Material material = null;
+		int primitiveType = 0;
 
 		for (int i = 0, n = items.size; i < n; ++i) {
 			final Renderable renderable = items.get(i);
-			final VertexAttributes va = renderable.meshPart.mesh.getVertexAttributes();
+			final Mesh source = renderable.meshPart.mesh;
+			final VertexAttributes va = source.getVertexAttributes();
 			final Material mat = renderable.material;
 			final int pt = renderable.meshPart.primitiveType;
 
-			final boolean sameAttributes = va.equals(vertexAttributes);
-			final boolean indexedMesh = renderable.meshPart.mesh.getNumIndices() > 0;
-			final int verticesToAdd = indexedMesh ? renderable.meshPart.mesh.getNumVertices() : renderable.meshPart.size;
-			final boolean canHoldVertices = meshBuilder.getNumVertices() + verticesToAdd <= MeshBuilder.MAX_VERTICES;
-			final boolean sameMesh = sameAttributes && canHoldVertices;
+			final boolean sameAttributes = current != null && va.equals(vertexAttributes);
+			final boolean indexedMesh = source.getNumIndices() > 0;
+			final int verticesToAdd = indexedMesh ? source.getNumVertices() : renderable.meshPart.size;
+			final boolean sameMesh = sameAttributes && meshBuilder.getNumVertices() + verticesToAdd <= MeshBuilder.MAX_VERTICES;
 			final boolean samePart = sameMesh && pt == primitiveType && mat.same(material, true);
 
 			if (!samePart) {
 				if (!sameMesh) {
-					final Mesh mesh = meshBuilder
-						.end(meshPool.obtain(vertexAttributes, meshBuilder.getNumVertices(), meshBuilder.getNumIndices()));
-					while (offset < renderables.size)
-						renderables.get(offset++).meshPart.mesh = mesh;
-					meshBuilder.begin(vertexAttributes = va);
+					if (current != null) meshBuilder.end(current.vertices, current.indices);
+					current = mergedPool.obtain();
+					current.attributes = vertexAttributes = va;
+					merged.add(current);
+					meshBuilder.begin(va);
 				}
-
-				final MeshPart newPart = meshBuilder.part("", pt, meshPartPool.obtain());
-				final Renderable previous = renderables.get(renderables.size - 1);
-				previous.meshPart.offset = part.offset;
-				previous.meshPart.size = part.size;
-				part = newPart;
-
-				renderables.add(obtainRenderable(material = mat, primitiveType = pt));
+				current.parts.add(meshBuilder.part("", primitiveType = pt, meshPartPool.obtain()));
+				current.materials.add(material = mat);
 			}
 
 			meshBuilder.setVertexTransform(renderable.worldTransform);
-			meshBuilder.addMesh(renderable.meshPart.mesh, renderable.meshPart.offset, renderable.meshPart.size);
+			// Reading a mesh moves the position of its buffer, so caches that merge on different threads read one at a time.
+			synchronized (source) {
+				meshBuilder.addMesh(source, renderable.meshPart.offset, renderable.meshPart.size);
+			}
 		}
+		meshBuilder.end(current.vertices, current.indices);
+	}
 
-		final Mesh mesh = meshBuilder
-			.end(meshPool.obtain(vertexAttributes, meshBuilder.getNumVertices(), meshBuilder.getNumIndices()));
-		while (offset < renderables.size)
-			renderables.get(offset++).meshPart.mesh = mesh;
+	/** Uploads the {@link #merged} meshes and replaces the renderables of the cache. Must be called on the rendering thread. */
+	private void commit () {
+		renderablesPool.flush();
+		renderables.clear();
+		meshPool.flush();
 
-		final Renderable previous = renderables.get(renderables.size - 1);
-		previous.meshPart.offset = part.offset;
-		previous.meshPart.size = part.size;
+		renderedItemsPool.flush();
+		final FlushablePool<Renderable> rendered = itemsPool;
+		itemsPool = renderedItemsPool;
+		renderedItemsPool = rendered;
+
+		renderables.addAll(skinned);
+		for (int i = 0, n = merged.size; i < n; ++i) {
+			final MergedMesh m = merged.get(i);
+			final int numVertices = m.vertices.size / (m.attributes.vertexSize / 4);
+			final Mesh mesh = meshPool.obtain(m.attributes, numVertices, m.indices.size);
+			mesh.setVertices(m.vertices.items, 0, m.vertices.size);
+			mesh.setIndices(m.indices.items, 0, m.indices.size);
+			for (int j = 0; j < m.parts.size; ++j) {
+				final MeshPart part = m.parts.get(j);
+				final Renderable renderable = obtainRenderable(m.materials.get(j), part.primitiveType);
+				renderable.meshPart.mesh = mesh;
+				renderable.meshPart.offset = part.offset;
+				renderable.meshPart.size = part.size;
+				// The vertices are in world space, so the bounds can be used for frustum culling.
+				renderable.meshPart.center.set(part.center);
+				renderable.meshPart.halfExtents.set(part.halfExtents);
+				renderable.meshPart.radius = part.radius;
+				renderables.add(renderable);
+			}
+		}
 	}
 
 	/** Adds the specified {@link Renderable} to the cache. Must be called in between a call to {@link #begin()} and
@@ -323,12 +413,12 @@ public class ModelCache implements Disposable, RenderableProvider {
 		if (renderable.bones == null)
 			items.add(renderable);
 		else
-			renderables.add(renderable);
+			skinned.add(renderable);
 	}
 
 	/** Adds the specified {@link RenderableProvider} to the cache, see {@link #add(Renderable)}. */
 	public void add (final RenderableProvider renderableProvider) {
-		renderableProvider.getRenderables(tmp, renderablesPool);
+		renderableProvider.getRenderables(tmp, itemsPool);
 		for (int i = 0, n = tmp.size; i < n; ++i)
 			add(tmp.get(i));
 		tmp.clear();
@@ -353,6 +443,32 @@ public class ModelCache implements Disposable, RenderableProvider {
 	@Override
 	public void dispose () {
 		if (building) throw new GdxRuntimeException("Cannot dispose a ModelCache in between .begin() and .end()");
+		if (merging != null) {
+			// Wait for the merge to finish, its result is discarded.
+			try {
+				merging.get();
+			} catch (GdxRuntimeException ignored) {
+			}
+			merging = null;
+		}
 		meshPool.dispose();
 	}
+
+	/** The vertices, indices and parts of one combined mesh, before it is uploaded. */
+	static private class MergedMesh implements Poolable {
+		VertexAttributes attributes;
+		final FloatArray vertices = new FloatArray();
+		final ShortArray indices = new ShortArray();
+		final Array<MeshPart> parts = new Array<MeshPart>();
+		final Array<Material> materials = new Array<Material>();
+
+		@Override
+		public void reset () {
+			attributes = null;
+			vertices.clear();
+			indices.clear();
+			parts.clear();
+			materials.clear();
+		}
+	}
 }
@@ -323,6 +323,9 @@ public class ModelInstance implements RenderableProvider {
 				nodeAnim.translation = nanim.translation;
 				nodeAnim.rotation = nanim.rotation;
 				nodeAnim.scaling = nanim.scaling;
+				nodeAnim.packedTranslation = nanim.packedTranslation;
+				nodeAnim.packedRotation = nanim.packedRotation;
+				nodeAnim.packedScaling = nanim.packedScaling;
 			} else {
 				if (nanim.translation != null) {
 					nodeAnim.translation = new Array<NodeKeyframe<Vector3>>();
@@ -339,6 +342,7 @@ public class ModelInstance implements RenderableProvider {
 					for (final NodeKeyframe<Vector3> kf : nanim.scaling)
 						nodeAnim.scaling.add(new NodeKeyframe<Vector3>(kf.keytime, kf.value));
 				}
+				if (nanim.packedTranslation != null || nanim.packedRotation != null || nanim.packedScaling != null) nodeAnim.pack();
 			}
 			if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null)
 				animation.nodeAnimations.add(nodeAnim);
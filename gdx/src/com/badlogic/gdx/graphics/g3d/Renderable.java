@@ -92,6 +92,9 @@ public class Renderable {
 	public Shader shader;
 	/** User definable value, may be null. */
 	public Object userData;
+	/** The key the renderable was last sorted on by a {@link com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter}, which
+	 * describes its layout. */
+	public long sortKey;
 
 	public Renderable set (Renderable renderable) {
 		worldTransform.set(renderable.worldTransform);
@@ -101,6 +104,7 @@ public class Renderable {
 		environment = renderable.environment;
 		shader = renderable.shader;
 		userData = renderable.userData;
+		sortKey = renderable.sortKey;
 		return this;
 	}
 }
@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.environment;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.attributes.PointLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.SpotLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.utils.TextureBinder;
+import com.badlogic.gdx.graphics.glutils.FloatTextureData;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
+
+/** Bins point and spot lights into a grid of clusters in view space, so a shader only has to loop over the lights that can reach
+ * the cluster of a fragment instead of over all lights, see {@link com.badlogic.gdx.graphics.g3d.shaders.ClusteredShader}. The
+ * grid has {@link #tilesX} by {@link #tilesY} tiles on the screen and {@link #slices} depth slices between the near and far
+ * plane of the camera, which get exponentially thicker with the distance to the camera.
+ * <p>
+ * Each light is treated as a sphere with the distance at which its attenuated intensity drops below {@link #lightThreshold} as
+ * the radius. {@link #update(Camera, Environment)} adds each light to the clusters its sphere overlaps, lights outside of the
+ * view are skipped. The lights, the offset and count of each cluster and the light indices of the clusters are stored in three
+ * float textures, which are uploaded when the shader binds them after an update. Requires float textures, see
+ * {@link FloatTextureData}. */
+public class LightClusters implements Disposable {
+	/** The number of texels per row of the indices texture, each texel holds four light indices. */
+	public final static int indicesWidth = 1024;
+	/** The number of texels per light in the lights texture. */
+	public final static int lightTexels = 3;
+
+	public final int tilesX, tilesY, slices;
+	/** The maximum number of lights in the grid, further lights are counted in {@link #droppedLights}. */
+	public final int maxLights;
+	/** The maximum number of light indices of all clusters together, further indices are counted in {@link #droppedIndices}. */
+	public final int maxIndices;
+	/** The intensity below which a light is considered to not light a cluster, which determines the radius of the lights. A higher
+	 * value results in smaller spheres and so fewer lights per cluster, but also in more visible cut offs. */
+	public float lightThreshold = 1f / 256f;
+	/** The minimum near plane distance used for the depth slices, in case the camera has a near plane at 0. */
+	public float minNear = 0.01f;
+
+	/** Number of lights in the grid after the last call to {@link #update(Camera, Environment)}. */
+	public int numLights;
+	/** Number of light indices of all clusters after the last call to {@link #update(Camera, Environment)}. */
+	public int numIndices;
+	/** Number of visible lights that did not fit in {@link #maxLights} in the last call to {@link #update(Camera, Environment)}. */
+	public int droppedLights;
+	/** Number of light indices that did not fit in {@link #maxIndices} in the last call to {@link #update(Camera, Environment)}. */
+	public int droppedIndices;
+
+	private final float[] lightData, gridData, indexData;
+	private final int[] counts, offsets, cursors, bounds;
+	private float depthScale, depthBias;
+	private @Null Texture lightsTexture, gridTexture, indicesTexture;
+	private @Null FloatBuffer buffer;
+	private boolean lightsDirty, gridDirty, indicesDirty;
+
+	/** Creates a grid of 16 by 9 tiles and 24 depth slices for up to 1024 lights. */
+	public LightClusters () {
+		this(16, 9, 24, 1024, 64 * indicesWidth * 4);
+	}
+
+	/** @param maxIndices Rounded up to a multiple of 4 times {@link #indicesWidth}. */
+	public LightClusters (int tilesX, int tilesY, int slices, int maxLights, int maxIndices) {
+		if (tilesX < 1 || tilesY < 1 || slices < 1) throw new IllegalArgumentException("The grid must have at least one cluster.");
+		if (maxLights < 1) throw new IllegalArgumentException("maxLights must be > 0: " + maxLights);
+		this.tilesX = tilesX;
+		this.tilesY = tilesY;
+		this.slices = slices;
+		this.maxLights = maxLights;
+		this.maxIndices = Math.max(1, (maxIndices + indicesWidth * 4 - 1) / (indicesWidth * 4)) * indicesWidth * 4;
+		final int clusters = tilesX * tilesY * slices;
+		lightData = new float[maxLights * lightTexels * 4];
+		gridData = new float[clusters * 4];
+		indexData = new float[this.maxIndices];
+		counts = new int[clusters];
+		offsets = new int[clusters];
+		cursors = new int[clusters];
+		bounds = new int[maxLights * 6];
+	}
+
+	/** Bins the {@link PointLightsAttribute} and {@link SpotLightsAttribute} lights of the environment for the camera, which
+	 * must be updated and be the camera the clustered shaders render with. */
+	public void update (Camera camera, Environment environment) {
+		final PointLightsAttribute pla = environment.get(PointLightsAttribute.class, PointLightsAttribute.Type);
+		final SpotLightsAttribute sla = environment.get(SpotLightsAttribute.class, SpotLightsAttribute.Type);
+		update(camera, pla == null ? null : pla.lights, sla == null ? null : sla.lights);
+	}
+
+	/** Bins the lights for the camera, which must be updated and be the camera the clustered shaders render with. */
+	public void update (Camera camera, @Null Array<PointLight> pointLights, @Null Array<SpotLight> spotLights) {
+		final float near = Math.max(camera.near, minNear), far = Math.max(camera.far, near * 1.01f);
+		final float logNear = (float)Math.log(near);
+		depthScale = slices / ((float)Math.log(far) - logNear);
+		depthBias = -logNear * depthScale;
+
+		Arrays.fill(counts, 0);
+		numLights = 0;
+		droppedLights = 0;
+		final Matrix4 view = camera.view, projection = camera.projection;
+		if (pointLights != null) {
+			for (int i = 0, n = pointLights.size; i < n; i++) {
+				final PointLight light = pointLights.get(i);
+				add(view, projection, near, far, light.position, light.color, light.intensity, null, 0, 0);
+			}
+		}
+		if (spotLights != null) {
+			for (int i = 0, n = spotLights.size; i < n; i++) {
+				final SpotLight light = spotLights.get(i);
+				add(view, projection, near, far, light.position, light.color, light.intensity, light.direction, light.cutoffAngle,
+					light.exponent);
+			}
+		}
+
+		// Assign each cluster a range of the indices, clusters that do not fit are cut off.
+		final int[] counts = this.counts, offsets = this.offsets, cursors = this.cursors;
+		final float[] gridData = this.gridData;
+		int offset = 0;
+		droppedIndices = 0;
+		for (int c = 0, n = counts.length; c < n; c++) {
+			int count = counts[c];
+			if (offset + count > maxIndices) {
+				droppedIndices += offset + count - maxIndices;
+				count = counts[c] = maxIndices - offset;
+			}
+			offsets[c] = cursors[c] = offset;
+			gridData[c * 4] = offset;
+			gridData[c * 4 + 1] = count;
+			offset += count;
+		}
+		numIndices = offset;
+
+		final int[] bounds = this.bounds;
+		final float[] indexData = this.indexData;
+		for (int i = 0; i < numLights; i++) {
+			final int b = i * 6;
+			for (int z = bounds[b + 4]; z <= bounds[b + 5]; z++) {
+				for (int y = bounds[b + 2]; y <= bounds[b + 3]; y++) {
+					for (int x = bounds[b], c = (z * tilesY + y) * tilesX + x; x <= bounds[b + 1]; x++, c++)
+						if (cursors[c] < offsets[c] + counts[c]) indexData[cursors[c]++] = i;
+				}
+			}
+		}
+		lightsDirty = gridDirty = indicesDirty = true;
+	}
+
+	/** @param direction The direction of a spot light, null for a point light. */
+	private void add (Matrix4 view, Matrix4 projection, float near, float far, Vector3 position, Color color, float intensity,
+		@Null Vector3 direction, float cutoffAngle, float exponent) {
+		final float r = color.r * intensity, g = color.g * intensity, b = color.b * intensity;
+		final float maxColor = Math.max(r, Math.max(g, b));
+		if (maxColor <= lightThreshold) return;
+		final float radius = (float)Math.sqrt(maxColor / lightThreshold - 1);
+
+		final float[] v = view.val, p = projection.val;
+		final float x = v[Matrix4.M00] * position.x + v[Matrix4.M01] * position.y + v[Matrix4.M02] * position.z + v[Matrix4.M03];
+		final float y = v[Matrix4.M10] * position.x + v[Matrix4.M11] * position.y + v[Matrix4.M12] * position.z + v[Matrix4.M13];
+		final float depth = -(v[Matrix4.M20] * position.x + v[Matrix4.M21] * position.y + v[Matrix4.M22] * position.z
+			+ v[Matrix4.M23]);
+		final float minDepth = depth - radius, maxDepth = depth + radius;
+		if (maxDepth < near || minDepth > far) return;
+
+		// A conservative screen rectangle of the sphere, in normalized device coordinates.
+		float minX, maxX, minY, maxY;
+		if (p[Matrix4.M33] == 1f) {
+			minX = p[Matrix4.M00] * (x - radius) + p[Matrix4.M03];
+			maxX = p[Matrix4.M00] * (x + radius) + p[Matrix4.M03];
+			minY = p[Matrix4.M11] * (y - radius) + p[Matrix4.M13];
+			maxY = p[Matrix4.M11] * (y + radius) + p[Matrix4.M13];
+		} else if (minDepth <= near) {
+			minX = minY = -1f;
+			maxX = maxY = 1f;
+		} else {
+			minX = p[Matrix4.M00] * (x - radius) / (x - radius < 0 ? minDepth : maxDepth) - p[Matrix4.M02];
+			maxX = p[Matrix4.M00] * (x + radius) / (x + radius > 0 ? minDepth : maxDepth) - p[Matrix4.M02];
+			minY = p[Matrix4.M11] * (y - radius) / (y - radius < 0 ? minDepth : maxDepth) - p[Matrix4.M12];
+			maxY = p[Matrix4.M11] * (y + radius) / (y + radius > 0 ? minDepth : maxDepth) - p[Matrix4.M12];
+		}
+		if (maxX < -1f || minX > 1f || maxY < -1f || minY > 1f) return;
+
+		if (numLights == maxLights) {
+			droppedLights++;
+			return;
+		}
+		final int index = numLights++;
+		final int[] bounds = this.bounds;
+		final int bi = index * 6;
+		bounds[bi] = tile(minX, tilesX);
+		bounds[bi + 1] = tile(maxX, tilesX);
+		bounds[bi + 2] = tile(minY, tilesY);
+		bounds[bi + 3] = tile(maxY, tilesY);
+		bounds[bi + 4] = slice(Math.max(minDepth, near));
+		bounds[bi + 5] = slice(Math.min(maxDepth, far));
+		for (int sz = bounds[bi + 4]; sz <= bounds[bi + 5]; sz++)
+			for (int ty = bounds[bi + 2]; ty <= bounds[bi + 3]; ty++)
+				for (int tx = bounds[bi], c = (sz * tilesY + ty) * tilesX + tx; tx <= bounds[bi + 1]; tx++, c++)
+					counts[c]++;
+
+		final float[] data = lightData;
+		final int d = index * lightTexels * 4;
+		data[d] = position.x;
+		data[d + 1] = position.y;
+		data[d + 2] = position.z;
+		data[d + 3] = radius;
+		data[d + 4] = r;
+		data[d + 5] = g;
+		data[d + 6] = b;
+		if (direction == null) {
+			// A cosine below -1 disables the cone of spot lights.
+			data[d + 7] = -2f;
+			data[d + 8] = data[d + 9] = data[d + 10] = data[d + 11] = 0f;
+		} else {
+			final float length = direction.len();
+			data[d + 7] = MathUtils.cosDeg(cutoffAngle * 0.5f);
+			data[d + 8] = length == 0 ? 0 : direction.x / length;
+			data[d + 9] = length == 0 ? -1 : direction.y / length;
+			data[d + 10] = length == 0 ? 0 : direction.z / length;
+			data[d + 11] = exponent;
+		}
+	}
+
+	private int tile (float ndc, int tiles) {
+		return MathUtils.clamp((int)((ndc * 0.5f + 0.5f) * tiles), 0, tiles - 1);
+	}
+
+	private int slice (float depth) {
+		return MathUtils.clamp((int)((float)Math.log(depth) * depthScale + depthBias), 0, slices - 1);
+	}
+
+	/** Returns the index of the depth slice of the view space depth, which is the distance to the camera plane. */
+	public int getSlice (float depth) {
+		return slice(Math.max(depth, minNear));
+	}
+
+	/** Multiplied with the logarithm of the view space depth and added to {@link #getDepthBias()} this gives the depth slice. */
+	public float getDepthScale () {
+		return depthScale;
+	}
+
+	public float getDepthBias () {
+		return depthBias;
+	}
+
+	/** Returns the number of lights of the cluster. */
+	public int getCount (int x, int y, int z) {
+		return counts[(z * tilesY + y) * tilesX + x];
+	}
+
+	/** Returns the index in {@link #getLightIndex(int)} of the first light of the cluster. */
+	public int getOffset (int x, int y, int z) {
+		return offsets[(z * tilesY + y) * tilesX + x];
+	}
+
+	/** Returns the light index at the index, which is the order in which the lights were added to the grid. */
+	public int getLightIndex (int index) {
+		return (int)indexData[index];
+	}
+
+	/** Binds the lights texture, which has {@link #lightTexels} texels per light and one light per row: the position and radius,
+	 * the color multiplied by the intensity and the cosine of the half cone angle of a spot light or -2 for a point light, and the
+	 * direction and exponent of a spot light. Uploads the lights if they changed since the last bind.
+	 * @return The texture unit. */
+	public int bindLights (TextureBinder binder) {
+		if (lightsTexture == null) lightsTexture = createTexture(lightTexels, maxLights);
+		final int unit = binder.bind(lightsTexture);
+		if (lightsDirty && numLights > 0) upload(lightData, lightTexels, numLights);
+		lightsDirty = false;
+		return unit;
+	}
+
+	/** Binds the grid texture, which has one texel per cluster with the offset and count of its light indices. Tile x and y of
+	 * slice z are at texel (x + y * {@link #tilesX}, z). Uploads the grid if it changed since the last bind.
+	 * @return The texture unit. */
+	public int bindGrid (TextureBinder binder) {
+		if (gridTexture == null) gridTexture = createTexture(tilesX * tilesY, slices);
+		final int unit = binder.bind(gridTexture);
+		if (gridDirty) upload(gridData, tilesX * tilesY, slices);
+		gridDirty = false;
+		return unit;
+	}
+
+	/** Binds the indices texture, which has four light indices per texel and {@link #indicesWidth} texels per row. Uploads the
+	 * indices if they changed since the last bind.
+	 * @return The texture unit. */
+	public int bindIndices (TextureBinder binder) {
+		if (indicesTexture == null) indicesTexture = createTexture(indicesWidth, maxIndices / (indicesWidth * 4));
+		final int unit = binder.bind(indicesTexture);
+		if (indicesDirty && numIndices > 0) upload(indexData, indicesWidth, (numIndices + indicesWidth * 4 - 1) / (indicesWidth * 4));
+		indicesDirty = false;
+		return unit;
+	}
+
+	private Texture createTexture (int width, int height) {
+		return new Texture(new FloatTextureData(width, height, GL30.GL_RGBA32F, GL20.GL_RGBA, GL20.GL_FLOAT, true));
+	}
+
+	/** Uploads the first rows of the data to the texture bound to the active texture unit. */
+	private void upload (float[] data, int width, int rows) {
+		final int floats = width * rows * 4;
+		if (buffer == null || buffer.capacity() < floats)
+			buffer = BufferUtils.newFloatBuffer(Math.max(floats, Math.max(lightData.length, gridData.length)));
+		BufferUtils.copy(data, buffer, floats, 0);
+		Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, width, rows, GL20.GL_RGBA, GL20.GL_FLOAT, buffer);
+	}
+
+	@Override
+	public void dispose () {
+		if (lightsTexture != null) lightsTexture.dispose();
+		if (gridTexture != null) gridTexture.dispose();
+		if (indicesTexture != null) indicesTexture.dispose();
+		lightsTexture = gridTexture = indicesTexture = null;
+	}
+}
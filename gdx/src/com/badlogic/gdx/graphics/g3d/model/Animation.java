@@ -31,4 +31,11 @@ public class Animation {
 	public float duration;
 	/** the animation curves for individual nodes **/
 	public Array<NodeAnimation> nodeAnimations = new Array<NodeAnimation>();
+
+	/** Packs the keyframes of all node animations, see {@link NodeAnimation#pack()}. Pack the animations of a {@link Model}
+	 * before creating instances of it, so the instances share the packed keyframes. */
+	public void pack () {
+		for (int i = 0, n = nodeAnimations.size; i < n; i++)
+			nodeAnimations.get(i).pack();
+	}
 }
@@ -20,6 +20,7 @@ import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
 
 /** A NodeAnimation defines keyframes for a {@link Node} in a {@link Model}. The keyframes are given as a translation vector, a
  * rotation quaternion and a scale vector. Keyframes are interpolated linearly for now. Keytimes are given in seconds.
@@ -33,4 +34,18 @@ public class NodeAnimation {
 	public Array<NodeKeyframe<Quaternion>> rotation = null;
 	/** the scaling keyframes if any (might be null), sorted by time ascending **/
 	public Array<NodeKeyframe<Vector3>> scaling = null;
+	/** the packed translation keyframes, used instead of {@link #translation} when not null, see {@link #pack()} **/
+	public @Null PackedKeyframes packedTranslation = null;
+	/** the packed rotation keyframes, used instead of {@link #rotation} when not null, see {@link #pack()} **/
+	public @Null PackedKeyframes packedRotation = null;
+	/** the packed scaling keyframes, used instead of {@link #scaling} when not null, see {@link #pack()} **/
+	public @Null PackedKeyframes packedScaling = null;
+
+	/** Packs the keyframes into {@link PackedKeyframes}, which are faster to apply, especially for long animations. Must be called
+	 * again after the keyframes are changed. */
+	public void pack () {
+		packedTranslation = translation != null && translation.size > 0 ? PackedKeyframes.packVectors(translation) : null;
+		packedRotation = rotation != null && rotation.size > 0 ? PackedKeyframes.packQuaternions(rotation) : null;
+		packedScaling = scaling != null && scaling.size > 0 ? PackedKeyframes.packVectors(scaling) : null;
+	}
 }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** The keyframes of one channel of a {@link NodeAnimation}, stored in flat arrays instead of {@link NodeKeyframe} objects. The
+ * keyframe for a time is found with {@link #indexOf(float, int)}, which starts at a cursor, so finding the keyframe takes
+ * constant time when an animation is played forward. Created by {@link NodeAnimation#pack()}. */
+public class PackedKeyframes {
+	/** The keytimes in seconds, sorted ascending. */
+	public final float[] keytimes;
+	/** The values, {@link #components} floats for each keyframe: x, y, z for vectors and x, y, z, w for quaternions. */
+	public final float[] values;
+	/** The number of floats of each value, 3 for vectors and 4 for quaternions. */
+	public final int components;
+
+	public PackedKeyframes (float[] keytimes, float[] values, int components) {
+		if (keytimes.length * components != values.length)
+			throw new IllegalArgumentException("values must have " + components + " floats per keytime: " + values.length);
+		this.keytimes = keytimes;
+		this.values = values;
+		this.components = components;
+	}
+
+	/** Packs vector keyframes, such as translation or scaling keyframes. */
+	public static PackedKeyframes packVectors (Array<NodeKeyframe<Vector3>> keyframes) {
+		final int n = keyframes.size;
+		final float[] keytimes = new float[n], values = new float[n * 3];
+		for (int i = 0, v = 0; i < n; i++) {
+			final NodeKeyframe<Vector3> keyframe = keyframes.get(i);
+			keytimes[i] = keyframe.keytime;
+			values[v++] = keyframe.value.x;
+			values[v++] = keyframe.value.y;
+			values[v++] = keyframe.value.z;
+		}
+		return new PackedKeyframes(keytimes, values, 3);
+	}
+
+	/** Packs quaternion keyframes, such as rotation keyframes. */
+	public static PackedKeyframes packQuaternions (Array<NodeKeyframe<Quaternion>> keyframes) {
+		final int n = keyframes.size;
+		final float[] keytimes = new float[n], values = new float[n * 4];
+		for (int i = 0, v = 0; i < n; i++) {
+			final NodeKeyframe<Quaternion> keyframe = keyframes.get(i);
+			keytimes[i] = keyframe.keytime;
+			values[v++] = keyframe.value.x;
+			values[v++] = keyframe.value.y;
+			values[v++] = keyframe.value.z;
+			values[v++] = keyframe.value.w;
+		}
+		return new PackedKeyframes(keytimes, values, 4);
+	}
+
+	public int size () {
+		return keytimes.length;
+	}
+
+	/** Returns the index of the keyframe just before the time, or 0 if the time is outside the range of the keyframes. The search
+	 * starts at the cursor, typically the index returned for the previous time, and only falls back to a binary search if the
+	 * time is before the cursor's keyframe. */
+	public int indexOf (final float time, int cursor) {
+		final float[] keytimes = this.keytimes;
+		final int lastIndex = keytimes.length - 1;
+		if (lastIndex <= 0 || time < keytimes[0] || time > keytimes[lastIndex]) return 0;
+
+		if (cursor >= 0 && cursor < lastIndex && keytimes[cursor] <= time) {
+			while (keytimes[cursor + 1] < time)
+				cursor++;
+			return cursor;
+		}
+
+		int minIndex = 0;
+		int maxIndex = lastIndex;
+		while (minIndex < maxIndex) {
+			final int i = (minIndex + maxIndex) / 2;
+			if (time > keytimes[i + 1])
+				minIndex = i + 1;
+			else if (time < keytimes[i])
+				maxIndex = i - 1;
+			else
+				return i;
+		}
+		return minIndex;
+	}
+
+	/** Sets the vector to the value at the time, interpolated linearly between the keyframe at the index and the next keyframe.
+	 * @param index The index returned by {@link #indexOf(float, int)} for the time. */
+	public Vector3 getVector (final float time, final int index, final Vector3 out) {
+		final float[] values = this.values;
+		final int v = index * 3;
+		out.set(values[v], values[v + 1], values[v + 2]);
+		if (index + 1 < keytimes.length) {
+			final float t = (time - keytimes[index]) / (keytimes[index + 1] - keytimes[index]);
+			out.x += t * (values[v + 3] - out.x);
+			out.y += t * (values[v + 4] - out.y);
+			out.z += t * (values[v + 5] - out.z);
+		}
+		return out;
+	}
+
+	/** Sets the quaternion to the value at the time, interpolated spherically between the keyframe at the index and the next
+	 * keyframe.
+	 * @param index The index returned by {@link #indexOf(float, int)} for the time. */
+	public Quaternion getQuaternion (final float time, final int index, final Quaternion out) {
+		final float[] values = this.values;
+		final int v = index * 4;
+		out.set(values[v], values[v + 1], values[v + 2], values[v + 3]);
+		if (index + 1 < keytimes.length) {
+			final float t = (time - keytimes[index]) / (keytimes[index + 1] - keytimes[index]);
+			out.slerp(values[v + 4], values[v + 5], values[v + 6], values[v + 7], t);
+		}
+		return out;
+	}
+}
@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Material;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
@@ -113,6 +114,16 @@ public abstract class BaseShader implements Shader {
 	public RenderContext context;
 	public Camera camera;
 	private Mesh currentMesh;
+	private Material currentMaterial;
+	private SharedUniformBlocks uniformBlocks;
+	private int uniformBlocksMask;
+
+	/** Number of uniform values uploaded to the program with the set methods since the last call to {@link #resetCounts()}. */
+	public int uniformUploads;
+	/** Number of rendered renderables that had a different material than the previously rendered renderable, since the last call
+	 * to {@link #resetCounts()}. Sorting the renderables, for example with a
+	 * {@link com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter}, keeps this low. */
+	public int materialSwitches;
 
 	/** Register an uniform which might be used by this shader. Only possible prior to the call to init().
 	 * @return The ID of the uniform to use in this shader. */
@@ -217,6 +228,12 @@ public abstract class BaseShader implements Shader {
 		this.context = context;
 		program.bind();
 		currentMesh = null;
+		currentMaterial = null;
+		if (context.uniformBlocks != uniformBlocks) {
+			uniformBlocks = context.uniformBlocks;
+			uniformBlocksMask = uniformBlocks != null ? uniformBlocks.bind(program) : 0;
+		}
+		if ((uniformBlocksMask & SharedUniformBlocks.CAMERA) != 0) uniformBlocks.setCamera(camera);
 		for (int u, i = 0; i < globalUniforms.size; ++i)
 			if (setters.get(u = globalUniforms.get(i)) != null) setters.get(u).set(this, u, null, null);
 	}
@@ -258,6 +275,12 @@ public abstract class BaseShader implements Shader {
 	}
 
 	public void render (Renderable renderable, final Attributes combinedAttributes) {
+		if (currentMaterial != renderable.material) {
+			currentMaterial = renderable.material;
+			materialSwitches++;
+			if ((uniformBlocksMask & SharedUniformBlocks.MATERIAL) != 0) uniformBlocks.setMaterial(renderable.material);
+		}
+		if ((uniformBlocksMask & SharedUniformBlocks.ENVIRONMENT) != 0) uniformBlocks.setEnvironment(renderable.environment);
 		for (int u, i = 0; i < localUniforms.size; ++i)
 			if (setters.get(u = localUniforms.get(i)) != null) setters.get(u).set(this, u, renderable, combinedAttributes);
 		if (currentMesh != renderable.meshPart.mesh) {
@@ -266,6 +289,12 @@ public abstract class BaseShader implements Shader {
 			currentMesh.bind(program, getAttributeLocations(renderable.meshPart.mesh.getVertexAttributes()),
 				getInstancedAttributeLocations(renderable.meshPart.mesh.getInstancedAttributes()));
 		}
+		draw(renderable);
+	}
+
+	/** Draws the {@link Renderable#meshPart} of the renderable. Called by {@link #render(Renderable, Attributes)} after the
+	 * uniforms are set and the mesh is bound. */
+	protected void draw (Renderable renderable) {
 		renderable.meshPart.render(program, false);
 	}
 
@@ -275,11 +304,14 @@ public abstract class BaseShader implements Shader {
 			currentMesh.unbind(program, tempArray.items, tempArray2.items);
 			currentMesh = null;
 		}
+		currentMaterial = null;
 	}
 
 	@Override
 	public void dispose () {
 		program = null;
+		uniformBlocks = null;
+		uniformBlocksMask = 0;
 		uniforms.clear();
 		validators.clear();
 		setters.clear();
@@ -288,6 +320,11 @@ public abstract class BaseShader implements Shader {
 		locations = null;
 	}
 
+	/** Sets the uniform upload and material switch counters to zero. */
+	public void resetCounts () {
+		uniformUploads = materialSwitches = 0;
+	}
+
 	/** Whether this Shader instance implements the specified uniform, only valid after a call to init(). */
 	public final boolean has (final int inputID) {
 		return inputID >= 0 && inputID < locations.length && locations[inputID] >= 0;
@@ -299,90 +336,105 @@ public abstract class BaseShader implements Shader {
 
 	public final boolean set (final int uniform, final Matrix4 value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformMatrix(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Matrix3 value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformMatrix(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Vector3 value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Vector2 value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Color value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], v1, v2);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2, final float v3) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], v1, v2, v3);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2, final float v3, final float v4) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformf(locations[uniform], v1, v2, v3, v4);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int value) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], v1, v2);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2, final int v3) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], v1, v2, v3);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2, final int v3, final int v4) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], v1, v2, v3, v4);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final TextureDescriptor textureDesc) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], context.textureBinder.bind(textureDesc));
 		return true;
 	}
 
 	public final boolean set (final int uniform, final GLTexture texture) {
 		if (locations[uniform] < 0) return false;
+		uniformUploads++;
 		program.setUniformi(locations[uniform], context.textureBinder.bind(texture));
 		return true;
 	}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.shaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.PointLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.SpotLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.LightClusters;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/** A {@link DefaultShader} that lights fragments with the point and spot lights of a {@link LightClusters} grid, so it only
+ * loops over the lights that can reach the cluster of the fragment. The point and spot lights of the environment are ignored,
+ * the grid must be updated with the camera and lights before rendering, see {@link LightClusters#update(Camera,
+ * com.badlogic.gdx.graphics.g3d.Environment)}. Directional lights, the ambient light and fog are applied like the default
+ * shader does, specular lighting and shadow maps are not supported. Requires GL ES 3.0. */
+public class ClusteredShader extends DefaultShader {
+	private static String defaultVertexShader = null;
+
+	public final static String getDefaultVertexShader () {
+		if (defaultVertexShader == null)
+			defaultVertexShader = Gdx.files.classpath("com/badlogic/gdx/graphics/g3d/shaders/clustered.vertex.glsl").readString();
+		return defaultVertexShader;
+	}
+
+	private static String defaultFragmentShader = null;
+
+	public final static String getDefaultFragmentShader () {
+		if (defaultFragmentShader == null) defaultFragmentShader = Gdx.files
+			.classpath("com/badlogic/gdx/graphics/g3d/shaders/clustered.fragment.glsl").readString();
+		return defaultFragmentShader;
+	}
+
+	/** Returns the prefix of {@link DefaultShader#createPrefix(Renderable, Config)} after the GLSL version of the current GL
+	 * context: GLSL 1.40 on desktop and GLSL ES 3.00 otherwise. */
+	public static String createPrefix (final Renderable renderable, final Config config) {
+		String prefix = Gdx.graphics.getGLVersion().getType() == GLVersion.Type.OpenGL ? "#version 140\n" : "#version 300 es\n";
+		prefix += DefaultShader.createPrefix(renderable, config);
+		prefix += "#define clusterIndicesWidth " + LightClusters.indicesWidth + "\n";
+		return prefix;
+	}
+
+	public final LightClusters clusters;
+	public final int u_clusterLights = register("u_clusterLights");
+	public final int u_clusterGrid = register("u_clusterGrid");
+	public final int u_clusterIndices = register("u_clusterIndices");
+	public final int u_clusterSize = register("u_clusterSize");
+	public final int u_clusterDepth = register("u_clusterDepth");
+
+	public ClusteredShader (final Renderable renderable, final LightClusters clusters) {
+		this(renderable, new Config(), clusters);
+	}
+
+	public ClusteredShader (final Renderable renderable, final Config config, final LightClusters clusters) {
+		this(renderable, config, clusters, createPrefix(renderable, config));
+	}
+
+	public ClusteredShader (final Renderable renderable, final Config config, final LightClusters clusters,
+		final String prefix) {
+		this(renderable, config, clusters, prefix, config.vertexShader != null ? config.vertexShader : getDefaultVertexShader(),
+			config.fragmentShader != null ? config.fragmentShader : getDefaultFragmentShader());
+	}
+
+	public ClusteredShader (final Renderable renderable, final Config config, final LightClusters clusters,
+		final String prefix, final String vertexShader, final String fragmentShader) {
+		this(renderable, config, clusters, new ShaderProgram(prefix + vertexShader, prefix + fragmentShader));
+	}
+
+	public ClusteredShader (final Renderable renderable, final Config config, final LightClusters clusters,
+		final ShaderProgram shaderProgram) {
+		super(renderable, config, shaderProgram);
+		this.clusters = clusters;
+	}
+
+	private int lightsUnit, gridUnit, indicesUnit;
+
+	@Override
+	public void begin (Camera camera, RenderContext context) {
+		super.begin(camera, context);
+		lightsUnit = gridUnit = indicesUnit = -1;
+		// u_clusterSize is a vec3, setting it with the int overload would call glUniform3i and fail.
+		set(u_clusterSize, (float)clusters.tilesX, (float)clusters.tilesY, (float)clusters.slices);
+		set(u_clusterDepth, clusters.getDepthScale(), clusters.getDepthBias());
+	}
+
+	@Override
+	public void render (Renderable renderable, Attributes combinedAttributes) {
+		// The grid replaces the point and spot lights, which would otherwise be added to the ambient cubemap.
+		combinedAttributes.remove(PointLightsAttribute.Type | SpotLightsAttribute.Type);
+		if (has(u_clusterGrid)) bindClusters();
+		super.render(renderable, combinedAttributes);
+	}
+
+	/** Binds the textures of the grid before each renderable, because textures of materials may have replaced them since the
+	 * previous renderable. The uniforms are only set when a texture is bound to another unit. */
+	private void bindClusters () {
+		int unit = clusters.bindLights(context.textureBinder);
+		if (unit != lightsUnit) set(u_clusterLights, lightsUnit = unit);
+		unit = clusters.bindGrid(context.textureBinder);
+		if (unit != gridUnit) set(u_clusterGrid, gridUnit = unit);
+		unit = clusters.bindIndices(context.textureBinder);
+		if (unit != indicesUnit) set(u_clusterIndices, indicesUnit = unit);
+	}
+}
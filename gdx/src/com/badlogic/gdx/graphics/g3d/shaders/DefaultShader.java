@@ -40,13 +40,16 @@ import com.badlogic.gdx.graphics.g3d.environment.AmbientCubemap;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
 import com.badlogic.gdx.graphics.g3d.environment.PointLight;
 import com.badlogic.gdx.graphics.g3d.environment.SpotLight;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.InstanceData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 
 public class DefaultShader extends BaseShader {
 	public static class Config {
@@ -70,6 +73,10 @@ public class DefaultShader extends BaseShader {
 		public int defaultCullFace = -1;
 		/** Set to 0 to disable depth test, -1 to inherit from {@link DefaultShader#defaultDepthFunc} */
 		public int defaultDepthFunc = -1;
+		/** Whether renderables without bones read the world transform from the {@link DefaultShader#worldTransAttribute}
+		 * attribute, so that {@link com.badlogic.gdx.graphics.g3d.ModelBatch} can render renderables that share a mesh part and
+		 * material with one instanced draw call. Ignored when GLES 3.0 is not available. */
+		public boolean instancing = false;
 
 		public Config () {
 		}
@@ -214,6 +221,7 @@ public class DefaultShader extends BaseShader {
 					else
 						System.arraycopy(renderable.bones[idx].val, 0, bones, i, 16);
 				}
+				shader.uniformUploads++;
 				shader.program.setUniformMatrix4fv(shader.loc(inputID), bones, 0, bones.length);
 			}
 		}
@@ -353,6 +361,7 @@ public class DefaultShader extends BaseShader {
 
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
+				shader.uniformUploads++;
 				if (renderable.environment == null)
 					shader.program.setUniform3fv(shader.loc(inputID), ones, 0, ones.length);
 				else {
@@ -390,6 +399,10 @@ public class DefaultShader extends BaseShader {
 		};
 	}
 
+	/** The alias of the mat4 attribute that holds the world transform when {@link Config#instancing} is enabled. The columns of
+	 * the matrix use 4 consecutive attribute locations. */
+	public final static String worldTransAttribute = "a_worldTrans";
+
 	private static String defaultVertexShader = null;
 
 	public static String getDefaultVertexShader () {
@@ -505,6 +518,10 @@ public class DefaultShader extends BaseShader {
 	private final long vertexMask;
 	private final int textureCoordinates;
 	private int[] boneWeightsLocations;
+	private int worldTransLocation = -1;
+	private final int[] worldTransLocations = new int[4];
+	/** The instance data while rendering with {@link #render(Renderable, InstanceData)}, null otherwise. */
+	private @Null InstanceData instances;
 	protected final Config config;
 	/** Attributes which are not required but always supported. */
 	private final static long optionalAttributes = IntAttribute.CullFace | DepthTestAttribute.Type;
@@ -644,6 +661,10 @@ public class DefaultShader extends BaseShader {
 				boneWeightsLocations[i] = program.getAttributeLocation(ShaderProgram.BONEWEIGHT_ATTRIBUTE + i);
 			}
 		}
+
+		worldTransLocation = program.getAttributeLocation(worldTransAttribute);
+		for (int i = 0; i < worldTransLocations.length; i++)
+			worldTransLocations[i] = worldTransLocation;
 	}
 
 	private static final boolean and (final long mask, final long flag) {
@@ -744,12 +765,14 @@ public class DefaultShader extends BaseShader {
 		if ((attributesMask & FloatAttribute.AlphaTest) == FloatAttribute.AlphaTest)
 			prefix += "#define " + FloatAttribute.AlphaTestAlias + "Flag\n";
 		if (renderable.bones != null && config.numBones > 0) prefix += "#define numBones " + config.numBones + "\n";
+		if (config.instancing && renderable.bones == null && Gdx.gl30 != null) prefix += "#define instancedFlag\n";
 		return prefix;
 	}
 
 	@Override
 	public boolean canRender (final Renderable renderable) {
 		if (renderable.bones != null) {
+			if (worldTransLocation >= 0) return false;
 			if (renderable.bones.length > config.numBones) return false;
 			if (renderable.meshPart.mesh.getVertexAttributes().getBoneWeights() > config.numBoneWeights) return false;
 		}
@@ -813,6 +836,55 @@ public class DefaultShader extends BaseShader {
 		super.render(renderable, combinedAttributes);
 	}
 
+	/** Whether the world transform is read from the {@link #worldTransAttribute} attribute, see {@link Config#instancing}. Only
+	 * valid after the shader is initialized. */
+	public boolean isInstanced () {
+		return worldTransLocation >= 0;
+	}
+
+	/** Renders the renderable once for each instance in the instance data, with a single instanced draw call. The instance data
+	 * must have 4 float vertex attributes with the {@link #worldTransAttribute} alias and units 0 to 3, holding the columns of the
+	 * world transform of each instance. The {@link Renderable#worldTransform} is ignored. Can only be used if
+	 * {@link #isInstanced()} is true and the mesh is not a {@link com.badlogic.gdx.graphics.Mesh#isVertexArray() vertex array}.
+	 * Meshes without indices are drawn with glDrawArraysInstanced. */
+	public void render (final Renderable renderable, final InstanceData instances) {
+		if (worldTransLocation < 0) throw new GdxRuntimeException("Shader was not created with instancing enabled.");
+		if (renderable.meshPart.mesh.isVertexArray())
+			throw new GdxRuntimeException("Instanced rendering requires a mesh with buffer objects, not vertex arrays.");
+		this.instances = instances;
+		render(renderable, combineAttributes(renderable));
+		this.instances = null;
+	}
+
+	@Override
+	protected void draw (final Renderable renderable) {
+		if (worldTransLocation < 0) {
+			super.draw(renderable);
+			return;
+		}
+		final GL20 gl = Gdx.gl20;
+		if (instances == null) {
+			// The attribute arrays are disabled, so the world transform is set as the generic attribute value.
+			final float[] val = renderable.worldTransform.val;
+			for (int i = 0; i < 4; i++)
+				gl.glVertexAttrib4f(worldTransLocation + i, val[i * 4], val[i * 4 + 1], val[i * 4 + 2], val[i * 4 + 3]);
+			super.draw(renderable);
+			return;
+		}
+		final MeshPart meshPart = renderable.meshPart;
+		final int count = instances.getNumInstances();
+		instances.bind(program, worldTransLocations);
+		// Like Mesh#render, the indices are unsigned shorts and meshes without indices draw the vertices in order.
+		if (meshPart.mesh.getNumIndices() > 0)
+			Gdx.gl30.glDrawElementsInstanced(meshPart.primitiveType, meshPart.size, GL20.GL_UNSIGNED_SHORT, meshPart.offset * 2,
+				count);
+		else
+			Gdx.gl30.glDrawArraysInstanced(meshPart.primitiveType, meshPart.offset, meshPart.size, count);
+		instances.unbind(program, worldTransLocations);
+		for (int i = 0; i < 4; i++)
+			Gdx.gl30.glVertexAttribDivisor(worldTransLocation + i, 0);
+	}
+
 	@Override
 	public void end () {
 		super.end();
@@ -871,6 +943,7 @@ public class DefaultShader extends BaseShader {
 					directionalLights[i].set(dirs.get(i));
 
 				int idx = dirLightsLoc + i * dirLightsSize;
+				uniformUploads += 2;
 				program.setUniformf(idx + dirLightsColorOffset, directionalLights[i].color.r, directionalLights[i].color.g,
 					directionalLights[i].color.b);
 				program.setUniformf(idx + dirLightsDirectionOffset, directionalLights[i].direction.x,
@@ -890,6 +963,7 @@ public class DefaultShader extends BaseShader {
 					pointLights[i].set(points.get(i));
 
 				int idx = pointLightsLoc + i * pointLightsSize;
+				uniformUploads += pointLightsIntensityOffset >= 0 ? 3 : 2;
 				program.setUniformf(idx + pointLightsColorOffset, pointLights[i].color.r * pointLights[i].intensity,
 					pointLights[i].color.g * pointLights[i].intensity, pointLights[i].color.b * pointLights[i].intensity);
 				program.setUniformf(idx + pointLightsPositionOffset, pointLights[i].position.x, pointLights[i].position.y,
@@ -910,6 +984,7 @@ public class DefaultShader extends BaseShader {
 					spotLights[i].set(spots.get(i));
 
 				int idx = spotLightsLoc + i * spotLightsSize;
+				uniformUploads += spotLightsIntensityOffset >= 0 ? 6 : 5;
 				program.setUniformf(idx + spotLightsColorOffset, spotLights[i].color.r * spotLights[i].intensity,
 					spotLights[i].color.g * spotLights[i].intensity, spotLights[i].color.b * spotLights[i].intensity);
 				program.setUniformf(idx + spotLightsPositionOffset, spotLights[i].position);
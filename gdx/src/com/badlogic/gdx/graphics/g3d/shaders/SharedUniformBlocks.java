@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.shaders;
+
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.DirectionalLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.FloatAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.PointLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.SpotLightsAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.AmbientCubemap;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.environment.SpotLight;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.UniformBufferObject;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
+
+/** Three {@link UniformBufferObject}s with the camera, environment and material values that shaders would otherwise set as
+ * uniforms in each program. Set it as the {@link RenderContext#uniformBlocks} and declare the blocks in the shaders, see
+ * {@link #getDeclarations()}. A {@link BaseShader} whose program uses a block assigns it to the binding point of the block and
+ * keeps the buffer up to date: the camera block when the camera changed, the environment block when the environment of the
+ * rendered renderable differs from the previous one and the material block when the material differs. Each buffer is uploaded
+ * once and then shared by all programs, until {@link #begin()} is called again, which {@link RenderContext#begin()} does.
+ * <p>
+ * The uniforms in the blocks have the names that {@link DefaultShader} uses, so its setters skip them. The environment block
+ * holds the first {@link #numDirectionalLights}, {@link #numPointLights} and {@link #numSpotLights} lights; further directional
+ * lights are added to the ambient cubemap, further point and spot lights are ignored because they depend on the position of the
+ * renderable. The buffers are managed, after a context loss they are recreated and uploaded again by the next {@link #begin()}.
+ * Requires GL ES 3.0 and shaders for GLSL ES 3.0 or GLSL 1.40. */
+public class SharedUniformBlocks implements Disposable {
+	public final static String cameraBlock = "u_cameraBlock";
+	public final static String environmentBlock = "u_environmentBlock";
+	public final static String materialBlock = "u_materialBlock";
+	/** Bits of the mask returned by {@link #bind(ShaderProgram)}. */
+	public final static int CAMERA = 1, ENVIRONMENT = 2, MATERIAL = 4;
+
+	static final int cameraSize = 64, environmentLightsOffset = 28, dirLightSize = 8, pointLightSize = 8, spotLightSize = 16,
+		materialSize = 20;
+
+	public final int numDirectionalLights, numPointLights, numSpotLights;
+	/** The binding points of the blocks. */
+	public final int cameraBinding, environmentBinding, materialBinding;
+
+	/** Number of uploads of the camera block since the last call to {@link #resetCounts()}. */
+	public int cameraUploads;
+	/** Number of uploads of the environment block since the last call to {@link #resetCounts()}. */
+	public int environmentUploads;
+	/** Number of uploads of the material block since the last call to {@link #resetCounts()}. */
+	public int materialUploads;
+
+	private final UniformBufferObject cameraBuffer, environmentBuffer, materialBuffer;
+	private final float[] cameraData = new float[cameraSize];
+	private boolean cameraSet;
+	private Environment currentEnvironment;
+	private boolean environmentSet;
+	private Material currentMaterial;
+	private boolean materialSet;
+	private final AmbientCubemap ambientCubemap = new AmbientCubemap();
+
+	/** Creates the blocks with binding points 0, 1 and 2. */
+	public SharedUniformBlocks (int numDirectionalLights, int numPointLights, int numSpotLights) {
+		this(numDirectionalLights, numPointLights, numSpotLights, 0, 1, 2);
+	}
+
+	public SharedUniformBlocks (int numDirectionalLights, int numPointLights, int numSpotLights, int cameraBinding,
+		int environmentBinding, int materialBinding) {
+		this.numDirectionalLights = numDirectionalLights;
+		this.numPointLights = numPointLights;
+		this.numSpotLights = numSpotLights;
+		this.cameraBinding = cameraBinding;
+		this.environmentBinding = environmentBinding;
+		this.materialBinding = materialBinding;
+		cameraBuffer = new UniformBufferObject(false, cameraSize);
+		environmentBuffer = new UniformBufferObject(false, environmentLightsOffset + numDirectionalLights * dirLightSize
+			+ numPointLights * pointLightSize + numSpotLights * spotLightSize);
+		materialBuffer = new UniformBufferObject(false, materialSize);
+	}
+
+	/** Returns the GLSL declarations of the light structs and the three blocks, with the std140 layout the buffers are written
+	 * in. Prepend them to both the vertex and the fragment shader. */
+	public String getDeclarations () {
+		StringBuilder glsl = new StringBuilder();
+		glsl.append("struct DirectionalLight {\n\tvec3 color;\n\tvec3 direction;\n};\n");
+		glsl.append("struct PointLight {\n\tvec3 color;\n\tvec3 position;\n};\n");
+		glsl.append("struct SpotLight {\n\tvec3 color;\n\tvec3 position;\n\tvec3 direction;\n\tfloat cutoffAngle;\n")
+			.append("\tfloat exponent;\n};\n");
+		glsl.append("layout(std140) uniform ").append(cameraBlock).append(" {\n");
+		glsl.append("\tmat4 u_projViewTrans;\n\tmat4 u_viewTrans;\n\tmat4 u_projTrans;\n\tvec4 u_cameraPosition;\n");
+		glsl.append("\tvec3 u_cameraDirection;\n\tvec3 u_cameraUp;\n\tvec2 u_cameraNearFar;\n};\n");
+		glsl.append("layout(std140) uniform ").append(environmentBlock).append(" {\n");
+		glsl.append("\tvec3 u_ambientCubemap[6];\n\tvec4 u_fogColor;\n");
+		if (numDirectionalLights > 0) glsl.append("\tDirectionalLight u_dirLights[").append(numDirectionalLights).append("];\n");
+		if (numPointLights > 0) glsl.append("\tPointLight u_pointLights[").append(numPointLights).append("];\n");
+		if (numSpotLights > 0) glsl.append("\tSpotLight u_spotLights[").append(numSpotLights).append("];\n");
+		glsl.append("};\n");
+		glsl.append("layout(std140) uniform ").append(materialBlock).append(" {\n");
+		glsl.append("\tvec4 u_diffuseColor;\n\tvec4 u_specularColor;\n\tvec4 u_emissiveColor;\n\tvec4 u_reflectionColor;\n");
+		glsl.append("\tfloat u_shininess;\n\tfloat u_opacity;\n\tfloat u_alphaTest;\n};\n");
+		return glsl.toString();
+	}
+
+	/** Assigns the blocks the program uses to their binding points.
+	 * @return a mask of {@link #CAMERA}, {@link #ENVIRONMENT} and {@link #MATERIAL} for the blocks the program uses. */
+	public int bind (ShaderProgram program) {
+		int mask = 0;
+		if (program.setUniformBlockBinding(cameraBlock, cameraBinding)) mask |= CAMERA;
+		if (program.setUniformBlockBinding(environmentBlock, environmentBinding)) mask |= ENVIRONMENT;
+		if (program.setUniformBlockBinding(materialBlock, materialBinding)) mask |= MATERIAL;
+		return mask;
+	}
+
+	/** Binds the buffers to their binding points and makes the next calls to the set methods upload the values again. */
+	public void begin () {
+		cameraSet = environmentSet = materialSet = false;
+		currentEnvironment = null;
+		currentMaterial = null;
+		cameraBuffer.bind(cameraBinding);
+		environmentBuffer.bind(environmentBinding);
+		materialBuffer.bind(materialBinding);
+	}
+
+	/** Uploads the camera block if the values of the camera changed since the last upload. */
+	public void setCamera (final Camera camera) {
+		final float[] data = cameraData;
+		boolean changed = !cameraSet;
+		changed |= copy(camera.combined.val, data, 0);
+		changed |= copy(camera.view.val, data, 16);
+		changed |= copy(camera.projection.val, data, 32);
+		changed |= set(data, 48, camera.position.x, camera.position.y, camera.position.z, 1.1881f / (camera.far * camera.far));
+		changed |= set(data, 52, camera.direction.x, camera.direction.y, camera.direction.z, 0);
+		changed |= set(data, 56, camera.up.x, camera.up.y, camera.up.z, 0);
+		changed |= set(data, 60, camera.near, camera.far, 0, 0);
+		if (!changed) return;
+		cameraBuffer.setData(0, data, 0, cameraSize);
+		cameraBuffer.bind(cameraBinding);
+		cameraSet = true;
+		cameraUploads++;
+	}
+
+	/** Uploads the environment block if the environment differs from the previous one. */
+	public void setEnvironment (final @Null Environment environment) {
+		if (environmentSet && environment == currentEnvironment) return;
+		currentEnvironment = environment;
+		environmentSet = true;
+		final FloatBuffer buffer = environmentBuffer.getBuffer(true);
+		for (int i = 0, n = buffer.capacity(); i < n; i++)
+			buffer.put(i, 0);
+
+		final DirectionalLightsAttribute dirsAttribute = environment == null ? null
+			: environment.get(DirectionalLightsAttribute.class, DirectionalLightsAttribute.Type);
+		final Array<DirectionalLight> dirs = dirsAttribute == null ? null : dirsAttribute.lights;
+		if (environment == null)
+			ambientCubemap.set(1f, 1f, 1f);
+		else {
+			ambientCubemap.clear();
+			final ColorAttribute ambient = environment.get(ColorAttribute.class, ColorAttribute.AmbientLight);
+			if (ambient != null) ambientCubemap.set(ambient.color);
+			if (dirs != null) {
+				for (int i = numDirectionalLights; i < dirs.size; i++)
+					ambientCubemap.add(dirs.get(i).color, dirs.get(i).direction);
+			}
+			ambientCubemap.clamp();
+			final ColorAttribute fog = environment.get(ColorAttribute.class, ColorAttribute.Fog);
+			if (fog != null) put(buffer, 24, fog.color);
+		}
+		for (int i = 0; i < 6; i++)
+			put(buffer, i * 4, ambientCubemap.data[i * 3], ambientCubemap.data[i * 3 + 1], ambientCubemap.data[i * 3 + 2], 0);
+
+		int offset = environmentLightsOffset;
+		for (int i = 0; i < numDirectionalLights; i++, offset += dirLightSize) {
+			if (dirs == null || i >= dirs.size)
+				put(buffer, offset + 4, 0, -1, 0, 0);
+			else {
+				final DirectionalLight light = dirs.get(i);
+				put(buffer, offset, light.color);
+				put(buffer, offset + 4, light.direction.x, light.direction.y, light.direction.z, 0);
+			}
+		}
+		final PointLightsAttribute pointsAttribute = environment == null ? null
+			: environment.get(PointLightsAttribute.class, PointLightsAttribute.Type);
+		final Array<PointLight> points = pointsAttribute == null ? null : pointsAttribute.lights;
+		for (int i = 0; i < numPointLights; i++, offset += pointLightSize) {
+			if (points == null || i >= points.size) continue;
+			final PointLight light = points.get(i);
+			put(buffer, offset, light.color.r * light.intensity, light.color.g * light.intensity, light.color.b * light.intensity, 0);
+			put(buffer, offset + 4, light.position.x, light.position.y, light.position.z, 0);
+		}
+		final SpotLightsAttribute spotsAttribute = environment == null ? null
+			: environment.get(SpotLightsAttribute.class, SpotLightsAttribute.Type);
+		final Array<SpotLight> spots = spotsAttribute == null ? null : spotsAttribute.lights;
+		for (int i = 0; i < numSpotLights; i++, offset += spotLightSize) {
+			if (spots == null || i >= spots.size) continue;
+			final SpotLight light = spots.get(i);
+			put(buffer, offset, light.color.r * light.intensity, light.color.g * light.intensity, light.color.b * light.intensity, 0);
+			put(buffer, offset + 4, light.position.x, light.position.y, light.position.z, 0);
+			put(buffer, offset + 8, light.direction.x, light.direction.y, light.direction.z, light.cutoffAngle);
+			buffer.put(offset + 12, light.exponent);
+		}
+		environmentBuffer.bind(environmentBinding);
+		environmentUploads++;
+	}
+
+	/** Uploads the material block if the material differs from the previous one. */
+	public void setMaterial (final @Null Material material) {
+		if (materialSet && material == currentMaterial) return;
+		currentMaterial = material;
+		materialSet = true;
+		final FloatBuffer buffer = materialBuffer.getBuffer(true);
+		put(buffer, 0, material, ColorAttribute.Diffuse, Color.WHITE);
+		put(buffer, 4, material, ColorAttribute.Specular, Color.CLEAR);
+		put(buffer, 8, material, ColorAttribute.Emissive, Color.CLEAR);
+		put(buffer, 12, material, ColorAttribute.Reflection, Color.CLEAR);
+		final FloatAttribute shininess = material == null ? null
+			: material.get(FloatAttribute.class, FloatAttribute.Shininess);
+		final BlendingAttribute blending = material == null ? null
+			: material.get(BlendingAttribute.class, BlendingAttribute.Type);
+		final FloatAttribute alphaTest = material == null ? null
+			: material.get(FloatAttribute.class, FloatAttribute.AlphaTest);
+		put(buffer, 16, shininess == null ? 20f : shininess.value, blending == null ? 1f : blending.opacity,
+			alphaTest == null ? 0f : alphaTest.value, 0);
+		materialBuffer.bind(materialBinding);
+		materialUploads++;
+	}
+
+	/** Sets the upload counters to zero. */
+	public void resetCounts () {
+		cameraUploads = environmentUploads = materialUploads = 0;
+	}
+
+	@Override
+	public void dispose () {
+		cameraBuffer.dispose();
+		environmentBuffer.dispose();
+		materialBuffer.dispose();
+	}
+
+	private static boolean copy (final float[] values, final float[] data, final int offset) {
+		boolean changed = false;
+		for (int i = 0; i < 16; i++) {
+			if (data[offset + i] != values[i]) {
+				data[offset + i] = values[i];
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private static boolean set (final float[] data, final int offset, final float x, final float y, final float z,
+		final float w) {
+		final boolean changed = data[offset] != x || data[offset + 1] != y || data[offset + 2] != z || data[offset + 3] != w;
+		data[offset] = x;
+		data[offset + 1] = y;
+		data[offset + 2] = z;
+		data[offset + 3] = w;
+		return changed;
+	}
+
+	private static void put (final FloatBuffer buffer, final int offset, final Color color) {
+		put(buffer, offset, color.r, color.g, color.b, color.a);
+	}
+
+	private static void put (final FloatBuffer buffer, final int offset, final float x, final float y, final float z,
+		final float w) {
+		buffer.put(offset, x);
+		buffer.put(offset + 1, y);
+		buffer.put(offset + 2, z);
+		buffer.put(offset + 3, w);
+	}
+
+	private static void put (final FloatBuffer buffer, final int offset, final @Null Attributes material, final long type,
+		final Color defaultColor) {
+		final ColorAttribute attribute = material == null ? null : material.get(ColorAttribute.class, type);
+		put(buffer, offset, attribute == null ? defaultColor : attribute.color);
+	}
+}
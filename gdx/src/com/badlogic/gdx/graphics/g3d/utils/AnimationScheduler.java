@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** Updates {@link AnimationController}s at a rate that depends on their distance to the camera, so the animation cost per frame
+ * stays bounded when there are many animated instances. The distance selects a level of detail (LOD): level 0 is closer than
+ * {@link #lodDistances}[0], level 1 is closer than {@link #lodDistances}[1], and so on. Each level updates its controllers every
+ * {@link #lodFrameIntervals} frames with the time accumulated since their last update, and the controllers of a level are spread
+ * over those frames. From level {@link #noBlendingLod} on, transitions are not blended, see
+ * {@link BaseAnimationController#blending}.
+ * <p>
+ * Call {@link #update(Camera, float)} once per frame instead of updating the controllers directly. */
+public class AnimationScheduler {
+	/** The distances to the camera at which the next level of detail starts, ascending. */
+	public float[] lodDistances = {25f, 50f, 100f};
+	/** The number of frames between two updates for each level of detail, one more than {@link #lodDistances}. */
+	public int[] lodFrameIntervals = {1, 2, 4, 8};
+	/** The first level of detail at which transitions are not blended. */
+	public int noBlendingLod = 2;
+	/** The maximum number of controllers to update per frame. When more are due, the ones that waited longest are updated first and
+	 * the others in the next frames. */
+	public int maxUpdatesPerFrame = Integer.MAX_VALUE;
+	/** Number of controllers updated by the last call to {@link #update(Camera, float)}. */
+	public int updated;
+
+	private final Array<Scheduled> scheduled = new Array<Scheduled>();
+	private final Array<Scheduled> due = new Array<Scheduled>();
+	private final Vector3 tmp = new Vector3();
+	private int frame, phase;
+
+	private final Comparator<Scheduled> waitedLongest = new Comparator<Scheduled>() {
+		@Override
+		public int compare (Scheduled o1, Scheduled o2) {
+			return o2.frames - o1.frames;
+		}
+	};
+
+	public void add (AnimationController controller) {
+		Scheduled s = new Scheduled();
+		s.controller = controller;
+		s.phase = phase++;
+		scheduled.add(s);
+	}
+
+	/** Removes the controller and enables {@link BaseAnimationController#blending blending} for it again.
+	 * @return Whether the controller was scheduled. */
+	public boolean remove (AnimationController controller) {
+		for (int i = 0; i < scheduled.size; i++) {
+			if (scheduled.get(i).controller == controller) {
+				scheduled.removeIndex(i);
+				controller.blending = true;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Removes all controllers and enables {@link BaseAnimationController#blending blending} for them again. */
+	public void clear () {
+		for (int i = 0; i < scheduled.size; i++)
+			scheduled.get(i).controller.blending = true;
+		scheduled.clear();
+	}
+
+	public int getSize () {
+		return scheduled.size;
+	}
+
+	/** Returns the level of detail for an instance at the given distance to the camera. */
+	public int getLod (float distance) {
+		int lod = 0;
+		while (lod < lodDistances.length && distance >= lodDistances[lod])
+			lod++;
+		return lod;
+	}
+
+	/** Updates the controllers that are due this frame. The distance of a controller is measured from the camera's position to the
+	 * translation of its {@link BaseAnimationController#target target}'s transform.
+	 * @param delta The time elapsed since the last call. */
+	public void update (Camera camera, float delta) {
+		frame++;
+		for (int i = 0, n = scheduled.size; i < n; i++) {
+			Scheduled s = scheduled.get(i);
+			s.delta += delta;
+			s.frames++;
+			int lod = getLod(s.controller.target.transform.getTranslation(tmp).dst(camera.position));
+			s.controller.blending = lod < noBlendingLod;
+			int interval = lodFrameIntervals[Math.min(lod, lodFrameIntervals.length - 1)];
+			if (s.deferred || interval <= 1 || (frame + s.phase) % interval == 0) due.add(s);
+		}
+		if (due.size > maxUpdatesPerFrame) due.sort(waitedLongest);
+		updated = 0;
+		for (int i = 0, n = due.size; i < n; i++) {
+			Scheduled s = due.get(i);
+			if (i < maxUpdatesPerFrame) {
+				s.controller.update(s.delta);
+				s.delta = 0;
+				s.frames = 0;
+				s.deferred = false;
+				updated++;
+			} else
+				s.deferred = true;
+		}
+		due.clear();
+	}
+
+	static private class Scheduled {
+		AnimationController controller;
+		float delta;
+		int frames, phase;
+		boolean deferred;
+	}
+}
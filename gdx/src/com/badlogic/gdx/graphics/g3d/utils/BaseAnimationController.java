@@ -21,11 +21,13 @@ import com.badlogic.gdx.graphics.g3d.model.Animation;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.model.PackedKeyframes;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.Pool;
@@ -34,6 +36,9 @@ import com.badlogic.gdx.utils.Pool.Poolable;
 /** Base class for applying one or more {@link Animation}s to a {@link ModelInstance}. This class only applies the actual
  * {@link Node} transformations, it does not manage animations or keep track of animation states. See {@link AnimationController}
  * for an implementation of this class which does manage animations.
+ * <p>
+ * Controllers of different {@link ModelInstance}s don't share any state, so they can be updated on different threads, see
+ * {@link ParallelAnimationUpdater}.
  * 
  * @author Xoppa */
 public class BaseAnimationController {
@@ -95,10 +100,17 @@ public class BaseAnimationController {
 			return new Transform();
 		}
 	};
-	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final Transform tmpTransform = new Transform();
+	/** The keyframe cursors of each animation that was applied, see {@link #getCursors(Animation)}. */
+	private final ObjectMap<Animation, int[]> cursors = new ObjectMap<Animation, int[]>();
 	private boolean applying = false;
 	/** The {@link ModelInstance} on which the animations are being performed. */
 	public final ModelInstance target;
+	/** Whether {@link #applyAnimations(Animation, float, Animation, float, float)} blends the two animations. When false, only the
+	 * animation with the largest weight is applied, which is cheaper and hardly visible for instances that are far away. See
+	 * {@link AnimationScheduler}. */
+	public boolean blending = true;
 
 	/** Construct a new BaseAnimationController.
 	 * @param target The {@link ModelInstance} on which the animations are being performed. */
@@ -117,7 +129,7 @@ public class BaseAnimationController {
 	 * @param weight The blend weight of this animation relative to the previous applied animations. */
 	protected void apply (final Animation animation, final float time, final float weight) {
 		if (!applying) throw new GdxRuntimeException("You must call begin() before adding an animation");
-		applyAnimation(transforms, transformPool, weight, animation, time);
+		applyAnimation(transforms, transformPool, weight, animation, time, tmpTransform, getCursors(animation));
 	}
 
 	/** End applying multiple animations to the instance and update it to reflect the changes. */
@@ -135,7 +147,7 @@ public class BaseAnimationController {
 	/** Apply a single animation to the {@link ModelInstance} and update the it to reflect the changes. */
 	protected void applyAnimation (final Animation animation, final float time) {
 		if (applying) throw new GdxRuntimeException("Call end() first");
-		applyAnimation(null, null, 1.f, animation, time);
+		applyAnimation(null, null, 1.f, animation, time, tmpTransform, getCursors(animation));
 		target.calculateTransforms();
 	}
 
@@ -146,6 +158,8 @@ public class BaseAnimationController {
 			applyAnimation(anim1, time1);
 		else if (anim1 == null || weight == 1.f)
 			applyAnimation(anim2, time2);
+		else if (!blending)
+			applyAnimation(weight < 0.5f ? anim1 : anim2, weight < 0.5f ? time1 : time2);
 		else if (applying)
 			throw new GdxRuntimeException("Call end() first");
 		else {
@@ -156,6 +170,18 @@ public class BaseAnimationController {
 		}
 	}
 
+	/** Returns the keyframe cursors for the animation, 3 for each {@link NodeAnimation}: translation, rotation and scaling. They
+	 * store the index of the last keyframe used for {@link PackedKeyframes}, so the next keyframe is found without a search when
+	 * the animation plays forward. */
+	protected int[] getCursors (final Animation animation) {
+		int[] cursors = this.cursors.get(animation);
+		if (cursors == null || cursors.length != animation.nodeAnimations.size * 3) {
+			cursors = new int[animation.nodeAnimations.size * 3];
+			this.cursors.put(animation, cursors);
+		}
+		return cursors;
+	}
+
 	private final static Transform tmpT = new Transform();
 
 	/** Find first key frame index just before a given time
@@ -187,7 +213,14 @@ public class BaseAnimationController {
 		return minIndex;
 	}
 
-	private final static Vector3 getTranslationAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+	private final static Vector3 getTranslationAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out,
+		final @Null int[] cursors, final int cursor) {
+		final PackedKeyframes packed = nodeAnim.packedTranslation;
+		if (packed != null) {
+			final int index = packed.indexOf(time, cursors == null ? 0 : cursors[cursor]);
+			if (cursors != null) cursors[cursor] = index;
+			return packed.getVector(time, index, out);
+		}
 		if (nodeAnim.translation == null) return out.set(nodeAnim.node.translation);
 		if (nodeAnim.translation.size == 1) return out.set(nodeAnim.translation.get(0).value);
 
@@ -203,7 +236,14 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out) {
+	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out,
+		final @Null int[] cursors, final int cursor) {
+		final PackedKeyframes packed = nodeAnim.packedRotation;
+		if (packed != null) {
+			final int index = packed.indexOf(time, cursors == null ? 0 : cursors[cursor]);
+			if (cursors != null) cursors[cursor] = index;
+			return packed.getQuaternion(time, index, out);
+		}
 		if (nodeAnim.rotation == null) return out.set(nodeAnim.node.rotation);
 		if (nodeAnim.rotation.size == 1) return out.set(nodeAnim.rotation.get(0).value);
 
@@ -219,7 +259,14 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Vector3 getScalingAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+	private final static Vector3 getScalingAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out,
+		final @Null int[] cursors, final int cursor) {
+		final PackedKeyframes packed = nodeAnim.packedScaling;
+		if (packed != null) {
+			final int index = packed.indexOf(time, cursors == null ? 0 : cursors[cursor]);
+			if (cursors != null) cursors[cursor] = index;
+			return packed.getVector(time, index, out);
+		}
 		if (nodeAnim.scaling == null) return out.set(nodeAnim.node.scale);
 		if (nodeAnim.scaling.size == 1) return out.set(nodeAnim.scaling.get(0).value);
 
@@ -235,27 +282,29 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time) {
-		final Transform transform = tmpT;
-		getTranslationAtTime(nodeAnim, time, transform.translation);
-		getRotationAtTime(nodeAnim, time, transform.rotation);
-		getScalingAtTime(nodeAnim, time, transform.scale);
+	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time,
+		final Transform transform, final @Null int[] cursors, final int cursor) {
+		getTranslationAtTime(nodeAnim, time, transform.translation, cursors, cursor);
+		getRotationAtTime(nodeAnim, time, transform.rotation, cursors, cursor + 1);
+		getScalingAtTime(nodeAnim, time, transform.scale, cursors, cursor + 2);
 		return transform;
 	}
 
-	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time) {
+	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time, final Transform tmp,
+		final @Null int[] cursors, final int cursor) {
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, cursors, cursor);
 		transform.toMatrix4(node.localTransform);
 	}
 
 	private final static void applyNodeAnimationBlending (final NodeAnimation nodeAnim, final ObjectMap<Node, Transform> out,
-		final Pool<Transform> pool, final float alpha, final float time) {
+		final Pool<Transform> pool, final float alpha, final float time, final Transform tmp, final @Null int[] cursors,
+		final int cursor) {
 
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, cursors, cursor);
 
 		Transform t = out.get(node, null);
 		if (t != null) {
@@ -271,18 +320,35 @@ public class BaseAnimationController {
 		}
 	}
 
-	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. */
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. Not thread safe, use
+	 * {@link #applyAnimation(ObjectMap, Pool, float, Animation, float, Transform)} to apply animations on multiple threads. */
 	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
 		final Animation animation, final float time) {
+		applyAnimation(out, pool, alpha, animation, time, tmpT);
+	}
+
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones.
+	 * @param tmp Used to evaluate the keyframes, so that animations can be applied on multiple threads. */
+	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp) {
+		applyAnimation(out, pool, alpha, animation, time, tmp, null);
+	}
+
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones.
+	 * @param tmp Used to evaluate the keyframes, so that animations can be applied on multiple threads.
+	 * @param cursors The keyframe cursors for the animation, see {@link #getCursors(Animation)}. May be null. */
+	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp, final @Null int[] cursors) {
 
+		final Array<NodeAnimation> nodeAnimations = animation.nodeAnimations;
 		if (out == null) {
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationDirectly(nodeAnim, time);
+			for (int i = 0, n = nodeAnimations.size; i < n; i++)
+				applyNodeAnimationDirectly(nodeAnimations.get(i), time, tmp, cursors, i * 3);
 		} else {
 			for (final Node node : out.keys())
 				node.isAnimated = false;
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationBlending(nodeAnim, out, pool, alpha, time);
+			for (int i = 0, n = nodeAnimations.size; i < n; i++)
+				applyNodeAnimationBlending(nodeAnimations.get(i), out, pool, alpha, time, tmp, cursors, i * 3);
 			for (final ObjectMap.Entry<Node, Transform> e : out.entries()) {
 				if (!e.key.isAnimated) {
 					e.key.isAnimated = true;
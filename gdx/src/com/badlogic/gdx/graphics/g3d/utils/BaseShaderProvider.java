@@ -16,13 +16,25 @@
 
 package com.badlogic.gdx.graphics.g3d.utils;
 
+import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.glutils.ShaderBinaryCache;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 
 public abstract class BaseShaderProvider implements ShaderProvider {
 	protected Array<Shader> shaders = new Array<Shader>();
+	private final Array<Renderable> precompileRenderables = new Array<Renderable>();
+	private final FlushablePool<Renderable> precompilePool = new FlushablePool<Renderable>() {
+		@Override
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+	};
 
 	@Override
 	public Shader getShader (Renderable renderable) {
@@ -40,6 +52,27 @@ public abstract class BaseShaderProvider implements ShaderProvider {
 
 	protected abstract Shader createShader (final Renderable renderable);
 
+	/** Creates the shaders for the renderables of the provider ahead of time, e.g. while loading, so the first frame that renders
+	 * them doesn't have to compile shaders. Combine with a {@link ShaderBinaryCache} to also skip compiling in later runs.
+	 * @param environment The environment the renderables will be rendered with, which selects the shader as well. */
+	public void precompile (RenderableProvider renderableProvider, @Null Environment environment) {
+		renderableProvider.getRenderables(precompileRenderables, precompilePool);
+		for (int i = 0; i < precompileRenderables.size; i++) {
+			final Renderable renderable = precompileRenderables.get(i);
+			renderable.environment = environment;
+			getShader(renderable);
+		}
+		precompileRenderables.clear();
+		precompilePool.flush();
+	}
+
+	/** Creates the shaders for the renderables of the providers ahead of time, see
+	 * {@link #precompile(RenderableProvider, Environment)}. */
+	public <T extends RenderableProvider> void precompile (Iterable<T> renderableProviders, @Null Environment environment) {
+		for (final RenderableProvider renderableProvider : renderableProviders)
+			precompile(renderableProvider, environment);
+	}
+
 	@Override
 	public void dispose () {
 		for (Shader shader : shaders) {
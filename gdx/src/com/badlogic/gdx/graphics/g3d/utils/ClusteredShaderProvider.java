@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.environment.LightClusters;
+import com.badlogic.gdx.graphics.g3d.shaders.ClusteredShader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+
+/** Creates {@link ClusteredShader}s that light the renderables with the lights of the {@link LightClusters}. */
+public class ClusteredShaderProvider extends BaseShaderProvider {
+	public final DefaultShader.Config config;
+	public final LightClusters clusters;
+
+	public ClusteredShaderProvider (final LightClusters clusters, final DefaultShader.Config config) {
+		this.clusters = clusters;
+		this.config = (config == null) ? new DefaultShader.Config() : config;
+	}
+
+	public ClusteredShaderProvider (final LightClusters clusters) {
+		this(clusters, null);
+	}
+
+	@Override
+	protected Shader createShader (final Renderable renderable) {
+		return new ClusteredShader(renderable, config, clusters);
+	}
+}
@@ -19,23 +19,97 @@ package com.badlogic.gdx.graphics.g3d.utils;
 import java.util.Comparator;
 
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Attribute;
+import com.badlogic.gdx.graphics.g3d.Material;
 import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
+/** Sorts renderables on a 64-bit key, which is computed once per renderable for each sort and stored in
+ * {@link Renderable#sortKey}. Opaque renderables come first, sorted on shader, textures, material and then front to back, so the
+ * number of shader, texture and material switches is kept low. Blended renderables come last, sorted back to front and then on
+ * shader, textures and material.
+ * <p>
+ * The key has one bit for blending, 12 bits for the shader, 12 bits for a hash of the textures, 13 bits for a hash of the
+ * material and 24 bits for the distance to the camera. Blended renderables have the inverted distance right after the blending
+ * bit, so they are sorted back to front first. Shader ids are given in the order the shaders are first seen during a sort, with
+ * id 0 kept for renderables without a shader. Renderables that differ only in bits that were hashed may end up interleaved,
+ * which costs state changes but is not visible. */
 public class DefaultRenderableSorter implements RenderableSorter, Comparator<Renderable> {
+	static final int depthBits = 24, materialBits = 13, textureBits = 12, shaderBits = 12;
+	static final long depthMask = (1L << depthBits) - 1;
+	static final int materialShift = depthBits, textureShift = materialShift + materialBits,
+		shaderShift = textureShift + textureBits, blendedShift = shaderShift + shaderBits;
+
 	private Camera camera;
 	private final Vector3 tmpV1 = new Vector3();
-	private final Vector3 tmpV2 = new Vector3();
+	private final ObjectIntMap<Shader> shaderIds = new ObjectIntMap<Shader>();
+	private Material lastMaterial;
+	private long lastMaterialKey;
 
 	@Override
 	public void sort (final Camera camera, final Array<Renderable> renderables) {
 		this.camera = camera;
+		for (int i = 0, n = renderables.size; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			renderable.sortKey = getSortKey(renderable);
+		}
+		shaderIds.clear();
+		lastMaterial = null;
+		this.camera = null;
 		renderables.sort(this);
 	}
 
+	/** Returns the key to sort the renderable on, smaller keys are rendered first. Only valid during {@link #sort(Camera, Array)},
+	 * which sets the camera and clears the shader ids afterwards. */
+	private long getSortKey (final Renderable renderable) {
+		final Material material = renderable.material;
+		final boolean blended = material != null && material.has(BlendingAttribute.Type)
+			&& ((BlendingAttribute)material.get(BlendingAttribute.Type)).blended;
+
+		int shaderId = 0;
+		if (renderable.shader != null) {
+			shaderId = shaderIds.get(renderable.shader, -1);
+			if (shaderId == -1) shaderIds.put(renderable.shader, shaderId = shaderIds.size + 1);
+		}
+		final long state = ((shaderId & ((1L << shaderBits) - 1)) << shaderShift) | getMaterialKey(material);
+
+		final float far = camera.far > 0 ? camera.far : 1f;
+		final float distance = camera.position.dst(getTranslation(renderable.worldTransform, renderable.meshPart.center, tmpV1));
+		final long depth = (long)(Math.min(distance / far, 1f) * depthMask);
+		if (!blended) return state | depth;
+		// Moves the state bits below the inverted depth bits.
+		return (1L << blendedShift) | ((depthMask - depth) << (blendedShift - depthBits)) | (state >>> depthBits);
+	}
+
+	/** Returns the texture and material bits of the key, reusing the key of the previous renderable if it has the same material. */
+	private long getMaterialKey (final Material material) {
+		if (material == null) return 0;
+		if (material == lastMaterial) return lastMaterialKey;
+		int textureHash = 0;
+		for (final Attribute attribute : material) {
+			if (!(attribute instanceof TextureAttribute)) continue;
+			final Texture texture = ((TextureAttribute)attribute).textureDescription.texture;
+			if (texture != null) textureHash = textureHash * 31 + texture.getTextureObjectHandle();
+		}
+		final long key = (fold(textureHash, textureBits) << textureShift) | (fold(material.attributesHash(), materialBits) << materialShift);
+		lastMaterial = material;
+		lastMaterialKey = key;
+		return key;
+	}
+
+	private static long fold (int hash, final int bits) {
+		hash ^= hash >>> 16;
+		hash ^= hash >>> bits;
+		return hash & ((1L << bits) - 1);
+	}
+
 	private Vector3 getTranslation (Matrix4 worldTransform, Vector3 center, Vector3 output) {
 		if (center.isZero())
 			worldTransform.getTranslation(output);
@@ -46,20 +120,10 @@ public class DefaultRenderableSorter implements RenderableSorter, Comparator<Ren
 		return output;
 	}
 
+	/** Compares the {@link Renderable#sortKey} of the renderables, which {@link #sort(Camera, Array)} computes before sorting. This
+	 * is only valid inside sort: elsewhere the keys may be stale, for example after the camera moved, or never computed. */
 	@Override
 	public int compare (final Renderable o1, final Renderable o2) {
-		final boolean b1 = o1.material.has(BlendingAttribute.Type)
-			&& ((BlendingAttribute)o1.material.get(BlendingAttribute.Type)).blended;
-		final boolean b2 = o2.material.has(BlendingAttribute.Type)
-			&& ((BlendingAttribute)o2.material.get(BlendingAttribute.Type)).blended;
-		if (b1 != b2) return b1 ? 1 : -1;
-		// FIXME implement better sorting algorithm
-		// final boolean same = o1.shader == o2.shader && o1.mesh == o2.mesh && (o1.lights == null) == (o2.lights == null) &&
-		// o1.material.equals(o2.material);
-		getTranslation(o1.worldTransform, o1.meshPart.center, tmpV1);
-		getTranslation(o2.worldTransform, o2.meshPart.center, tmpV2);
-		final float dst = (int)(1000f * camera.position.dst2(tmpV1)) - (int)(1000f * camera.position.dst2(tmpV2));
-		final int result = dst < 0 ? -1 : (dst > 0 ? 1 : 0);
-		return b1 ? -result : result;
+		return o1.sortKey < o2.sortKey ? -1 : (o1.sortKey > o2.sortKey ? 1 : 0);
 	}
 }
@@ -48,7 +48,8 @@ import com.badlogic.gdx.utils.ShortArray;
 /** Class to construct a mesh, optionally splitting it into one or more mesh parts. Before you can call any other method you must
  * call {@link #begin(VertexAttributes)} or {@link #begin(VertexAttributes, int)}. To use mesh parts you must call
  * {@link #part(String, int)} before you start building the part. The MeshPart itself is only valid after the call to
- * {@link #end()}.
+ * {@link #end()}. A MeshBuilder is not thread safe. Separate instances can add meshes and vertices on separate threads when
+ * they end with {@link #end(FloatArray, ShortArray)}, but the shape methods (e.g. box) share temporary objects.
  * @author Xoppa */
 public class MeshBuilder implements MeshPartBuilder {
 	/** maximum number of vertices mesh builder can hold (64k) */
@@ -56,8 +57,8 @@ public class MeshBuilder implements MeshPartBuilder {
 	/** highest index mesh builder can get (64k - 1) */
 	public static final int MAX_INDEX = MAX_VERTICES - 1;
 
-	private final static ShortArray tmpIndices = new ShortArray();
-	private final static FloatArray tmpVertices = new FloatArray();
+	private final ShortArray tmpIndices = new ShortArray();
+	private final FloatArray tmpVertices = new FloatArray();
 
 	private final VertexInfo vertTmp1 = new VertexInfo();
 	private final VertexInfo vertTmp2 = new VertexInfo();
@@ -258,6 +259,26 @@ public class MeshBuilder implements MeshPartBuilder {
 		return mesh;
 	}
 
+	/** End building the mesh and copies the vertices and indices to the arrays instead of a {@link Mesh}. This doesn't require a
+	 * GL context, so it can be done on any thread, the {@link MeshPart#mesh} of the parts must be set by the caller.
+	 * @param vertices The array to receive the built vertices, any existing data is cleared.
+	 * @param indices The array to receive the built indices, any existing data is cleared. */
+	public void end (FloatArray vertices, ShortArray indices) {
+		endpart();
+
+		if (attributes == null) throw new GdxRuntimeException("Call begin() first");
+
+		vertices.clear();
+		vertices.addAll(this.vertices);
+		indices.clear();
+		indices.addAll(this.indices);
+		parts.clear();
+
+		attributes = null;
+		this.vertices.clear();
+		this.indices.clear();
+	}
+
 	/** End building the mesh and returns the mesh */
 	public Mesh end () {
 		return end(new Mesh(true, Math.min(vertices.size / stride, MAX_VERTICES), indices.size, attributes));
@@ -473,9 +494,9 @@ public class MeshBuilder implements MeshPartBuilder {
 		return lastIndex;
 	}
 
-	private final static Vector3 vTmp = new Vector3();
+	private final Vector3 vTmp = new Vector3();
 
-	private final static void transformPosition (final float[] values, final int offset, final int size, Matrix4 transform) {
+	private final void transformPosition (final float[] values, final int offset, final int size, Matrix4 transform) {
 		if (size > 2) {
 			vTmp.set(values[offset], values[offset + 1], values[offset + 2]).mul(transform);
 			values[offset] = vTmp.x;
@@ -489,7 +510,7 @@ public class MeshBuilder implements MeshPartBuilder {
 			values[offset] = vTmp.set(values[offset], 0, 0).mul(transform).x;
 	}
 
-	private final static void transformNormal (final float[] values, final int offset, final int size, Matrix3 transform) {
+	private final void transformNormal (final float[] values, final int offset, final int size, Matrix3 transform) {
 		if (size > 2) {
 			vTmp.set(values[offset], values[offset + 1], values[offset + 2]).mul(transform).nor();
 			values[offset] = vTmp.x;
@@ -760,7 +781,7 @@ public class MeshBuilder implements MeshPartBuilder {
 		addMesh(tmpVertices.items, tmpIndices.items, 0, numIndices);
 	}
 
-	private static IntIntMap indicesMap = null;
+	private IntIntMap indicesMap = null;
 
 	@Override
 	public void addMesh (float[] vertices, short[] indices, int indexOffset, int numIndices) {
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Updates many {@link AnimationController}s, or calculates the node and bone transforms of many {@link ModelInstance}s, on
+ * multiple threads. The controllers or instances are split into one range per thread, the calling thread updates the last range
+ * itself and then waits until all ranges are done. Only the CPU side of the instances is changed, so rendering stays on the
+ * rendering thread and can start as soon as an update method returns.
+ * <p>
+ * The controllers and instances must not share nodes, and must not be changed elsewhere during an update. The
+ * {@link AnimationController.AnimationListener}s of the controllers are called on the thread that updated them. */
+public class ParallelAnimationUpdater implements Disposable {
+	private final AsyncExecutor executor;
+	private final int threads;
+	private final Array<UpdateTask> tasks = new Array<UpdateTask>();
+	private final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>();
+
+	/** @param threads The number of threads to update with, including the calling thread. */
+	public ParallelAnimationUpdater (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		this.threads = threads;
+		executor = threads > 1 ? new AsyncExecutor(threads - 1, "ParallelAnimationUpdater") : null;
+		for (int i = 0; i < threads; i++)
+			tasks.add(new UpdateTask());
+	}
+
+	/** Calls {@link AnimationController#update(float)} for each controller, which also calculates the transforms of the
+	 * controller's {@link BaseAnimationController#target target}. */
+	public void update (Array<AnimationController> controllers, float delta) {
+		run(controllers, null, delta);
+	}
+
+	/** Calls {@link ModelInstance#calculateTransforms()} for each instance. */
+	public void calculateTransforms (Array<ModelInstance> instances) {
+		run(null, instances, 0);
+	}
+
+	private void run (Array<AnimationController> controllers, Array<ModelInstance> instances, float delta) {
+		final int size = controllers != null ? controllers.size : instances.size;
+		if (size == 0) return;
+		final int count = Math.min(threads, size);
+		for (int i = 0; i < count; i++) {
+			final UpdateTask task = tasks.get(i);
+			task.controllers = controllers;
+			task.instances = instances;
+			task.start = size * i / count;
+			task.end = size * (i + 1) / count;
+			task.delta = delta;
+			if (i < count - 1) results.add(executor.submit(task));
+		}
+		// Wait for all ranges before throwing, so no task is still running when this method returns.
+		RuntimeException error = null;
+		try {
+			tasks.get(count - 1).call();
+		} catch (RuntimeException ex) {
+			error = ex;
+		}
+		for (int i = 0; i < results.size; i++) {
+			try {
+				results.get(i).get();
+			} catch (RuntimeException ex) {
+				if (error == null) error = ex;
+			}
+		}
+		results.clear();
+		if (error != null) throw error;
+	}
+
+	/** Waits for running updates to finish and stops the threads. */
+	@Override
+	public void dispose () {
+		if (executor != null) executor.dispose();
+	}
+
+	static private class UpdateTask implements AsyncTask<Void> {
+		Array<AnimationController> controllers;
+		Array<ModelInstance> instances;
+		int start, end;
+		float delta;
+
+		@Override
+		public Void call () {
+			if (controllers != null) {
+				for (int i = start; i < end; i++)
+					controllers.get(i).update(delta);
+			} else {
+				for (int i = start; i < end; i++)
+					instances.get(i).calculateTransforms();
+			}
+			return null;
+		}
+	}
+}
@@ -18,14 +18,20 @@ package com.badlogic.gdx.graphics.g3d.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.shaders.SharedUniformBlocks;
+import com.badlogic.gdx.utils.Null;
 
 /** Manages OpenGL state and tries to reduce state changes. Uses a {@link TextureBinder} to reduce texture binds as well. Call
  * {@link #begin()} to setup the context, call {@link #end()} to undo all state changes. Use the setters to change state, use
- * {@link #textureBinder} to bind textures.
+ * {@link #textureBinder} to bind textures. The public counters show how many state changes were sent to OpenGL and how many were
+ * skipped, see {@link #resetCounts()}.
  * @author badlogic, Xoppa */
 public class RenderContext {
 	/** used to bind textures **/
 	public final TextureBinder textureBinder;
+	/** The uniform buffers shared by all shaders that use this context, or null to set the values as uniforms. Not disposed by the
+	 * context. */
+	public @Null SharedUniformBlocks uniformBlocks;
 	private boolean blending;
 	private int blendSFactor;
 	private int blendDFactor;
@@ -35,6 +41,18 @@ public class RenderContext {
 	private boolean depthMask;
 	private int cullFace;
 
+	/** Number of blending state changes sent to OpenGL since the last call to {@link #resetCounts()}, including blend function
+	 * changes. */
+	public int blendingChanges;
+	/** Number of depth test, depth function, depth range and depth mask changes sent to OpenGL since the last call to
+	 * {@link #resetCounts()}. */
+	public int depthChanges;
+	/** Number of face culling changes sent to OpenGL since the last call to {@link #resetCounts()}. */
+	public int cullFaceChanges;
+	/** Number of state changes that were skipped since the last call to {@link #resetCounts()}, because the state was already
+	 * set. */
+	public int redundantChanges;
+
 	public RenderContext (TextureBinder textures) {
 		this.textureBinder = textures;
 	}
@@ -50,6 +68,7 @@ public class RenderContext {
 		Gdx.gl.glDisable(GL20.GL_CULL_FACE);
 		cullFace = blendSFactor = blendDFactor = 0;
 		textureBinder.begin();
+		if (uniformBlocks != null) uniformBlocks.begin();
 	}
 
 	/** Resets all changed OpenGL states to their defaults. */
@@ -61,8 +80,17 @@ public class RenderContext {
 		textureBinder.end();
 	}
 
+	/** Sets all state change counters to zero. */
+	public void resetCounts () {
+		blendingChanges = depthChanges = cullFaceChanges = redundantChanges = 0;
+	}
+
 	public void setDepthMask (final boolean depthMask) {
-		if (this.depthMask != depthMask) Gdx.gl.glDepthMask(this.depthMask = depthMask);
+		if (this.depthMask != depthMask) {
+			Gdx.gl.glDepthMask(this.depthMask = depthMask);
+			depthChanges++;
+		} else
+			redundantChanges++;
 	}
 
 	public void setDepthTest (final int depthFunction) {
@@ -75,15 +103,19 @@ public class RenderContext {
 		if (depthFunc != depthFunction) {
 			depthFunc = depthFunction;
 			if (enabled) {
-				Gdx.gl.glEnable(GL20.GL_DEPTH_TEST);
+				if (!wasEnabled) Gdx.gl.glEnable(GL20.GL_DEPTH_TEST);
 				Gdx.gl.glDepthFunc(depthFunction);
 			} else
 				Gdx.gl.glDisable(GL20.GL_DEPTH_TEST);
-		}
+			depthChanges++;
+		} else
+			redundantChanges++;
 		if (enabled) {
-			if (!wasEnabled || depthFunc != depthFunction) Gdx.gl.glDepthFunc(depthFunc = depthFunction);
-			if (!wasEnabled || this.depthRangeNear != depthRangeNear || this.depthRangeFar != depthRangeFar)
+			if (!wasEnabled || this.depthRangeNear != depthRangeNear || this.depthRangeFar != depthRangeFar) {
 				Gdx.gl.glDepthRangef(this.depthRangeNear = depthRangeNear, this.depthRangeFar = depthRangeFar);
+				depthChanges++;
+			} else
+				redundantChanges++;
 		}
 	}
 
@@ -94,22 +126,34 @@ public class RenderContext {
 				Gdx.gl.glEnable(GL20.GL_BLEND);
 			else
 				Gdx.gl.glDisable(GL20.GL_BLEND);
-		}
-		if (enabled && (blendSFactor != sFactor || blendDFactor != dFactor)) {
-			Gdx.gl.glBlendFunc(sFactor, dFactor);
-			blendSFactor = sFactor;
-			blendDFactor = dFactor;
+			blendingChanges++;
+		} else
+			redundantChanges++;
+		if (enabled) {
+			if (blendSFactor != sFactor || blendDFactor != dFactor) {
+				Gdx.gl.glBlendFunc(sFactor, dFactor);
+				blendSFactor = sFactor;
+				blendDFactor = dFactor;
+				blendingChanges++;
+			} else
+				redundantChanges++;
 		}
 	}
 
 	public void setCullFace (final int face) {
 		if (face != cullFace) {
+			final boolean wasEnabled = isCullFace(cullFace);
 			cullFace = face;
-			if ((face == GL20.GL_FRONT) || (face == GL20.GL_BACK) || (face == GL20.GL_FRONT_AND_BACK)) {
-				Gdx.gl.glEnable(GL20.GL_CULL_FACE);
+			if (isCullFace(face)) {
+				if (!wasEnabled) Gdx.gl.glEnable(GL20.GL_CULL_FACE);
 				Gdx.gl.glCullFace(face);
-			} else
-				Gdx.gl.glDisable(GL20.GL_CULL_FACE);
-		}
+			} else if (wasEnabled) Gdx.gl.glDisable(GL20.GL_CULL_FACE);
+			cullFaceChanges++;
+		} else
+			redundantChanges++;
+	}
+
+	static private boolean isCullFace (final int face) {
+		return face == GL20.GL_FRONT || face == GL20.GL_BACK || face == GL20.GL_FRONT_AND_BACK;
 	}
 }
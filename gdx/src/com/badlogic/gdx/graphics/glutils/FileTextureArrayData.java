@@ -39,7 +39,11 @@ public class FileTextureArrayData implements TextureArrayData {
 		this.depth = files.length;
 		textureDatas = new TextureData[files.length];
 		for (int i = 0; i < files.length; i++) {
-			textureDatas[i] = TextureData.Factory.loadFromFile(files[i], format, useMipMaps);
+			TextureData data = TextureData.Factory.loadFromFile(files[i], format, useMipMaps);
+			// A prepared mipmap chain is uploaded with glTexImage2D, which can't target a layer. Upload the pixmap and let
+			// consumeTextureArrayData generate the mipmaps of the array instead.
+			if (data instanceof FileTextureData) ((FileTextureData)data).generateMipMapChain = false;
+			textureDatas[i] = data;
 		}
 	}
 
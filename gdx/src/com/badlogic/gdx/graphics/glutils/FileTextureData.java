@@ -16,13 +16,22 @@
 
 package com.badlogic.gdx.graphics.glutils;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.PixmapIO;
 import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
+/** {@link TextureData} that loads a {@link Pixmap} from a file. All CPU work is done in {@link #prepare()}, which
+ * {@link com.badlogic.gdx.assets.loaders.TextureLoader} calls on a loading thread: the pixmap is converted to the requested
+ * {@link #getFormat() format} and, if {@link MipMapGenerator#setUseHardwareMipMap(boolean) hardware mipmaps} are disabled, the
+ * mipmap chain is generated. In that case the data is {@link TextureDataType#Custom custom} and uploading it only does
+ * <code>glTexImage2D</code> calls. The chain is not generated for the layers of a {@link FileTextureArrayData}, which can't be
+ * uploaded that way. */
 public class FileTextureData implements TextureData {
 
 	final FileHandle file;
@@ -30,7 +39,9 @@ public class FileTextureData implements TextureData {
 	int height = 0;
 	Format format;
 	Pixmap pixmap;
+	Pixmap[] mipMaps;
 	boolean useMipMaps;
+	boolean generateMipMapChain = true;
 	boolean isPrepared = false;
 
 	public FileTextureData (FileHandle file, Pixmap preloadedPixmap, Format format, boolean useMipMaps) {
@@ -62,6 +73,15 @@ public class FileTextureData implements TextureData {
 			height = pixmap.getHeight();
 			if (format == null) format = pixmap.getFormat();
 		}
+		if (format != pixmap.getFormat()) {
+			Pixmap converted = new Pixmap(width, height, format);
+			converted.setBlending(Blending.None);
+			converted.drawPixmap(pixmap, 0, 0, 0, 0, width, height);
+			pixmap.dispose();
+			pixmap = converted;
+		}
+		if (useMipMaps && generateMipMapChain && !MipMapGenerator.getUseHardwareMipMap())
+			mipMaps = MipMapGenerator.generateMipMapChain(pixmap);
 		isPrepared = true;
 	}
 
@@ -69,6 +89,11 @@ public class FileTextureData implements TextureData {
 	public Pixmap consumePixmap () {
 		if (!isPrepared) throw new GdxRuntimeException("Call prepare() before calling getPixmap()");
 		isPrepared = false;
+		if (mipMaps != null) {
+			for (Pixmap mipMap : mipMaps)
+				mipMap.dispose();
+			mipMaps = null;
+		}
 		Pixmap pixmap = this.pixmap;
 		this.pixmap = null;
 		return pixmap;
@@ -108,14 +133,30 @@ public class FileTextureData implements TextureData {
 		return file;
 	}
 
+	/** Returns {@link TextureDataType#Custom} after {@link #prepare()} generated the mipmap chain, so it is uploaded by
+	 * {@link #consumeCustomData(int)}. */
 	@Override
 	public TextureDataType getType () {
-		return TextureDataType.Pixmap;
+		return mipMaps != null ? TextureDataType.Custom : TextureDataType.Pixmap;
 	}
 
 	@Override
 	public void consumeCustomData (int target) {
-		throw new GdxRuntimeException("This TextureData implementation does not upload data itself");
+		if (!isPrepared || mipMaps == null)
+			throw new GdxRuntimeException("This TextureData implementation only uploads data itself for prepared mipmaps");
+		Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+		Gdx.gl.glTexImage2D(target, 0, pixmap.getGLInternalFormat(), width, height, 0, pixmap.getGLFormat(), pixmap.getGLType(),
+			pixmap.getPixels());
+		pixmap.dispose();
+		for (int i = 0; i < mipMaps.length; i++) {
+			Pixmap mipMap = mipMaps[i];
+			Gdx.gl.glTexImage2D(target, i + 1, mipMap.getGLInternalFormat(), mipMap.getWidth(), mipMap.getHeight(), 0,
+				mipMap.getGLFormat(), mipMap.getGLType(), mipMap.getPixels());
+			mipMap.dispose();
+		}
+		pixmap = null;
+		mipMaps = null;
+		isPrepared = false;
 	}
 
 	public String toString () {
@@ -36,6 +36,32 @@ public class MipMapGenerator {
 		MipMapGenerator.useHWMipMap = useHWMipMap;
 	}
 
+	static public boolean getUseHardwareMipMap () {
+		return useHWMipMap;
+	}
+
+	/** Creates the mipmap levels below the specified pixmap, down to 1x1, by downscaling each level from the previous one. This
+	 * doesn't use GL, so it can be called on any thread. The returned pixmaps must be disposed.
+	 * @return the pixmaps for level 1 and up, empty if the pixmap is already 1x1. */
+	static public Pixmap[] generateMipMapChain (Pixmap pixmap) {
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		int levels = 0;
+		for (int w = width, h = height; w > 1 || h > 1; w = Math.max(1, w / 2), h = Math.max(1, h / 2))
+			levels++;
+		Pixmap[] mipMaps = new Pixmap[levels];
+		Pixmap previous = pixmap;
+		for (int i = 0; i < levels; i++) {
+			width = Math.max(1, width / 2);
+			height = Math.max(1, height / 2);
+			Pixmap level = new Pixmap(width, height, pixmap.getFormat());
+			level.setBlending(Blending.None);
+			level.drawPixmap(previous, 0, 0, previous.getWidth(), previous.getHeight(), 0, 0, width, height);
+			mipMaps[i] = level;
+			previous = level;
+		}
+		return mipMaps;
+	}
+
 	/** Sets the image data of the {@link Texture} based on the {@link Pixmap}. The texture must be bound for this to work. If
 	 * <code>disposePixmap</code> is true, the pixmap will be disposed at the end of the method.
 	 * @param pixmap the Pixmap */
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Stores the binaries of linked {@link ShaderProgram}s in a directory, so the next run can load them with
+ * {@link GL30#glProgramBinary(int, int, java.nio.Buffer, int)} instead of compiling and linking the sources. Set it as
+ * {@link ShaderProgram#binaryCache} before creating shaders, e.g. with {@code Gdx.files.local("shadercache")}.
+ * <p>
+ * A binary is keyed by a hash of the shader sources and of the GL vendor, renderer and version strings, so a driver update doesn't
+ * load stale binaries. The driver may still reject a binary, which then is deleted and the program is compiled from source. Only
+ * used with GL ES 3.0 or GL 4.1 contexts that report binary formats, never on WebGL. */
+public class ShaderBinaryCache {
+	static private final int version = 1;
+	static private final int headerSize = 12;
+
+	private final FileHandle directory;
+	private final IntBuffer intbuf = BufferUtils.newIntBuffer(1);
+	private final IntBuffer intbuf2 = BufferUtils.newIntBuffer(1);
+	private int supported = -1;
+	private String driver;
+	/** Number of programs loaded from the cache. */
+	public int hits;
+	/** Number of programs that were not cached or whose binary was rejected. */
+	public int misses;
+
+	/** @param directory The directory to store the binaries in, created when the first binary is saved. */
+	public ShaderBinaryCache (FileHandle directory) {
+		this.directory = directory;
+	}
+
+	/** @return Whether the GL context supports program binaries. Must be called on the rendering thread. */
+	public boolean isSupported () {
+		if (supported == -1) {
+			supported = 0;
+			if (Gdx.gl30 != null && Gdx.app.getType() != ApplicationType.WebGL) {
+				intbuf.put(0, 0);
+				Gdx.gl.glGetIntegerv(GL30.GL_NUM_PROGRAM_BINARY_FORMATS, intbuf);
+				if (intbuf.get(0) > 0) {
+					supported = 1;
+					driver = Gdx.gl.glGetString(GL20.GL_VENDOR) + "\n" + Gdx.gl.glGetString(GL20.GL_RENDERER) + "\n"
+						+ Gdx.gl.glGetString(GL20.GL_VERSION);
+				}
+			}
+		}
+		return supported == 1;
+	}
+
+	/** Loads the cached binary for the sources into the program.
+	 * @return Whether the program was loaded and linked, false if there is no binary or the driver rejected it. */
+	public boolean load (int program, String vertexShader, String fragmentShader) {
+		if (!isSupported()) return false;
+		final FileHandle file = file(vertexShader, fragmentShader);
+		byte[] bytes = null;
+		if (file.exists()) {
+			try {
+				bytes = file.readBytes();
+			} catch (GdxRuntimeException ignored) {
+			}
+		}
+		if (bytes == null || bytes.length <= headerSize || readInt(bytes, 0) != version
+			|| readInt(bytes, 4) != check(vertexShader, fragmentShader)) {
+			misses++;
+			return false;
+		}
+
+		final int length = bytes.length - headerSize;
+		final ByteBuffer binary = BufferUtils.newByteBuffer(length);
+		binary.put(bytes, headerSize, length);
+		binary.flip();
+		Gdx.gl30.glProgramBinary(program, readInt(bytes, 8), binary, length);
+		Gdx.gl.glGetProgramiv(program, GL20.GL_LINK_STATUS, intbuf);
+		if (intbuf.get(0) == 0) {
+			file.delete();
+			misses++;
+			return false;
+		}
+		hits++;
+		return true;
+	}
+
+	/** Sets the hint that the binary of the program will be retrieved, must be called before the program is linked. */
+	public void prepare (int program) {
+		if (isSupported()) Gdx.gl30.glProgramParameteri(program, GL30.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL20.GL_TRUE);
+	}
+
+	/** Stores the binary of the linked program for the sources. Failing to write the file is logged and otherwise ignored. */
+	public void save (int program, String vertexShader, String fragmentShader) {
+		if (!isSupported()) return;
+		Gdx.gl.glGetProgramiv(program, GL30.GL_PROGRAM_BINARY_LENGTH, intbuf);
+		final int size = intbuf.get(0);
+		if (size <= 0) return;
+
+		final ByteBuffer binary = BufferUtils.newByteBuffer(size);
+		intbuf.put(0, 0);
+		Gdx.gl30.glGetProgramBinary(program, size, intbuf, intbuf2, binary);
+		final int length = intbuf.get(0);
+		if (length <= 0) return;
+
+		final byte[] bytes = new byte[headerSize + length];
+		writeInt(bytes, 0, version);
+		writeInt(bytes, 4, check(vertexShader, fragmentShader));
+		writeInt(bytes, 8, intbuf2.get(0));
+		binary.get(bytes, headerSize, length);
+		try {
+			file(vertexShader, fragmentShader).writeBytes(bytes, false);
+		} catch (GdxRuntimeException ex) {
+			Gdx.app.error("ShaderBinaryCache", "Unable to save shader binary.", ex);
+		}
+	}
+
+	/** Deletes all cached binaries. */
+	public void clear () {
+		directory.deleteDirectory();
+	}
+
+	private FileHandle file (String vertexShader, String fragmentShader) {
+		long hash = 0xcbf29ce484222325L;
+		hash = hash(hash, driver);
+		hash = hash(hash, vertexShader);
+		hash = hash(hash, fragmentShader);
+		return directory.child(Long.toHexString(hash) + ".bin");
+	}
+
+	/** FNV-1a over the chars of the string. */
+	static private long hash (long hash, String string) {
+		for (int i = 0, n = string.length(); i < n; i++) {
+			hash ^= string.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return (hash ^ 0xff) * 0x100000001b3L;
+	}
+
+	/** A second, independent hash stored in the file to detect collisions of the file name. */
+	static private int check (String vertexShader, String fragmentShader) {
+		return vertexShader.hashCode() * 31 + fragmentShader.hashCode();
+	}
+
+	static private int readInt (byte[] bytes, int offset) {
+		return (bytes[offset] & 0xff) << 24 | (bytes[offset + 1] & 0xff) << 16 | (bytes[offset + 2] & 0xff) << 8
+			| (bytes[offset + 3] & 0xff);
+	}
+
+	static private void writeInt (byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte)(value >> 24);
+		bytes[offset + 1] = (byte)(value >> 16);
+		bytes[offset + 2] = (byte)(value >> 8);
+		bytes[offset + 3] = (byte)value;
+	}
+}
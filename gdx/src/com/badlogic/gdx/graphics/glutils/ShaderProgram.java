@@ -27,6 +27,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
@@ -36,6 +37,7 @@ import com.badlogic.gdx.math.Vector4;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
@@ -91,6 +93,10 @@ public class ShaderProgram implements Disposable {
 	 * as-is, you should include a newline (`\n`) if needed. */
 	public static String prependFragmentCode = "";
 
+	/** cache of linked program binaries, used to skip compiling and linking shaders that were built in a previous run. Null (the
+	 * default) to always compile from source. */
+	public static @Null ShaderBinaryCache binaryCache;
+
 	/** the list of currently available shaders **/
 	private final static ObjectMap<Application, Array<ShaderProgram>> shaders = new ObjectMap<Application, Array<ShaderProgram>>();
 
@@ -112,6 +118,12 @@ public class ShaderProgram implements Disposable {
 	/** uniform names **/
 	private String[] uniformNames;
 
+	/** uniform block index lookup **/
+	private final ObjectIntMap<String> uniformBlocks = new ObjectIntMap<String>();
+
+	/** uniform block binding points, restored when the program is recompiled **/
+	private final ObjectIntMap<String> uniformBlockBindings = new ObjectIntMap<String>();
+
 	/** attribute lookup **/
 	private final ObjectIntMap<String> attributes = new ObjectIntMap<String>();
 
@@ -181,6 +193,21 @@ public class ShaderProgram implements Disposable {
 	 * @param vertexShader
 	 * @param fragmentShader */
 	private void compileShaders (String vertexShader, String fragmentShader) {
+		final ShaderBinaryCache binaryCache = ShaderProgram.binaryCache;
+		if (binaryCache != null && binaryCache.isSupported()) {
+			int program = createProgram();
+			if (program != -1) {
+				if (binaryCache.load(program, vertexShader, fragmentShader)) {
+					this.program = program;
+					vertexShaderHandle = 0;
+					fragmentShaderHandle = 0;
+					isCompiled = true;
+					return;
+				}
+				Gdx.gl20.glDeleteProgram(program);
+			}
+		}
+
 		vertexShaderHandle = loadShader(GL20.GL_VERTEX_SHADER, vertexShader);
 		fragmentShaderHandle = loadShader(GL20.GL_FRAGMENT_SHADER, fragmentShader);
 
@@ -196,6 +223,7 @@ public class ShaderProgram implements Disposable {
 		}
 
 		isCompiled = true;
+		if (binaryCache != null && binaryCache.isSupported()) binaryCache.save(program, vertexShader, fragmentShader);
 	}
 
 	private int loadShader (int type, String source) {
@@ -236,6 +264,7 @@ public class ShaderProgram implements Disposable {
 
 		gl.glAttachShader(program, vertexShaderHandle);
 		gl.glAttachShader(program, fragmentShaderHandle);
+		if (binaryCache != null) binaryCache.prepare(program);
 		gl.glLinkProgram(program);
 
 		ByteBuffer tmp = ByteBuffer.allocateDirect(4);
@@ -758,6 +787,9 @@ public class ShaderProgram implements Disposable {
 		if (invalidated) {
 			compileShaders(vertexShaderSource, fragmentShaderSource);
 			invalidated = false;
+			uniformBlocks.clear();
+			for (ObjectIntMap.Entry<String> entry : uniformBlockBindings)
+				Gdx.gl30.glUniformBlockBinding(program, getUniformBlockIndex(entry.key), entry.value);
 		}
 	}
 
@@ -907,6 +939,41 @@ public class ShaderProgram implements Disposable {
 		return uniformSizes.get(name, 0);
 	}
 
+	/** Requires GL ES 3.0.
+	 * @param name the name of the uniform block
+	 * @return the index of the uniform block or -1. */
+	public int getUniformBlockIndex (String name) {
+		// -2 == not yet cached
+		// -1 == cached but not found
+		int index;
+		if ((index = uniformBlocks.get(name, -2)) == -2) {
+			index = Gdx.gl30.glGetUniformBlockIndex(program, name);
+			uniformBlocks.put(name, index);
+		}
+		return index;
+	}
+
+	/** @param name the name of the uniform block
+	 * @return whether GL ES 3.0 is available and the uniform block is used by the shader */
+	public boolean hasUniformBlock (String name) {
+		return Gdx.gl30 != null && getUniformBlockIndex(name) != GL30.GL_INVALID_INDEX;
+	}
+
+	/** Assigns the uniform block to a binding point, so it reads the values of the uniform buffer that is bound to that binding
+	 * point, see {@link UniformBufferObject#bind(int)}. The binding is restored when the program is recompiled after a context
+	 * loss. Requires GL ES 3.0.
+	 * @param name the name of the uniform block
+	 * @param bindingPoint the binding point, smaller than {@link GL30#GL_MAX_UNIFORM_BUFFER_BINDINGS}
+	 * @return false if the shader doesn't use the uniform block */
+	public boolean setUniformBlockBinding (String name, int bindingPoint) {
+		checkManaged();
+		final int index = getUniformBlockIndex(name);
+		if (index == GL30.GL_INVALID_INDEX) return false;
+		Gdx.gl30.glUniformBlockBinding(program, index, bindingPoint);
+		uniformBlockBindings.put(name, bindingPoint);
+		return true;
+	}
+
 	/** @return the attributes */
 	public String[] getAttributes () {
 		return attributeNames;
@@ -92,7 +92,11 @@ public class ShapeRenderer implements Disposable {
 		}
 	}
 
-	private final ImmediateModeRenderer renderer;
+	private ImmediateModeRenderer renderer;
+	private final ImmediateModeRenderer20 lineRenderer;
+	private ImmediateModeRenderer20 pointRenderer, filledRenderer;
+	private final int maxVertices;
+	private boolean mergeShapeTypes;
 	private boolean matrixDirty = false;
 	private final Matrix4 projectionMatrix = new Matrix4();
 	private final Matrix4 transformMatrix = new Matrix4();
@@ -103,6 +107,18 @@ public class ShapeRenderer implements Disposable {
 	private boolean autoShapeType;
 	private float defaultRectLineWidth = 0.75f;
 
+	/** Number of render calls since the last {@link #resetStats()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** Number of vertices rendered since the last {@link #resetStats()}. **/
+	public int vertexCount = 0;
+
+	/** The maximum number of vertices rendered in one batch so far. **/
+	public int maxVerticesInBatch = 0;
+
 	public ShapeRenderer () {
 		this(5000);
 	}
@@ -112,11 +128,13 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader) {
+		this.maxVertices = maxVertices;
 		if (defaultShader == null) {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
+			lineRenderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
 		} else {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
+			lineRenderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
 		}
+		renderer = lineRenderer;
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		matrixDirty = true;
 	}
@@ -192,6 +210,30 @@ public class ShapeRenderer implements Disposable {
 		this.autoShapeType = autoShapeType;
 	}
 
+	/** If true, each shape type is collected in its own buffer and changing the shape type does not flush the batch. All buffers
+	 * are rendered when the batch is ended or flushed, so shapes that alternate between types are rendered with one render call
+	 * per type instead of one per change. Filled shapes are rendered first, then lines, then points, regardless of the order they
+	 * were drawn in. Changing the shape type still requires {@link #setAutoShapeType(boolean) autoShapeType} or
+	 * {@link #set(ShapeType)}. Default is false.
+	 * <p>
+	 * The buffers for points and filled shapes are created when first used, each with the same maximum number of vertices and
+	 * shader as this ShapeRenderer.
+	 * @throws IllegalStateException if called between begin and end. */
+	public void setMergeShapeTypes (boolean mergeShapeTypes) {
+		if (shapeType != null) throw new IllegalStateException("Call end() before changing mergeShapeTypes.");
+		this.mergeShapeTypes = mergeShapeTypes;
+	}
+
+	public boolean getMergeShapeTypes () {
+		return mergeShapeTypes;
+	}
+
+	/** Sets {@link #renderCalls} and {@link #vertexCount} to zero, eg at the start of each frame. */
+	public void resetStats () {
+		renderCalls = 0;
+		vertexCount = 0;
+	}
+
 	/** Begins a new batch without specifying a shape type.
 	 * @throws IllegalStateException if {@link #autoShapeType} is false. */
 	public void begin () {
@@ -210,6 +252,7 @@ public class ShapeRenderer implements Disposable {
 			Matrix4.mul(combinedMatrix.val, transformMatrix.val);
 			matrixDirty = false;
 		}
+		renderer = renderer(type);
 		renderer.begin(combinedMatrix, shapeType.getGlType());
 	}
 
@@ -217,8 +260,41 @@ public class ShapeRenderer implements Disposable {
 		if (shapeType == type) return;
 		if (shapeType == null) throw new IllegalStateException("begin must be called first.");
 		if (!autoShapeType) throw new IllegalStateException("autoShapeType must be enabled.");
-		end();
-		begin(type);
+		change(type);
+	}
+
+	/** Changes the shape type, without flushing if {@link #setMergeShapeTypes(boolean) mergeShapeTypes} is true and the matrices
+	 * have not changed. */
+	private void change (ShapeType type) {
+		if (mergeShapeTypes && !matrixDirty) {
+			shapeType = type;
+			renderer = renderer(type);
+			renderer.begin(combinedMatrix, type.getGlType());
+		} else {
+			end();
+			begin(type);
+		}
+	}
+
+	private ImmediateModeRenderer renderer (ShapeType type) {
+		if (!mergeShapeTypes) return lineRenderer;
+		switch (type) {
+		case Point:
+			if (pointRenderer == null) pointRenderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, null);
+			return shared(pointRenderer);
+		case Filled:
+			if (filledRenderer == null) filledRenderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, null);
+			return shared(filledRenderer);
+		default:
+			return lineRenderer;
+		}
+	}
+
+	/** Uses the shader of the line renderer, which may have been changed using {@link #getRenderer()}. */
+	private ImmediateModeRenderer20 shared (ImmediateModeRenderer20 renderer) {
+		ShaderProgram shader = lineRenderer.getShader();
+		if (renderer.getShader() != shader) renderer.setShader(shader);
+		return renderer;
 	}
 
 	/** Draws a point using {@link ShapeType#Point}, {@link ShapeType#Line} or {@link ShapeType#Filled}. */
@@ -1188,8 +1264,7 @@ public class ShapeRenderer implements Disposable {
 				else
 					throw new IllegalStateException("Must call begin(ShapeType." + preferred + ") or begin(ShapeType." + other + ").");
 			}
-			end();
-			begin(preferred);
+			change(preferred);
 		} else if (matrixDirty) {
 			// Matrix has been changed.
 			ShapeType type = shapeType;
@@ -1205,10 +1280,26 @@ public class ShapeRenderer implements Disposable {
 
 	/** Finishes the batch of shapes and ensures they get rendered. */
 	public void end () {
-		renderer.end();
+		if (mergeShapeTypes) {
+			if (filledRenderer != null) end(filledRenderer);
+			end(lineRenderer);
+			if (pointRenderer != null) end(pointRenderer);
+		} else
+			end(renderer);
 		shapeType = null;
 	}
 
+	private void end (ImmediateModeRenderer renderer) {
+		int vertices = renderer.getNumVertices();
+		if (vertices > 0) {
+			renderCalls++;
+			totalRenderCalls++;
+			vertexCount += vertices;
+			if (vertices > maxVerticesInBatch) maxVerticesInBatch = vertices;
+		}
+		renderer.end();
+	}
+
 	public void flush () {
 		ShapeType type = shapeType;
 		if (type == null) return;
@@ -1221,6 +1312,8 @@ public class ShapeRenderer implements Disposable {
 		return shapeType;
 	}
 
+	/** Returns the renderer for the current shape type. Unless {@link #setMergeShapeTypes(boolean) mergeShapeTypes} is true, the
+	 * same renderer is used for all shape types. */
 	public ImmediateModeRenderer getRenderer () {
 		return renderer;
 	}
@@ -1231,6 +1324,8 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public void dispose () {
-		renderer.dispose();
+		lineRenderer.dispose();
+		if (pointRenderer != null) pointRenderer.dispose();
+		if (filledRenderer != null) filledRenderer.dispose();
 	}
 }
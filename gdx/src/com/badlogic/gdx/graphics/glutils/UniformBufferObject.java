@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+/** An OpenGL uniform buffer object, which holds the values of a uniform block and can be shared by many {@link ShaderProgram}s.
+ * The values are written to the buffer returned by {@link #getBuffer(boolean)} in the layout of the block, usually std140, and
+ * uploaded by {@link #bind(int)} if they changed since the last upload. A program reads the buffer after its block has been
+ * assigned the same binding point with {@link ShaderProgram#setUniformBlockBinding(String, int)}. Requires GL ES 3.0.
+ * <p>
+ * UniformBufferObjects are managed. If the OpenGL ES context is lost, the buffer objects of all UniformBufferObjects are recreated
+ * and uploaded again by their next {@link #bind(int)}, as the values are kept in memory. UniformBufferObjects must be disposed via
+ * the {@link #dispose()} method when no longer needed. */
+public class UniformBufferObject implements Disposable {
+	/** list of all uniform buffer objects **/
+	static final Map<Application, Array<UniformBufferObject>> buffers = new HashMap<Application, Array<UniformBufferObject>>();
+
+	private final FloatBuffer buffer;
+	private final int usage;
+	private int bufferHandle;
+	private boolean isDirty = true;
+	private boolean isAllocated;
+
+	/** @param isStatic whether the values are rarely changed.
+	 * @param numFloats the size of the block in floats, including padding. */
+	public UniformBufferObject (boolean isStatic, int numFloats) {
+		buffer = BufferUtils.newFloatBuffer(numFloats);
+		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
+		bufferHandle = Gdx.gl30.glGenBuffer();
+		addManagedBuffer(Gdx.app, this);
+	}
+
+	/** @return the size of the block in floats. */
+	public int getNumFloats () {
+		return buffer.capacity();
+	}
+
+	/** Returns the underlying buffer, write the values at their std140 offset divided by 4.
+	 * @param forWriting when true, the buffer is uploaded by the next call to {@link #bind(int)}. */
+	public FloatBuffer getBuffer (boolean forWriting) {
+		isDirty |= forWriting;
+		return buffer;
+	}
+
+	/** Copies the floats to the buffer, starting at the given offset in floats. */
+	public void setData (int targetOffset, float[] values, int offset, int count) {
+		isDirty = true;
+		final int pos = buffer.position();
+		((Buffer)buffer).position(targetOffset);
+		buffer.put(values, offset, count);
+		((Buffer)buffer).position(pos);
+	}
+
+	/** Uploads the values if they changed and binds the buffer to the uniform buffer binding point. */
+	public void bind (int bindingPoint) {
+		final GL30 gl = Gdx.gl30;
+		if (isDirty) {
+			gl.glBindBuffer(GL30.GL_UNIFORM_BUFFER, bufferHandle);
+			((Buffer)buffer).position(0);
+			((Buffer)buffer).limit(buffer.capacity());
+			if (isAllocated)
+				gl.glBufferSubData(GL30.GL_UNIFORM_BUFFER, 0, buffer.capacity() * 4, buffer);
+			else
+				gl.glBufferData(GL30.GL_UNIFORM_BUFFER, buffer.capacity() * 4, buffer, usage);
+			isAllocated = true;
+			isDirty = false;
+		}
+		gl.glBindBufferBase(GL30.GL_UNIFORM_BUFFER, bindingPoint, bufferHandle);
+	}
+
+	/** @return the OpenGL handle of the buffer object. */
+	public int getBufferHandle () {
+		return bufferHandle;
+	}
+
+	/** Invalidates the buffer object so a new OpenGL buffer handle is created and the values are uploaded again. Called by
+	 * {@link #invalidateAllUniformBuffers(Application)} in case of a context loss. */
+	public void invalidate () {
+		bufferHandle = Gdx.gl30.glGenBuffer();
+		isAllocated = false;
+		isDirty = true;
+	}
+
+	@Override
+	public void dispose () {
+		final GL30 gl = Gdx.gl30;
+		gl.glBindBuffer(GL30.GL_UNIFORM_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		if (buffers.get(Gdx.app) != null) buffers.get(Gdx.app).removeValue(this, true);
+	}
+
+	private static void addManagedBuffer (Application app, UniformBufferObject buffer) {
+		Array<UniformBufferObject> managedResources = buffers.get(app);
+		if (managedResources == null) managedResources = new Array<UniformBufferObject>();
+		managedResources.add(buffer);
+		buffers.put(app, managedResources);
+	}
+
+	/** Invalidates all uniform buffer objects so the next time they are bound new buffer handles are generated.
+	 * @param app */
+	public static void invalidateAllUniformBuffers (Application app) {
+		Array<UniformBufferObject> buffersArray = buffers.get(app);
+		if (buffersArray == null) return;
+		for (int i = 0; i < buffersArray.size; i++)
+			buffersArray.get(i).invalidate();
+	}
+
+	public static void clearAllUniformBuffers (Application app) {
+		buffers.remove(app);
+	}
+
+	public static String getManagedStatus () {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Managed uniform buffers/app: { ");
+		for (Application app : buffers.keySet()) {
+			builder.append(buffers.get(app).size);
+			builder.append(" ");
+		}
+		builder.append("}");
+		return builder.toString();
+	}
+}
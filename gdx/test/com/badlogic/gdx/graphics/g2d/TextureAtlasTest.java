@@ -0,0 +1,93 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+
+public class TextureAtlasTest {
+	/** A texture that doesn't need a GL context. */
+	private static Texture texture () {
+		return new Texture() {
+			@Override
+			public int getWidth () {
+				return 64;
+			}
+
+			@Override
+			public int getHeight () {
+				return 64;
+			}
+		};
+	}
+
+	private static AtlasRegion region (Texture texture, String name, int index) {
+		AtlasRegion region = new AtlasRegion(texture, 0, 0, 8, 8);
+		region.name = name;
+		region.index = index;
+		return region;
+	}
+
+	@Test
+	public void testFind () {
+		Texture texture = texture();
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion a = atlas.addRegion("a", texture, 0, 0, 8, 8);
+		AtlasRegion b0 = region(texture, "b", 0), b1 = region(texture, "b", 1);
+		atlas.getRegions().add(b1);
+		atlas.getRegions().add(b0);
+		assertSame(a, atlas.findRegion("a"));
+		assertSame(b1, atlas.findRegion("b"));
+		assertSame(b0, atlas.findRegion("b", 0));
+		assertSame(b1, atlas.findRegion("b", 1));
+		assertNull(atlas.findRegion("b", 2));
+		assertNull(atlas.findRegion("c"));
+		assertEquals(2, atlas.findRegions("b").size);
+	}
+
+	@Test
+	public void testFindAfterRemoveAndAdd () {
+		Texture texture = texture();
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion a = region(texture, "a", 0), b = region(texture, "b", 0);
+		Array<AtlasRegion> regions = atlas.getRegions();
+		regions.add(a);
+		assertSame(a, atlas.findRegion("a"));
+
+		// The size stays the same, the index must still be rebuilt.
+		regions.removeValue(a, true);
+		regions.add(b);
+		assertNull(atlas.findRegion("a"));
+		assertNull(atlas.findRegion("a", 0));
+		assertSame(b, atlas.findRegion("b"));
+		assertSame(b, atlas.findRegion("b", 0));
+
+		AtlasRegion b2 = region(texture, "b", 0);
+		regions.set(0, b2);
+		assertSame(b2, atlas.findRegion("b"));
+
+		regions.insert(0, a);
+		AtlasRegion a2 = region(texture, "a", 0);
+		regions.swap(0, 1);
+		regions.set(1, a2);
+		assertSame(a2, atlas.findRegion("a"));
+		assertSame(b2, atlas.findRegion("b", 0));
+
+		regions.clear();
+		assertNull(atlas.findRegion("b"));
+		assertEquals(0, atlas.findRegions("a").size);
+	}
+
+	@Test
+	public void testFindNull () {
+		TextureAtlas atlas = new TextureAtlas();
+		atlas.addRegion("a", texture(), 0, 0, 8, 8);
+		assertNull(atlas.findRegion(null));
+		assertNull(atlas.findRegion(null, 0));
+		assertNull(atlas.createSprite(null));
+		assertEquals(0, atlas.findRegions(null).size);
+	}
+}
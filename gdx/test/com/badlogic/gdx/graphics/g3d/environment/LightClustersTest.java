@@ -0,0 +1,89 @@
+package com.badlogic.gdx.graphics.g3d.environment;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.utils.Array;
+
+public class LightClustersTest {
+	/** A camera at the origin looking along -z, with a 90 degree field of view. */
+	private static Camera camera () {
+		PerspectiveCamera camera = new PerspectiveCamera();
+		camera.near = 1;
+		camera.far = 100;
+		camera.projection.setToProjection(camera.near, camera.far, 90, 1);
+		return camera;
+	}
+
+	/** Returns a white point light whose radius is 1 with the default threshold. */
+	private static PointLight light (float x, float y, float z) {
+		return new PointLight().set(Color.WHITE, x, y, z, 2f / 256f);
+	}
+
+	private static int total (LightClusters clusters) {
+		int total = 0;
+		for (int z = 0; z < clusters.slices; z++)
+			for (int y = 0; y < clusters.tilesY; y++)
+				for (int x = 0; x < clusters.tilesX; x++)
+					total += clusters.getCount(x, y, z);
+		return total;
+	}
+
+	@Test
+	public void testLightOnlyInOverlappedClusters () {
+		LightClusters clusters = new LightClusters(4, 4, 8, 16, 1);
+		clusters.update(camera(), Array.with(light(0, 0, -10)), null);
+		assertEquals(1, clusters.numLights);
+
+		int slice = clusters.getSlice(10);
+		assertEquals(1, clusters.getCount(1, 1, slice));
+		assertEquals(1, clusters.getCount(2, 2, slice));
+		assertEquals(0, clusters.getCount(0, 0, slice));
+		assertEquals(0, clusters.getCount(1, 1, 0));
+		assertEquals(0, clusters.getCount(1, 1, clusters.slices - 1));
+		assertEquals(0, clusters.getLightIndex(clusters.getOffset(2, 2, slice)));
+		assertEquals(total(clusters), clusters.numIndices);
+	}
+
+	@Test
+	public void testInvisibleLightsSkipped () {
+		LightClusters clusters = new LightClusters(4, 4, 8, 16, 1);
+		clusters.update(camera(), Array.with(light(0, 0, 10), light(0, 0, -200), light(50, 0, -10)), null);
+		assertEquals(0, clusters.numLights);
+		assertEquals(0, clusters.numIndices);
+	}
+
+	@Test
+	public void testLightAtNearPlaneCoversAllTiles () {
+		LightClusters clusters = new LightClusters(4, 4, 8, 16, 1);
+		clusters.update(camera(), Array.with(light(0, 0, -1.5f)), null);
+		for (int y = 0; y < clusters.tilesY; y++)
+			for (int x = 0; x < clusters.tilesX; x++)
+				assertEquals(1, clusters.getCount(x, y, 0));
+	}
+
+	@Test
+	public void testSpotLightAndOrder () {
+		LightClusters clusters = new LightClusters(4, 4, 8, 16, 1);
+		SpotLight spot = new SpotLight().set(Color.WHITE, 0, 0, -10, 0, 0, -1, 2f / 256f, 60, 1);
+		clusters.update(camera(), Array.with(light(0, 0, -10)), Array.with(spot));
+		assertEquals(2, clusters.numLights);
+		int slice = clusters.getSlice(10), offset = clusters.getOffset(1, 1, slice);
+		assertEquals(2, clusters.getCount(1, 1, slice));
+		assertEquals(0, clusters.getLightIndex(offset));
+		assertEquals(1, clusters.getLightIndex(offset + 1));
+	}
+
+	@Test
+	public void testOverflow () {
+		LightClusters clusters = new LightClusters(4, 4, 8, 2, 1);
+		clusters.update(camera(), Array.with(light(0, 0, -10), light(0, 0, -20), light(0, 0, -30)), null);
+		assertEquals(2, clusters.numLights);
+		assertEquals(1, clusters.droppedLights);
+		assertEquals(0, clusters.droppedIndices);
+	}
+}
@@ -0,0 +1,82 @@
+package com.badlogic.gdx.graphics.g3d.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+public class PackedKeyframesTest {
+
+	private static PackedKeyframes vectors () {
+		Array<NodeKeyframe<Vector3>> keyFrames = new Array<NodeKeyframe<Vector3>>();
+		keyFrames.add(new NodeKeyframe<Vector3>(0f, new Vector3(0, 0, 0)));
+		keyFrames.add(new NodeKeyframe<Vector3>(3f, new Vector3(3, 0, 0)));
+		keyFrames.add(new NodeKeyframe<Vector3>(12f, new Vector3(3, 9, 0)));
+		keyFrames.add(new NodeKeyframe<Vector3>(13f, new Vector3(3, 9, 1)));
+		return PackedKeyframes.packVectors(keyFrames);
+	}
+
+	@Test
+	public void testIndexOf () {
+		PackedKeyframes keyframes = vectors();
+
+		Assert.assertEquals(0, keyframes.indexOf(-1f, 0));
+		Assert.assertEquals(0, keyframes.indexOf(0f, 0));
+		Assert.assertEquals(0, keyframes.indexOf(2f, 0));
+		Assert.assertEquals(1, keyframes.indexOf(9f, 0));
+		Assert.assertEquals(2, keyframes.indexOf(12.5f, 0));
+		Assert.assertEquals(2, keyframes.indexOf(13f, 0));
+		Assert.assertEquals(0, keyframes.indexOf(14f, 2));
+	}
+
+	@Test
+	public void testIndexOfCursor () {
+		PackedKeyframes keyframes = vectors();
+
+		// Forward from the cursor.
+		Assert.assertEquals(1, keyframes.indexOf(9f, 1));
+		Assert.assertEquals(2, keyframes.indexOf(12.5f, 1));
+		// Before the cursor, such as when the animation looped.
+		Assert.assertEquals(0, keyframes.indexOf(1f, 2));
+		// Invalid cursors.
+		Assert.assertEquals(1, keyframes.indexOf(9f, -1));
+		Assert.assertEquals(2, keyframes.indexOf(12.5f, 3));
+	}
+
+	@Test
+	public void testGetVector () {
+		PackedKeyframes keyframes = vectors();
+		Vector3 out = new Vector3();
+
+		Assert.assertEquals(new Vector3(1, 0, 0), keyframes.getVector(1f, keyframes.indexOf(1f, 0), out));
+		Assert.assertEquals(new Vector3(3, 3, 0), keyframes.getVector(6f, keyframes.indexOf(6f, 0), out));
+		Assert.assertEquals(new Vector3(3, 9, 0.5f), keyframes.getVector(12.5f, keyframes.indexOf(12.5f, 0), out));
+	}
+
+	@Test
+	public void testGetQuaternion () {
+		Array<NodeKeyframe<Quaternion>> keyFrames = new Array<NodeKeyframe<Quaternion>>();
+		keyFrames.add(new NodeKeyframe<Quaternion>(0f, new Quaternion(Vector3.Y, 0)));
+		keyFrames.add(new NodeKeyframe<Quaternion>(2f, new Quaternion(Vector3.Y, 90)));
+		PackedKeyframes keyframes = PackedKeyframes.packQuaternions(keyFrames);
+
+		Quaternion expected = new Quaternion(Vector3.Y, 0).slerp(new Quaternion(Vector3.Y, 90), 0.25f);
+		Quaternion actual = keyframes.getQuaternion(0.5f, keyframes.indexOf(0.5f, 0), new Quaternion());
+		Assert.assertEquals(expected.x, actual.x, 0.00001f);
+		Assert.assertEquals(expected.y, actual.y, 0.00001f);
+		Assert.assertEquals(expected.z, actual.z, 0.00001f);
+		Assert.assertEquals(expected.w, actual.w, 0.00001f);
+	}
+
+	@Test
+	public void testSingleKey () {
+		Array<NodeKeyframe<Vector3>> keyFrames = new Array<NodeKeyframe<Vector3>>();
+		keyFrames.add(new NodeKeyframe<Vector3>(10f, new Vector3(1, 2, 3)));
+		PackedKeyframes keyframes = PackedKeyframes.packVectors(keyFrames);
+
+		Assert.assertEquals(0, keyframes.indexOf(11f, 0));
+		Assert.assertEquals(new Vector3(1, 2, 3), keyframes.getVector(11f, 0, new Vector3()));
+	}
+}
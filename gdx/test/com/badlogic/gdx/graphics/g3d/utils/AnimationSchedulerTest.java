@@ -0,0 +1,78 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+
+public class AnimationSchedulerTest {
+	private static AnimationController controller (float distance) {
+		Animation loop = new Animation();
+		loop.id = "loop";
+		loop.duration = 100f;
+		ModelInstance instance = new ModelInstance(new Model(), distance, 0, 0);
+		instance.animations.add(loop);
+		AnimationController controller = new AnimationController(instance);
+		controller.setAnimation("loop", -1);
+		return controller;
+	}
+
+	@Test
+	public void testUpdateRatePerLod () {
+		PerspectiveCamera camera = new PerspectiveCamera();
+		AnimationScheduler scheduler = new AnimationScheduler();
+		AnimationController near = controller(10), middle = controller(30), far = controller(200);
+		scheduler.add(near);
+		scheduler.add(middle);
+		scheduler.add(far);
+
+		int nearUpdates = 0, middleUpdates = 0, farUpdates = 0;
+		for (int i = 1; i <= 64; i++) {
+			float nearTime = near.current.time, middleTime = middle.current.time, farTime = far.current.time;
+			scheduler.update(camera, 0.125f);
+			if (near.current.time != nearTime) nearUpdates++;
+			if (middle.current.time != middleTime) middleUpdates++;
+			if (far.current.time != farTime) farUpdates++;
+		}
+		assertEquals(64, nearUpdates);
+		assertEquals(32, middleUpdates);
+		assertEquals(8, farUpdates);
+
+		// Skipped frames are caught up with the accumulated time.
+		assertEquals(8f, near.current.time, 0.0001f);
+		assertEquals(8f, middle.current.time, 0.25f);
+		assertEquals(8f, far.current.time, 1f);
+
+		assertTrue(near.blending);
+		assertTrue(middle.blending);
+		assertFalse(far.blending);
+		scheduler.remove(far);
+		assertTrue(far.blending);
+	}
+
+	@Test
+	public void testMaxUpdatesPerFrame () {
+		PerspectiveCamera camera = new PerspectiveCamera();
+		AnimationScheduler scheduler = new AnimationScheduler();
+		scheduler.maxUpdatesPerFrame = 2;
+		AnimationController[] controllers = new AnimationController[5];
+		for (int i = 0; i < controllers.length; i++) {
+			controllers[i] = controller(1);
+			scheduler.add(controllers[i]);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			scheduler.update(camera, 0.1f);
+			assertEquals(2, scheduler.updated);
+		}
+		// 20 updates were spread evenly, each controller waited at most 3 frames.
+		for (AnimationController controller : controllers) {
+			assertTrue(controller.current.time > 0.65f);
+			assertTrue(controller.current.time <= 1.0001f);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.utils.Array;
+
+public class DefaultRenderableSorterTest {
+	private static Renderable renderable (Shader shader, Material material, float distance) {
+		Renderable renderable = new Renderable();
+		renderable.shader = shader;
+		renderable.material = material;
+		renderable.worldTransform.setToTranslation(0, 0, -distance);
+		return renderable;
+	}
+
+	private static Camera camera () {
+		PerspectiveCamera camera = new PerspectiveCamera();
+		camera.far = 100;
+		return camera;
+	}
+
+	@Test
+	public void testOpaqueSortedOnStateThenFrontToBack () {
+		Shader shader1 = new TestShader(), shader2 = new TestShader();
+		Material red = new Material(ColorAttribute.createDiffuse(1, 0, 0, 1));
+		Material green = new Material(ColorAttribute.createDiffuse(0, 1, 0, 1));
+		Renderable a = renderable(shader1, red, 30), b = renderable(shader2, red, 10), c = renderable(shader1, green, 5),
+			d = renderable(shader1, red, 20), e = renderable(shader2, red, 40);
+		Array<Renderable> renderables = Array.with(a, b, c, d, e);
+		new DefaultRenderableSorter().sort(camera(), renderables);
+
+		// Renderables with the same shader and material are adjacent and sorted front to back.
+		int ia = renderables.indexOf(a, true), id = renderables.indexOf(d, true);
+		assertEquals(1, Math.abs(ia - id));
+		assertTrue(id < ia);
+		int ib = renderables.indexOf(b, true), ie = renderables.indexOf(e, true);
+		assertEquals(1, ie - ib);
+		// All renderables of a shader are adjacent.
+		for (int i = 0; i < renderables.size - 1; i++) {
+			if (renderables.get(i).shader != renderables.get(i + 1).shader) {
+				for (int j = i + 1; j < renderables.size; j++)
+					assertTrue(renderables.get(i).shader != renderables.get(j).shader);
+			}
+		}
+	}
+
+	@Test
+	public void testBlendedLastBackToFront () {
+		Shader shader1 = new TestShader(), shader2 = new TestShader();
+		Material opaque = new Material(ColorAttribute.createDiffuse(1, 0, 0, 1));
+		Material blended = new Material(new BlendingAttribute(0.5f));
+		Material blended2 = new Material(new BlendingAttribute(0.5f), ColorAttribute.createDiffuse(0, 0, 1, 1));
+		Renderable near = renderable(shader1, blended, 5), middle = renderable(shader2, blended2, 50),
+			far = renderable(shader1, blended, 90), solid = renderable(shader2, opaque, 95);
+		Array<Renderable> renderables = Array.with(near, solid, far, middle);
+		new DefaultRenderableSorter().sort(camera(), renderables);
+
+		assertSame(solid, renderables.get(0));
+		assertSame(far, renderables.get(1));
+		assertSame(middle, renderables.get(2));
+		assertSame(near, renderables.get(3));
+		assertTrue(solid.sortKey >= 0 && near.sortKey > solid.sortKey);
+	}
+
+	@Test
+	public void testNullShaderSeparateFromFirstShader () {
+		Shader shader = new TestShader();
+		Material material = new Material(ColorAttribute.createDiffuse(1, 0, 0, 1));
+		Renderable withShader = renderable(shader, material, 10), withoutShader = renderable(null, material, 10);
+		Array<Renderable> renderables = Array.with(withShader, withoutShader);
+		new DefaultRenderableSorter().sort(camera(), renderables);
+
+		assertNotEquals(withShader.sortKey, withoutShader.sortKey);
+		assertSame(withoutShader, renderables.get(0));
+	}
+
+	static private class TestShader implements Shader {
+		@Override
+		public void init () {
+		}
+
+		@Override
+		public int compareTo (Shader other) {
+			return 0;
+		}
+
+		@Override
+		public boolean canRender (Renderable instance) {
+			return true;
+		}
+
+		@Override
+		public void begin (Camera camera, RenderContext context) {
+		}
+
+		@Override
+		public void render (Renderable renderable) {
+		}
+
+		@Override
+		public void end () {
+		}
+
+		@Override
+		public void dispose () {
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Updates long lines of text that only change at the end each frame, with {@link BitmapFontCache#setText(CharSequence, float, float)
+ * setText} on the left and {@link BitmapFontCache#updateText(CharSequence, float, float) updateText} on the right, and shows the
+ * time each took. */
+public class BitmapFontCacheUpdateTest extends GdxTest {
+	static final int LINES = 30;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	BitmapFontCache[] setCaches = new BitmapFontCache[LINES], updateCaches = new BitmapFontCache[LINES];
+	BitmapFontCache stats;
+	StringBuilder text = new StringBuilder();
+	long frame, setTime, updateTime;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont(Gdx.files.internal("data/lsans-15.fnt"), false);
+		for (int i = 0; i < LINES; i++) {
+			setCaches[i] = font.newFontCache();
+			updateCaches[i] = font.newFontCache();
+		}
+		stats = font.newFontCache();
+	}
+
+	@Override
+	public void render () {
+		frame++;
+		float half = Gdx.graphics.getWidth() / 2f, top = Gdx.graphics.getHeight() - 30;
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < LINES; i++)
+			setCaches[i].setText(line(i), 10, top - i * 18);
+		setTime += TimeUtils.timeSinceNanos(start);
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < LINES; i++)
+			updateCaches[i].updateText(line(i), half + 10, top - i * 18);
+		updateTime += TimeUtils.timeSinceNanos(start);
+
+		if (frame % 60 == 0) {
+			stats.setText("setText: " + setTime / 60000 + " us/frame, updateText: " + updateTime / 60000 + " us/frame", 10, 20);
+			setTime = 0;
+			updateTime = 0;
+		}
+
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		batch.begin();
+		for (int i = 0; i < LINES; i++) {
+			setCaches[i].draw(batch);
+			updateCaches[i].draw(batch);
+		}
+		stats.draw(batch);
+		batch.end();
+	}
+
+	private StringBuilder line (int i) {
+		text.clear();
+		text.append("Player ").append(i).append(" elapsed frames and score: ").append(frame).append(" / ").append(frame * (i + 1));
+		return text;
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DeferredSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws sprites alternating between several textures with a {@link SpriteBatch} on the left and a
+ * {@link DeferredSpriteBatch} on the right, and shows the render calls each needed. Both halves draw the same sprites in two
+ * layers, then more sprites clipped to a square at the bottom, which must not draw outside of it. */
+public class DeferredSpriteBatchTest extends GdxTest {
+	static final int SPRITES = 2000;
+
+	Texture[] textures;
+	float[] positions = new float[SPRITES * 2];
+	SpriteBatch spriteBatch;
+	DeferredSpriteBatch deferredBatch;
+	BitmapFont font;
+	Rectangle scissors = new Rectangle();
+
+	@Override
+	public void create () {
+		textures = new Texture[] {new Texture(Gdx.files.internal("data/badlogic.jpg")),
+			new Texture(Gdx.files.internal("data/egg.png")), new Texture(Gdx.files.internal("data/bobargb8888-32x32.png")),
+			new Texture(Gdx.files.internal("data/particle-star.png"))};
+		for (int i = 0; i < positions.length; i++)
+			positions[i] = MathUtils.random();
+		spriteBatch = new SpriteBatch();
+		deferredBatch = new DeferredSpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		float halfWidth = Gdx.graphics.getWidth() / 2f;
+
+		spriteBatch.begin();
+		drawSprites(spriteBatch, 0, halfWidth);
+		spriteBatch.end();
+
+		deferredBatch.begin();
+		drawSprites(deferredBatch, halfWidth, halfWidth);
+		deferredBatch.end();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "SpriteBatch render calls: " + spriteBatch.renderCalls, 10, 40);
+		font.draw(spriteBatch, "DeferredSpriteBatch render calls: " + deferredBatch.renderCalls + ", fps: "
+			+ Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	private void drawSprites (Batch batch, float x, float width) {
+		float height = Gdx.graphics.getHeight();
+		for (int i = 0; i < SPRITES / 2; i++) {
+			// The deferred batch draws the textures in 2 layers, so overlapping sprites of the same layer may be reordered.
+			if (batch instanceof DeferredSpriteBatch) ((DeferredSpriteBatch)batch).setLayer(i % 2);
+			batch.draw(textures[i % textures.length], x + positions[i * 2] * (width - 32), positions[i * 2 + 1] * (height - 32), 32,
+				32);
+		}
+
+		// The batch must render the sprites above when flushed, so they aren't clipped.
+		batch.flush();
+		if (!ScissorStack.pushScissors(scissors.set(x + width / 4, 60, width / 2, width / 2))) return;
+		for (int i = SPRITES / 2; i < SPRITES; i++)
+			batch.draw(textures[i % textures.length], x + positions[i * 2] * (width - 32), positions[i * 2 + 1] * (height - 32), 32,
+				32);
+		batch.flush();
+		ScissorStack.popScissors();
+	}
+
+	@Override
+	public void dispose () {
+		for (Texture texture : textures)
+			texture.dispose();
+		spriteBatch.dispose();
+		deferredBatch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Shows a grid of labels that share a {@link GlyphLayoutCache}. Most labels repeat the same few strings and are invalidated each
+ * frame, so their text is only laid out once. */
+public class GlyphLayoutCacheTest extends GdxTest {
+	static final String[] texts = {"Health", "Mana", "Stamina", "Gold", "A longer label that is wrapped within its cell."};
+
+	Stage stage;
+	Skin skin;
+	GlyphLayoutCache layoutCache = new GlyphLayoutCache();
+	Label[] labels = new Label[60];
+	Label stats;
+
+	@Override
+	public void create () {
+		stage = new Stage();
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+
+		Table table = new Table();
+		table.setFillParent(true);
+		stage.addActor(table);
+
+		stats = new Label("", skin);
+		table.add(stats).colspan(6).left().row();
+		for (int i = 0; i < labels.length; i++) {
+			Label label = new Label(texts[i % texts.length], skin);
+			label.setWrap(true);
+			label.setLayoutCache(layoutCache);
+			labels[i] = label;
+			table.add(label).width(120).pad(4);
+			if (i % 6 == 5) table.row();
+		}
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		for (Label label : labels)
+			label.invalidate();
+		stats.setText("Layout cache hits: " + layoutCache.hits + ", misses: " + layoutCache.misses + ", size: "
+			+ layoutCache.getSize());
+		stage.act();
+		stage.draw();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		stage.getViewport().update(width, height, true);
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
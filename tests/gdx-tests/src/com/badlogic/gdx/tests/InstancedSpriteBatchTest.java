@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws many rotating and scaling sprites with an {@link InstancedSpriteBatch} or a {@link SpriteBatch}. Touch to switch
+ * between them. The top row is drawn with {@link Sprite}s, which go through the vertices path. */
+@GdxTestConfig(requireGL30 = true)
+public class InstancedSpriteBatchTest extends GdxTest {
+	static final int SPRITES = 10000;
+
+	Texture texture;
+	TextureRegion region;
+	Sprite[] sprites = new Sprite[10];
+	float[] particles = new float[SPRITES * 4];
+	SpriteBatch spriteBatch;
+	InstancedSpriteBatch instancedBatch;
+	BitmapFont font;
+	boolean instanced = true;
+	float time;
+
+	@Override
+	public void create () {
+		texture = new Texture(Gdx.files.internal("data/badlogic.jpg"));
+		region = new TextureRegion(texture, 0, 0, 128, 128);
+		for (int i = 0; i < sprites.length; i++) {
+			sprites[i] = new Sprite(region);
+			sprites[i].setBounds(10 + i * 60, Gdx.graphics.getHeight() - 70, 50, 50);
+			sprites[i].setOriginCenter();
+			sprites[i].setFlip(i % 2 == 1, false);
+		}
+		for (int i = 0; i < particles.length; i += 4) {
+			particles[i] = MathUtils.random(Gdx.graphics.getWidth());
+			particles[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 80);
+			particles[i + 2] = MathUtils.random(360f);
+			particles[i + 3] = MathUtils.random(0.5f, 1.5f);
+		}
+		spriteBatch = new SpriteBatch(8191);
+		instancedBatch = new InstancedSpriteBatch(8191);
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) instanced = !instanced;
+		time += Gdx.graphics.getDeltaTime();
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		Batch batch = instanced ? instancedBatch : spriteBatch;
+		batch.begin();
+		for (int i = 0; i < particles.length; i += 4) {
+			float scale = particles[i + 3] * (1 + MathUtils.sinDeg(time * 90 + i) * 0.25f);
+			batch.draw(region, particles[i], particles[i + 1], 8, 8, 16, 16, scale, scale, particles[i + 2] + time * 45);
+		}
+		for (int i = 0; i < sprites.length; i++) {
+			sprites[i].setRotation(time * 30 * (i + 1));
+			sprites[i].draw(batch);
+		}
+		batch.end();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, (instanced ? "InstancedSpriteBatch" : "SpriteBatch") + ", render calls: "
+			+ (instanced ? instancedBatch.renderCalls : spriteBatch.renderCalls) + ", fps: " + Gdx.graphics.getFramesPerSecond(), 10,
+			20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		texture.dispose();
+		spriteBatch.dispose();
+		instancedBatch.dispose();
+		font.dispose();
+	}
+}
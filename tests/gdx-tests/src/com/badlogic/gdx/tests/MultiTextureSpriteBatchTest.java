@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.MultiTextureSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws sprites alternating between several textures with a {@link SpriteBatch} on the left and a
+ * {@link MultiTextureSpriteBatch} on the right, and shows the render calls each needed. */
+public class MultiTextureSpriteBatchTest extends GdxTest {
+	static final int SPRITES = 2000;
+
+	Texture[] textures;
+	float[] positions = new float[SPRITES * 2];
+	SpriteBatch spriteBatch;
+	MultiTextureSpriteBatch multiTextureBatch;
+	BitmapFont font;
+
+	@Override
+	public void create () {
+		textures = new Texture[] {new Texture(Gdx.files.internal("data/badlogic.jpg")),
+			new Texture(Gdx.files.internal("data/egg.png")), new Texture(Gdx.files.internal("data/bobargb8888-32x32.png")),
+			new Texture(Gdx.files.internal("data/particle-star.png"))};
+		for (int i = 0; i < positions.length; i++)
+			positions[i] = MathUtils.random();
+		spriteBatch = new SpriteBatch();
+		multiTextureBatch = new MultiTextureSpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		float halfWidth = Gdx.graphics.getWidth() / 2f;
+
+		spriteBatch.begin();
+		drawSprites(spriteBatch, 0, halfWidth);
+		spriteBatch.end();
+
+		multiTextureBatch.begin();
+		drawSprites(multiTextureBatch, halfWidth, halfWidth);
+		multiTextureBatch.end();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "SpriteBatch render calls: " + spriteBatch.renderCalls, 10, 40);
+		font.draw(spriteBatch, "MultiTextureSpriteBatch render calls: " + multiTextureBatch.renderCalls + ", max textures: "
+			+ multiTextureBatch.getMaxTextures() + ", fps: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	private void drawSprites (Batch batch, float x, float width) {
+		float height = Gdx.graphics.getHeight();
+		for (int i = 0; i < SPRITES; i++)
+			batch.draw(textures[i % textures.length], x + positions[i * 2] * (width - 32), positions[i * 2 + 1] * (height - 32), 32,
+				32);
+	}
+
+	@Override
+	public void dispose () {
+		for (Texture texture : textures)
+			texture.dispose();
+		spriteBatch.dispose();
+		multiTextureBatch.dispose();
+		font.dispose();
+	}
+}
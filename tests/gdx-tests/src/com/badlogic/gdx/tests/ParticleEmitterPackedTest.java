@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws an effect with more than 10,000 particles. Touch to toggle {@link ParticleEmitter#setPacked(boolean)} and compare the
+ * time to update and draw the effect. */
+public class ParticleEmitterPackedTest extends GdxTest {
+	static final int PARTICLES = 15000;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	ParticleEffect effect;
+	boolean packed = true;
+	long time, frames, average;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch(8191);
+		font = new BitmapFont();
+		effect = new ParticleEffect();
+		effect.load(Gdx.files.internal("data/singleTextureAllAdditive.p"), Gdx.files.internal("data"));
+		for (ParticleEmitter emitter : effect.getEmitters()) {
+			emitter.setMaxParticleCount(PARTICLES / effect.getEmitters().size);
+			emitter.getEmission().setHigh(emitter.getMaxParticleCount() / emitter.getLife().getHighMax() * 1000);
+			emitter.setContinuous(true);
+		}
+		effect.setEmittersPacked(packed);
+		effect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
+		effect.start();
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			packed = !packed;
+			effect.setEmittersPacked(packed);
+			effect.start();
+			time = 0;
+			frames = 0;
+		}
+
+		ScreenUtils.clear(0, 0, 0, 1);
+		batch.begin();
+		long start = TimeUtils.nanoTime();
+		effect.draw(batch, Gdx.graphics.getDeltaTime());
+		time += TimeUtils.timeSinceNanos(start);
+		if (++frames == 60) {
+			average = time / frames / 1000;
+			time = 0;
+			frames = 0;
+		}
+		int count = 0;
+		for (ParticleEmitter emitter : effect.getEmitters())
+			count += emitter.getActiveCount();
+		font.draw(batch, (packed ? "Packed" : "Sprites") + ": " + count + " particles, " + average + " us per frame", 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+		effect.dispose();
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws a debug overlay that alternates between filled and outlined shapes. Touch to toggle
+ * {@link ShapeRenderer#setMergeShapeTypes(boolean)} and compare the number of render calls. */
+public class ShapeRendererMergeTest extends GdxTest {
+	ShapeRenderer renderer;
+	SpriteBatch batch;
+	BitmapFont font;
+
+	@Override
+	public void create () {
+		renderer = new ShapeRenderer();
+		renderer.setAutoShapeType(true);
+		renderer.setMergeShapeTypes(true);
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) renderer.setMergeShapeTypes(!renderer.getMergeShapeTypes());
+
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		renderer.resetStats();
+		renderer.begin();
+		float time = (System.currentTimeMillis() % 10000) / 10000f * 360;
+		for (int y = 0; y < 12; y++) {
+			for (int x = 0; x < 16; x++) {
+				float cx = 40 + x * 40, cy = 60 + y * 34;
+				renderer.set(ShapeType.Filled);
+				renderer.setColor(x / 16f, y / 12f, 0.5f, 1);
+				renderer.rect(cx - 12, cy - 12, 12, 12, 24, 24, 1, 1, time + x * 10);
+				renderer.set(ShapeType.Line);
+				renderer.setColor(1, 1, 1, 1);
+				renderer.circle(cx, cy, 15, 12);
+				renderer.set(ShapeType.Point);
+				renderer.point(cx, cy, 0);
+			}
+		}
+		renderer.end();
+
+		batch.begin();
+		font.draw(batch, "Merge shape types: " + renderer.getMergeShapeTypes() + ", render calls: " + renderer.renderCalls
+			+ ", vertices: " + renderer.vertexCount, 10, 25);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+		batch.dispose();
+		font.dispose();
+	}
+}
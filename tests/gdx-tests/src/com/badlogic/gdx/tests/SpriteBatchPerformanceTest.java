@@ -67,6 +67,7 @@ public class SpriteBatchPerformanceTest extends GdxTest {
 			perfTests.add(new PerfTest(Mesh.VertexDataType.VertexArray));
 			perfTests.add(new PerfTest(Mesh.VertexDataType.VertexBufferObject));
 		}
+		perfTests.add(new PerfTest(Mesh.VertexDataType.VertexBufferObjectStreaming));
 
 		GLProfiler glProfiler = new GLProfiler(Gdx.graphics);
 		glProfiler.setListener(new GLErrorListener() {
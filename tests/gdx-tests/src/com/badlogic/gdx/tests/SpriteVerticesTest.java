@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.SpriteVertices;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Builds the vertices of a rotated tile map on worker threads with {@link SpriteVertices}, one band of rows per thread, and adds
+ * them to a {@link SpriteCache} once all bands are done. The render thread keeps drawing while the map is built. */
+public class SpriteVerticesTest extends GdxTest {
+	static final int COLUMNS = 90, ROWS = 90, BANDS = 4;
+
+	SpriteCache cache;
+	SpriteBatch batch;
+	BitmapFont font;
+	Texture texture;
+	TextureRegion[] tiles;
+	AsyncExecutor executor;
+	Array<AsyncResult<SpriteVertices>> results = new Array();
+	int cacheId = -1;
+	long buildStart, buildTime;
+
+	@Override
+	public void create () {
+		cache = new SpriteCache(COLUMNS * ROWS, true);
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		tiles = new TextureRegion[4];
+		for (int i = 0; i < tiles.length; i++)
+			tiles[i] = new TextureRegion(texture, (i % 2) * 16, (i / 2) * 16, 16, 16);
+		executor = new AsyncExecutor(BANDS, "SpriteVerticesTest");
+
+		buildStart = TimeUtils.nanoTime();
+		final Affine2 transform = new Affine2().translate(Gdx.graphics.getWidth() / 2f, -Gdx.graphics.getHeight() / 4f).rotate(30);
+		for (int i = 0; i < BANDS; i++) {
+			final int startRow = ROWS * i / BANDS, endRow = ROWS * (i + 1) / BANDS;
+			results.add(executor.submit(new AsyncTask<SpriteVertices>() {
+				public SpriteVertices call () {
+					SpriteVertices vertices = new SpriteVertices(COLUMNS * (endRow - startRow), true);
+					vertices.setTransform(transform);
+					RandomXS128 random = new RandomXS128(startRow + 1);
+					for (int row = startRow; row < endRow; row++) {
+						for (int column = 0; column < COLUMNS; column++) {
+							float shade = 0.5f + random.nextFloat() / 2;
+							vertices.setColor(shade, shade, 0.5f + random.nextFloat() / 2, 1);
+							vertices.add(tiles[random.nextInt(tiles.length)], column * 8, row * 8, 8, 8);
+						}
+					}
+					return vertices;
+				}
+			}));
+		}
+	}
+
+	@Override
+	public void render () {
+		if (cacheId == -1 && isBuilt()) {
+			cache.beginCache();
+			for (AsyncResult<SpriteVertices> result : results)
+				cache.add(result.get());
+			cacheId = cache.endCache();
+			buildTime = TimeUtils.timeSinceNanos(buildStart) / 1000000;
+		}
+
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		if (cacheId != -1) {
+			cache.begin();
+			cache.draw(cacheId);
+			cache.end();
+		}
+
+		batch.begin();
+		font.draw(batch, cacheId == -1 ? "Building..." : "Built " + COLUMNS * ROWS + " sprites in " + buildTime + " ms", 10, 20);
+		batch.end();
+	}
+
+	private boolean isBuilt () {
+		for (AsyncResult<SpriteVertices> result : results)
+			if (!result.isDone()) return false;
+		return true;
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+		cache.dispose();
+		batch.dispose();
+		font.dispose();
+		texture.dispose();
+	}
+}
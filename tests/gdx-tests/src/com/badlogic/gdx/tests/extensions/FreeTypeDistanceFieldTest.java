@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.extensions;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Generates one distance field font with FreeType and draws it at several scales, next to a regular font of the same size. */
+public class FreeTypeDistanceFieldTest extends GdxTest {
+	static final float[] scales = {0.5f, 0.75f, 1, 1.5f, 2, 3};
+
+	SpriteBatch batch, distanceFieldBatch;
+	ShaderProgram distanceFieldShader;
+	BitmapFont font;
+	DistanceFieldFont distanceFieldFont;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		distanceFieldShader = DistanceFieldFont.createDistanceFieldShader();
+		distanceFieldBatch = new SpriteBatch(1000, distanceFieldShader);
+
+		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("data/lsans.ttf"));
+		FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+		parameter.size = 24;
+		font = generator.generateFont(parameter);
+
+		parameter.distanceField = true;
+		parameter.minFilter = TextureFilter.Linear;
+		parameter.magFilter = TextureFilter.Linear;
+		distanceFieldFont = (DistanceFieldFont)generator.generateFont(parameter);
+		generator.dispose();
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		float y = Gdx.graphics.getHeight() - 10;
+
+		batch.begin();
+		distanceFieldBatch.begin();
+		for (float scale : scales) {
+			font.getData().setScale(scale);
+			distanceFieldFont.getData().setScale(scale);
+			font.draw(batch, "Bitmap " + scale, 10, y);
+			distanceFieldFont.draw(distanceFieldBatch, "Distance field " + scale, Gdx.graphics.getWidth() / 3f, y);
+			y -= font.getLineHeight() + 4;
+		}
+		distanceFieldBatch.end();
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		distanceFieldBatch.dispose();
+		distanceFieldShader.dispose();
+		font.dispose();
+		distanceFieldFont.dispose();
+	}
+}
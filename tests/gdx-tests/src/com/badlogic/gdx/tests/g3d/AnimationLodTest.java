@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationScheduler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Animates a large grid of knights with an {@link AnimationScheduler}, so knights far from the camera are updated less often,
+ * and shows the time the update took. Touch with a second finger or press the right mouse button to switch between the scheduler
+ * and updating every controller each frame. */
+public class AnimationLodTest extends BaseG3dTest {
+	Environment environment;
+	Array<AnimationController> controllers = new Array<AnimationController>();
+	AnimationScheduler scheduler = new AnimationScheduler();
+	boolean scheduled = true;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	long updateTime;
+	int updated;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+		cam.position.set(0, 30, 0);
+		cam.lookAt(100, 0, 100);
+		cam.far = 1000f;
+		cam.update();
+
+		scheduler.lodDistances = new float[] {50f, 100f, 200f};
+		scheduler.maxUpdatesPerFrame = 300;
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+
+		assets.load("data/g3d/knight.g3db", Model.class);
+		loading = true;
+	}
+
+	@Override
+	protected void onLoaded () {
+		Model model = assets.get("data/g3d/knight.g3db", Model.class);
+		for (int x = 0; x < 25; x++) {
+			for (int z = 0; z < 25; z++) {
+				ModelInstance instance = new ModelInstance(model, x * 15, 0, z * 15);
+				AnimationController controller = new AnimationController(instance);
+				controller.setAnimation(instance.animations.get((x + z) % instance.animations.size).id, -1);
+				controller.update((x * 7 + z * 3) * 0.1f);
+				instances.add(instance);
+				controllers.add(controller);
+				scheduler.add(controller);
+			}
+		}
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched() && (Gdx.input.isTouched(1) || Gdx.input.isButtonPressed(1))) scheduled = !scheduled;
+		float delta = Gdx.graphics.getDeltaTime();
+		long start = TimeUtils.nanoTime();
+		if (scheduled) {
+			scheduler.update(cam, delta);
+			updated = scheduler.updated;
+		} else {
+			for (AnimationController controller : controllers)
+				controller.update(delta);
+			updated = controllers.size;
+		}
+		updateTime = TimeUtils.timeSinceNanos(start);
+
+		super.render();
+		spriteBatch.begin();
+		font.draw(spriteBatch, (scheduled ? "Scheduled" : "Full rate") + " update of " + updated + " / " + controllers.size
+			+ " controllers: " + updateTime / 1000 + " us, FPS: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.environment.LightClusters;
+import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.environment.SpotLight;
+import com.badlogic.gdx.graphics.g3d.utils.ClusteredShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.profiling.GLInterceptor;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Lights a field of boxes with hundreds of moving point lights and a few spot lights, using {@link LightClusters} and the
+ * clustered shader. Press space to switch between the clustered shader and the default shader, which only uses the first
+ * few point lights. */
+@GdxTestConfig(requireGL30 = true)
+public class ClusteredLightingTest extends BaseG3dTest {
+	static final int POINT_LIGHTS = 400, SPOT_LIGHTS = 8;
+
+	Array<Model> models = new Array<Model>();
+	Environment environment;
+	Array<PointLight> pointLights = new Array<PointLight>();
+	Array<SpotLight> spotLights = new Array<SpotLight>();
+	float[] lightPhases = new float[POINT_LIGHTS];
+	LightClusters clusters;
+	ModelBatch defaultBatch, clusteredBatch;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	boolean clustered = true;
+	float time;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+
+		clusters = new LightClusters();
+		clusters.lightThreshold = 1f / 64f;
+		defaultBatch = modelBatch;
+		clusteredBatch = new ModelBatch(new ClusteredShaderProvider(clusters));
+
+		ModelBuilder builder = new ModelBuilder();
+		Material white = new Material(ColorAttribute.createDiffuse(Color.WHITE));
+		Material grey = new Material(ColorAttribute.createDiffuse(Color.LIGHT_GRAY));
+		models.add(builder.createBox(1.5f, 1.5f, 1.5f, white, Usage.Position | Usage.Normal));
+		models.add(builder.createBox(80f, 0.5f, 80f, grey, Usage.Position | Usage.Normal));
+		for (int x = -15; x <= 15; x++)
+			for (int z = -15; z <= 15; z++)
+				if (MathUtils.randomBoolean(0.3f)) instances.add(new ModelInstance(models.get(0), x * 2.5f, 0.75f, z * 2.5f));
+		instances.add(new ModelInstance(models.get(1), 0, -0.25f, 0));
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.05f, 0.05f, 0.05f, 1f));
+		environment.add(new DirectionalLight().set(0.1f, 0.1f, 0.15f, -1f, -0.8f, -0.2f));
+		for (int i = 0; i < POINT_LIGHTS; i++) {
+			Color color = new Color().fromHsv(MathUtils.random(360f), 0.8f, 1f);
+			pointLights.add(new PointLight().set(color, 0, 1, 0, MathUtils.random(1f, 3f)));
+			lightPhases[i] = MathUtils.random(MathUtils.PI2);
+		}
+		for (int i = 0; i < SPOT_LIGHTS; i++) {
+			float angle = i * MathUtils.PI2 / SPOT_LIGHTS;
+			spotLights.add(new SpotLight().set(Color.WHITE, MathUtils.cos(angle) * 25, 12, MathUtils.sin(angle) * 25,
+				-MathUtils.cos(angle), -1, -MathUtils.sin(angle), 400, 40, 2));
+		}
+		for (PointLight light : pointLights)
+			environment.add(light);
+		for (SpotLight light : spotLights)
+			environment.add(light);
+
+		cam.position.set(30f, 25f, 30f);
+		cam.lookAt(0, 0, 0);
+		cam.far = 200f;
+		cam.update();
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render (Array<ModelInstance> instances) {
+		// Called after the camera controller updated the camera.
+		if (clustered) clusters.update(cam, environment);
+		super.render(instances);
+		// A uniform set with the wrong type, such as glUniform3i on a vec3, only shows up as a GL error and unlit boxes.
+		int error = Gdx.gl.glGetError();
+		if (error != GL20.GL_NO_ERROR)
+			throw new GdxRuntimeException("GL error while rendering with the " + (clustered ? "clustered" : "default") + " shader: "
+				+ GLInterceptor.resolveErrorNumber(error));
+	}
+
+	@Override
+	public void render () {
+		time += Gdx.graphics.getDeltaTime();
+		for (int i = 0; i < POINT_LIGHTS; i++) {
+			float phase = lightPhases[i], radius = 5 + (i % 30);
+			pointLights.get(i).position.set(MathUtils.cos(time * 0.3f + phase) * radius, 1f + MathUtils.sin(time + phase) * 0.5f,
+				MathUtils.sin(time * 0.3f + phase) * radius);
+		}
+		if (Gdx.input.isKeyJustPressed(Keys.SPACE)) clustered = !clustered;
+		modelBatch = clustered ? clusteredBatch : defaultBatch;
+		super.render();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, (clustered ? "Clustered" : "Default") + " shader, lights in grid: " + clusters.numLights
+			+ ", light indices: " + clusters.numIndices + ", dropped: " + clusters.droppedLights + "/" + clusters.droppedIndices
+			+ ", FPS: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch = defaultBatch;
+		super.dispose();
+		clusteredBatch.dispose();
+		clusters.dispose();
+		for (Model model : models)
+			model.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
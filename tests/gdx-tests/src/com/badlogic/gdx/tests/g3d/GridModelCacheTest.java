@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.GridModelCache;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Renders a large field of boxes with a {@link GridModelCache} and moves a few boxes every frame, so only the cells they leave
+ * and enter are rebuilt. Touch with a second finger or press the right mouse button to switch between merging in the background
+ * and on the rendering thread. */
+public class GridModelCacheTest extends BaseG3dTest {
+	Model model;
+	Environment environment;
+	Array<ModelInstance> boxes = new Array<ModelInstance>();
+	GridModelCache cache;
+	AsyncExecutor executor;
+	boolean background = true;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	long rebuildTime;
+
+	@Override
+	public void create () {
+		super.create();
+		modelBatch.setFrustumCulling(true);
+		showAxes = false;
+
+		ModelBuilder builder = new ModelBuilder();
+		model = builder.createBox(1, 1, 1, new Material(ColorAttribute.createDiffuse(Color.GREEN)),
+			Usage.Position | Usage.Normal);
+		cache = new GridModelCache(20);
+		for (int x = -100; x < 100; x++) {
+			for (int z = -100; z < 100; z++) {
+				ModelInstance box = new ModelInstance(model, x * 2, 0, z * 2);
+				boxes.add(box);
+				cache.add(box);
+			}
+		}
+		cache.rebuild();
+		executor = new AsyncExecutor(1, "GridModelCacheTest");
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(cache, environment);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched() && (Gdx.input.isTouched(1) || Gdx.input.isButtonPressed(1))) background = !background;
+
+		long start = TimeUtils.nanoTime();
+		if (cache.update()) {
+			for (int i = 0; i < 3; i++) {
+				ModelInstance box = boxes.random();
+				box.transform.setToTranslation(MathUtils.random(-200, 200), MathUtils.random(0, 4), MathUtils.random(-200, 200));
+				cache.add(box);
+			}
+			cache.rebuild(background ? executor : null);
+		}
+		rebuildTime = TimeUtils.timeSinceNanos(start);
+
+		super.render();
+		spriteBatch.begin();
+		font.draw(spriteBatch,
+			(background ? "Background" : "Rendering thread") + " rebuild of " + cache.rebuiltCells + " / " + cache.getCellCount()
+				+ " cells: " + rebuildTime / 1000 + " us, render calls: " + (modelBatch.submittedRenderables
+					- modelBatch.culledRenderables) + ", FPS: " + Gdx.graphics.getFramesPerSecond(),
+			10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		cache.dispose();
+		executor.dispose();
+		model.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
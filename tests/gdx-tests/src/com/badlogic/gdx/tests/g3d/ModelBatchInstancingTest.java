@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders a large grid of boxes that share one model, with a {@link ModelBatch} that uses {@link DefaultShader.Config#instancing}
+ * and shows how many renderables were instanced. Touch with a second finger or press the right mouse button to switch to a
+ * ModelBatch without instancing. */
+@GdxTestConfig(requireGL30 = true)
+public class ModelBatchInstancingTest extends BaseG3dTest {
+	Model model;
+	Environment environment;
+	ModelBatch instancingBatch, defaultBatch;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+
+	@Override
+	public void create () {
+		super.create();
+		defaultBatch = modelBatch;
+		DefaultShader.Config config = new DefaultShader.Config();
+		config.instancing = true;
+		instancingBatch = new ModelBatch(new DefaultShaderProvider(config));
+		modelBatch = instancingBatch;
+		showAxes = false;
+
+		ModelBuilder builder = new ModelBuilder();
+		model = builder.createBox(1, 1, 1, new Material(ColorAttribute.createDiffuse(Color.GREEN)),
+			Usage.Position | Usage.Normal);
+		for (int x = -50; x < 50; x++)
+			for (int z = -50; z < 50; z++)
+				instances.add(new ModelInstance(model, x * 2, 0, z * 2));
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched() && (Gdx.input.isTouched(1) || Gdx.input.isButtonPressed(1)))
+			modelBatch = modelBatch == instancingBatch ? defaultBatch : instancingBatch;
+		super.render();
+		spriteBatch.begin();
+		font.draw(spriteBatch, "Instancing: " + (modelBatch == instancingBatch) + ", renderables: "
+			+ modelBatch.submittedRenderables + ", instanced: " + modelBatch.instancedRenderables + ", FPS: "
+			+ Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch = defaultBatch;
+		super.dispose();
+		instancingBatch.dispose();
+		model.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.ParallelAnimationUpdater;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Animates a grid of knights with {@link Animation#pack() packed} keyframes using a {@link ParallelAnimationUpdater}, and shows
+ * the time the update took. Touch with a second finger or press the right mouse button to switch between updating on 4 threads
+ * and updating on the rendering thread. */
+public class ParallelAnimationTest extends BaseG3dTest {
+	Environment environment;
+	Array<AnimationController> controllers = new Array<AnimationController>();
+	ParallelAnimationUpdater parallelUpdater, singleUpdater;
+	boolean parallel = true;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	long updateTime;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+		cam.position.set(150, 150, 150);
+		cam.update();
+
+		parallelUpdater = new ParallelAnimationUpdater(4);
+		singleUpdater = new ParallelAnimationUpdater(1);
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+
+		assets.load("data/g3d/knight.g3db", Model.class);
+		loading = true;
+	}
+
+	@Override
+	protected void onLoaded () {
+		Model model = assets.get("data/g3d/knight.g3db", Model.class);
+		for (Animation animation : model.animations)
+			animation.pack();
+		for (int x = -10; x < 10; x++) {
+			for (int z = -10; z < 10; z++) {
+				ModelInstance instance = new ModelInstance(model, x * 15, 0, z * 15);
+				AnimationController controller = new AnimationController(instance);
+				controller.setAnimation(instance.animations.get((x + z + 20) % instance.animations.size).id, -1);
+				controller.update((x * 7 + z * 3 + 100) * 0.1f);
+				instances.add(instance);
+				controllers.add(controller);
+			}
+		}
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched() && (Gdx.input.isTouched(1) || Gdx.input.isButtonPressed(1))) parallel = !parallel;
+		long start = TimeUtils.nanoTime();
+		(parallel ? parallelUpdater : singleUpdater).update(controllers, Gdx.graphics.getDeltaTime());
+		updateTime = TimeUtils.timeSinceNanos(start);
+
+		super.render();
+		spriteBatch.begin();
+		font.draw(spriteBatch, (parallel ? "Parallel" : "Single thread") + " update of " + controllers.size + " controllers: "
+			+ updateTime / 1000 + " us, FPS: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		parallelUpdater.dispose();
+		singleUpdater.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
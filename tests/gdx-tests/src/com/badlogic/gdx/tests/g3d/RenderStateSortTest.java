@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders boxes with a few different textures and materials, some of them blended, and shows the state changes and uniform
+ * uploads of each frame. Touch the screen with a second finger or press the right mouse button to switch between the
+ * {@link DefaultRenderableSorter} and rendering the boxes in the order they were added. */
+public class RenderStateSortTest extends BaseG3dTest {
+	Array<Model> models = new Array<Model>();
+	Texture texture1, texture2;
+	Environment environment;
+	CountingShaderProvider shaderProvider;
+	boolean sorted = true;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+		modelBatch.dispose();
+		shaderProvider = new CountingShaderProvider();
+		final DefaultRenderableSorter sorter = new DefaultRenderableSorter();
+		modelBatch = new ModelBatch(shaderProvider, new RenderableSorter() {
+			@Override
+			public void sort (Camera camera, Array<Renderable> renderables) {
+				if (sorted) sorter.sort(camera, renderables);
+			}
+		});
+
+		texture1 = new Texture(Gdx.files.internal("data/badlogic.jpg"));
+		texture2 = new Texture(Gdx.files.internal("data/animation.png"));
+		Material[] materials = {new Material(TextureAttribute.createDiffuse(texture1)),
+			new Material(TextureAttribute.createDiffuse(texture2)), new Material(ColorAttribute.createDiffuse(Color.ORANGE)),
+			new Material(TextureAttribute.createDiffuse(texture1), ColorAttribute.createDiffuse(Color.SKY)),
+			new Material(ColorAttribute.createDiffuse(Color.WHITE), new BlendingAttribute(0.5f))};
+		ModelBuilder builder = new ModelBuilder();
+		for (Material material : materials)
+			models.add(builder.createBox(1, 1, 1, material, Usage.Position | Usage.Normal | Usage.TextureCoordinates));
+		for (int x = -10; x < 10; x++)
+			for (int y = -10; y < 10; y++)
+				for (int z = -5; z < 5; z++)
+					instances.add(new ModelInstance(models.get((x + y + z + 30) % models.size), x * 2, y * 2, z * 2));
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		cam.position.set(30f, 30f, 30f);
+		cam.lookAt(0, 0, 0);
+		cam.update();
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched() && (Gdx.input.isTouched(1) || Gdx.input.isButtonPressed(1))) sorted = !sorted;
+
+		RenderContext context = modelBatch.getRenderContext();
+		context.resetCounts();
+		context.textureBinder.resetCounts();
+		shaderProvider.resetCounts();
+		super.render();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, (sorted ? "Sorted" : "Unsorted") + ", material switches: " + shaderProvider.materialSwitches()
+			+ ", uniform uploads: " + shaderProvider.uniformUploads() + ", texture binds: " + context.textureBinder.getBindCount(),
+			10, 40);
+		font.draw(spriteBatch, "State changes, blending: " + context.blendingChanges + ", depth: " + context.depthChanges
+			+ ", cull face: " + context.cullFaceChanges + ", skipped: " + context.redundantChanges + ", FPS: "
+			+ Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		for (Model model : models)
+			model.dispose();
+		texture1.dispose();
+		texture2.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+
+	static class CountingShaderProvider extends DefaultShaderProvider {
+		void resetCounts () {
+			for (Shader shader : shaders)
+				((BaseShader)shader).resetCounts();
+		}
+
+		int materialSwitches () {
+			int count = 0;
+			for (Shader shader : shaders)
+				count += ((BaseShader)shader).materialSwitches;
+			return count;
+		}
+
+		int uniformUploads () {
+			int count = 0;
+			for (Shader shader : shaders)
+				count += ((BaseShader)shader).uniformUploads;
+			return count;
+		}
+	}
+}
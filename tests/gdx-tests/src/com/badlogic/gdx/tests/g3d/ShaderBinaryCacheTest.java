@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.glutils.ShaderBinaryCache;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Precompiles the shaders for several materials and environments with a {@link ShaderBinaryCache} and shows how long it took.
+ * The first run compiles the shaders from source and stores their binaries, later runs load the binaries. */
+@GdxTestConfig(requireGL30 = true)
+public class ShaderBinaryCacheTest extends BaseG3dTest {
+	Array<Model> models = new Array<Model>();
+	Texture texture;
+	Environment lit, fogged;
+	ShaderBinaryCache binaryCache;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	String stats;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+		binaryCache = new ShaderBinaryCache(Gdx.files.local("tmp/shadercache"));
+		ShaderProgram.binaryCache = binaryCache;
+
+		texture = new Texture(Gdx.files.internal("data/badlogic.jpg"));
+		Material[] materials = {new Material(ColorAttribute.createDiffuse(Color.GREEN)),
+			new Material(TextureAttribute.createDiffuse(texture)),
+			new Material(ColorAttribute.createDiffuse(Color.ORANGE), new BlendingAttribute(0.5f)),
+			new Material(TextureAttribute.createDiffuse(texture), ColorAttribute.createSpecular(Color.WHITE))};
+		ModelBuilder builder = new ModelBuilder();
+		for (int i = 0; i < materials.length; i++) {
+			Model model = builder.createSphere(2, 2, 2, 16, 16, materials[i],
+				Usage.Position | Usage.Normal | Usage.TextureCoordinates);
+			models.add(model);
+			instances.add(new ModelInstance(model, i * 3 - 4.5f, 0, 0));
+		}
+
+		lit = new Environment();
+		lit.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		lit.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+		lit.add(new PointLight().set(Color.RED, 0, 3, 3, 10));
+		fogged = new Environment();
+		fogged.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.6f, 0.6f, 0.6f, 1f));
+		fogged.set(new ColorAttribute(ColorAttribute.Fog, 0.2f, 0.2f, 0.2f, 1f));
+
+		DefaultShaderProvider shaderProvider = new DefaultShaderProvider();
+		long start = TimeUtils.nanoTime();
+		shaderProvider.precompile(instances, lit);
+		shaderProvider.precompile(instances, fogged);
+		shaderProvider.precompile(instances, null);
+		stats = "Precompiled shaders in " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(start)) + " ms, binaries "
+			+ (binaryCache.isSupported() ? "loaded: " + binaryCache.hits + ", compiled: " + binaryCache.misses : "not supported");
+		modelBatch.dispose();
+		modelBatch = new ModelBatch(shaderProvider);
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, lit);
+	}
+
+	@Override
+	public void render () {
+		super.render();
+		spriteBatch.begin();
+		font.draw(spriteBatch, stats, 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		ShaderProgram.binaryCache = null;
+		for (Model model : models)
+			model.dispose();
+		texture.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.shaders.SharedUniformBlocks;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders boxes with several materials and moving point lights with shaders that read the camera, environment and material
+ * values from {@link SharedUniformBlocks}, and shows how often each block and the remaining uniforms were uploaded per frame. */
+@GdxTestConfig(requireGL30 = true)
+public class SharedUniformBlocksTest extends BaseG3dTest {
+	static final int DIRECTIONAL_LIGHTS = 2, POINT_LIGHTS = 4;
+
+	static final String vertexShader = "in vec3 a_position;\n" //
+		+ "in vec3 a_normal;\n" //
+		+ "uniform mat4 u_worldTrans;\n" //
+		+ "out vec3 v_position;\n" //
+		+ "out vec3 v_normal;\n" //
+		+ "void main () {\n" //
+		+ "	vec4 position = u_worldTrans * vec4(a_position, 1.0);\n" //
+		+ "	v_position = position.xyz;\n" //
+		+ "	v_normal = normalize(mat3(u_worldTrans) * a_normal);\n" //
+		+ "	gl_Position = u_projViewTrans * position;\n" //
+		+ "}\n";
+
+	static final String fragmentShader = "in vec3 v_position;\n" //
+		+ "in vec3 v_normal;\n" //
+		+ "out vec4 fragColor;\n" //
+		+ "void main () {\n" //
+		+ "	vec3 normal = normalize(v_normal);\n" //
+		+ "	vec3 squaredNormal = normal * normal;\n" //
+		+ "	vec3 isPositive = step(0.0, normal);\n" //
+		+ "	vec3 light = squaredNormal.x * mix(u_ambientCubemap[0], u_ambientCubemap[1], isPositive.x)\n" //
+		+ "		+ squaredNormal.y * mix(u_ambientCubemap[2], u_ambientCubemap[3], isPositive.y)\n" //
+		+ "		+ squaredNormal.z * mix(u_ambientCubemap[4], u_ambientCubemap[5], isPositive.z);\n" //
+		+ "	for (int i = 0; i < " + DIRECTIONAL_LIGHTS + "; i++)\n" //
+		+ "		light += u_dirLights[i].color * max(dot(normal, -u_dirLights[i].direction), 0.0);\n" //
+		+ "	for (int i = 0; i < " + POINT_LIGHTS + "; i++) {\n" //
+		+ "		vec3 toLight = u_pointLights[i].position - v_position;\n" //
+		+ "		float distance2 = dot(toLight, toLight);\n" //
+		+ "		light += u_pointLights[i].color * max(dot(normal, toLight * inversesqrt(distance2)), 0.0) / (1.0 + distance2);\n" //
+		+ "	}\n" //
+		+ "	fragColor = vec4(u_diffuseColor.rgb * light + u_emissiveColor.rgb, u_diffuseColor.a * u_opacity);\n" //
+		+ "}\n";
+
+	Array<Model> models = new Array<Model>();
+	Environment environment;
+	PointLight[] pointLights = new PointLight[POINT_LIGHTS];
+	SharedUniformBlocks uniformBlocks;
+	RenderContext context;
+	BlockShaderProvider shaderProvider;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+	float time;
+
+	@Override
+	public void create () {
+		super.create();
+		showAxes = false;
+
+		uniformBlocks = new SharedUniformBlocks(DIRECTIONAL_LIGHTS, POINT_LIGHTS, 0);
+		context = new RenderContext(new DefaultTextureBinder(DefaultTextureBinder.LRU, 1));
+		context.uniformBlocks = uniformBlocks;
+		String header = (Gdx.app.getType() == ApplicationType.Desktop ? "#version 140\n" : "#version 300 es\n")
+			+ "precision highp float;\n" + uniformBlocks.getDeclarations();
+		shaderProvider = new BlockShaderProvider(header);
+		modelBatch.dispose();
+		modelBatch = new ModelBatch(context, shaderProvider);
+
+		Material[] materials = {new Material(ColorAttribute.createDiffuse(Color.WHITE)),
+			new Material(ColorAttribute.createDiffuse(Color.ORANGE)),
+			new Material(ColorAttribute.createDiffuse(Color.SKY), ColorAttribute.createEmissive(0.1f, 0.1f, 0.3f, 1)),
+			new Material(ColorAttribute.createDiffuse(Color.WHITE), new BlendingAttribute(0.5f))};
+		ModelBuilder builder = new ModelBuilder();
+		for (Material material : materials)
+			models.add(builder.createBox(1.5f, 1.5f, 1.5f, material, Usage.Position | Usage.Normal));
+		for (int x = -10; x < 10; x++)
+			for (int z = -10; z < 10; z++)
+				instances.add(new ModelInstance(models.get(MathUtils.random(models.size - 1)), x * 2, 0, z * 2));
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.2f, 0.2f, 0.2f, 1f));
+		environment.add(new DirectionalLight().set(0.5f, 0.5f, 0.5f, -1f, -0.8f, -0.2f));
+		environment.add(new DirectionalLight().set(0.2f, 0.2f, 0.3f, 1f, -0.5f, 0.5f));
+		for (int i = 0; i < POINT_LIGHTS; i++)
+			environment.add(pointLights[i] = new PointLight().set(Color.RED.cpy().lerp(Color.GREEN, i / 3f), 0, 2, 0, 20));
+
+		cam.position.set(15f, 15f, 15f);
+		cam.lookAt(0, 0, 0);
+		cam.update();
+
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render (Array<ModelInstance> instances) {
+		context.begin();
+		super.render(instances);
+		context.end();
+	}
+
+	@Override
+	public void render () {
+		time += Gdx.graphics.getDeltaTime();
+		for (int i = 0; i < POINT_LIGHTS; i++) {
+			float angle = time + i * MathUtils.PI2 / POINT_LIGHTS;
+			pointLights[i].position.set(MathUtils.cos(angle) * 12, 2, MathUtils.sin(angle) * 12);
+		}
+
+		uniformBlocks.resetCounts();
+		shaderProvider.resetCounts();
+		super.render();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "Shaders: " + shaderProvider.getShaderCount() + ", block uploads, camera: "
+			+ uniformBlocks.cameraUploads + ", environment: " + uniformBlocks.environmentUploads + ", material: "
+			+ uniformBlocks.materialUploads + ", other uniform uploads: " + shaderProvider.uniformUploads() + ", FPS: "
+			+ Gdx.graphics.getFramesPerSecond(), 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		uniformBlocks.dispose();
+		for (Model model : models)
+			model.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+
+	/** Creates {@link DefaultShader}s with the GLSL version and block declarations prepended, without changing the prepended
+	 * code of other shaders. */
+	static class BlockShaderProvider extends DefaultShaderProvider {
+		final String header;
+
+		BlockShaderProvider (String header) {
+			super(vertexShader, fragmentShader);
+			this.header = header;
+		}
+
+		@Override
+		protected Shader createShader (Renderable renderable) {
+			String vertexCode = ShaderProgram.prependVertexCode, fragmentCode = ShaderProgram.prependFragmentCode;
+			ShaderProgram.prependVertexCode = ShaderProgram.prependFragmentCode = header;
+			try {
+				return super.createShader(renderable);
+			} finally {
+				ShaderProgram.prependVertexCode = vertexCode;
+				ShaderProgram.prependFragmentCode = fragmentCode;
+			}
+		}
+
+		int getShaderCount () {
+			return shaders.size;
+		}
+
+		void resetCounts () {
+			for (Shader shader : shaders)
+				((BaseShader)shader).resetCounts();
+		}
+
+		int uniformUploads () {
+			int count = 0;
+			for (Shader shader : shaders)
+				count += ((BaseShader)shader).uniformUploads;
+			return count;
+		}
+	}
+}
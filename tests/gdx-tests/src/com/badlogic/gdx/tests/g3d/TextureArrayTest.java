@@ -30,17 +30,22 @@ import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g3d.utils.FirstPersonCameraController;
+import com.badlogic.gdx.graphics.glutils.MipMapGenerator;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.tests.utils.GdxTest;
 import com.badlogic.gdx.tests.utils.GdxTestConfig;
 
-/** @author Tomski **/
+/** Touch to switch to an array loaded with {@link MipMapGenerator#setUseHardwareMipMap(boolean) hardware mipmaps} disabled,
+ * which must look the same.
+ * @author Tomski **/
 @GdxTestConfig(requireGL30 = true)
 public class TextureArrayTest extends GdxTest {
 
 	TextureArray textureArray;
+	TextureArray textureArraySW;
+	boolean useSoftwareMipMaps;
 	Mesh terrain;
 
 	ShaderProgram shaderProgram;
@@ -83,6 +88,11 @@ public class TextureArrayTest extends GdxTest {
 		textureArray = new TextureArray(true, texFiles);
 		textureArray.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
 		textureArray.setFilter(TextureFilter.MipMapLinearLinear, TextureFilter.Linear);
+		MipMapGenerator.setUseHardwareMipMap(false);
+		textureArraySW = new TextureArray(true, texFiles);
+		textureArraySW.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+		textureArraySW.setFilter(TextureFilter.MipMapLinearLinear, TextureFilter.Linear);
+		MipMapGenerator.setUseHardwareMipMap(true);
 		shaderProgram = new ShaderProgram(Gdx.files.internal("data/shaders/texturearray.vert"),
 			Gdx.files.internal("data/shaders/texturearray.frag"));
 		System.out.println(shaderProgram.getLog());
@@ -135,8 +145,9 @@ public class TextureArrayTest extends GdxTest {
 		modelView.translate(10f, 0, 10f).rotate(0, 1f, 0, 2f * Gdx.graphics.getDeltaTime()).translate(-10f, 0, -10f);
 
 		cameraController.update();
+		if (Gdx.input.justTouched()) useSoftwareMipMaps = !useSoftwareMipMaps;
 
-		textureArray.bind();
+		(useSoftwareMipMaps ? textureArraySW : textureArray).bind();
 
 		shaderProgram.bind();
 		shaderProgram.setUniformi("u_textureArray", 0);
@@ -147,6 +158,8 @@ public class TextureArrayTest extends GdxTest {
 
 	@Override
 	public void dispose () {
+		textureArray.dispose();
+		textureArraySW.dispose();
 		terrain.dispose();
 		shaderProgram.dispose();
 	}
@@ -43,6 +43,7 @@ import com.badlogic.gdx.tests.conformance.DisplayModeTest;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
 import com.badlogic.gdx.tests.extensions.FreeTypeAtlasTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeDisposeTest;
+import com.badlogic.gdx.tests.extensions.FreeTypeDistanceFieldTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeFontLoaderTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeIncrementalTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeMetricsTest;
@@ -50,27 +51,36 @@ import com.badlogic.gdx.tests.extensions.FreeTypePackTest;
 import com.badlogic.gdx.tests.extensions.FreeTypeTest;
 import com.badlogic.gdx.tests.extensions.InternationalFontsTest;
 import com.badlogic.gdx.tests.g3d.Animation3DTest;
+import com.badlogic.gdx.tests.g3d.AnimationLodTest;
 import com.badlogic.gdx.tests.g3d.AnisotropyTest;
 import com.badlogic.gdx.tests.g3d.Basic3DSceneTest;
 import com.badlogic.gdx.tests.g3d.Basic3DTest;
 import com.badlogic.gdx.tests.g3d.Benchmark3DTest;
+import com.badlogic.gdx.tests.g3d.ClusteredLightingTest;
 import com.badlogic.gdx.tests.g3d.FogTest;
 import com.badlogic.gdx.tests.g3d.FrameBufferCubemapTest;
+import com.badlogic.gdx.tests.g3d.GridModelCacheTest;
 import com.badlogic.gdx.tests.g3d.HeightMapTest;
 import com.badlogic.gdx.tests.g3d.LightsTest;
 import com.badlogic.gdx.tests.g3d.MaterialEmissiveTest;
 import com.badlogic.gdx.tests.g3d.MaterialTest;
 import com.badlogic.gdx.tests.g3d.MeshBuilderTest;
+import com.badlogic.gdx.tests.g3d.ModelBatchCullingTest;
+import com.badlogic.gdx.tests.g3d.ModelBatchInstancingTest;
 import com.badlogic.gdx.tests.g3d.ModelCacheTest;
 import com.badlogic.gdx.tests.g3d.ModelTest;
 import com.badlogic.gdx.tests.g3d.MultipleRenderTargetTest;
+import com.badlogic.gdx.tests.g3d.ParallelAnimationTest;
 import com.badlogic.gdx.tests.g3d.ParticleControllerInfluencerSingleTest;
 import com.badlogic.gdx.tests.g3d.ParticleControllerTest;
 import com.badlogic.gdx.tests.g3d.PolarAccelerationTest;
+import com.badlogic.gdx.tests.g3d.RenderStateSortTest;
+import com.badlogic.gdx.tests.g3d.ShaderBinaryCacheTest;
 import com.badlogic.gdx.tests.g3d.ShaderCollectionTest;
 import com.badlogic.gdx.tests.g3d.ShaderTest;
 import com.badlogic.gdx.tests.g3d.ShadowMappingTest;
 import com.badlogic.gdx.tests.g3d.ShadowMappingTextureTest;
+import com.badlogic.gdx.tests.g3d.SharedUniformBlocksTest;
 import com.badlogic.gdx.tests.g3d.SkeletonTest;
 import com.badlogic.gdx.tests.g3d.TangentialAccelerationTest;
 import com.badlogic.gdx.tests.g3d.TextureArrayTest;
@@ -116,6 +126,7 @@ public class GdxTests {
 		Affine2Test.class,
 		AlphaTest.class,
 		Animation3DTest.class,
+		AnimationLodTest.class,
 		AnimationTest.class,
 		AnisotropyTest.class,
 		AnnotationTest.class,
@@ -130,6 +141,7 @@ public class GdxTests {
 		Benchmark3DTest.class,
 		BigMeshTest.class,
 		BitmapFontAlignmentTest.class,
+		BitmapFontCacheUpdateTest.class,
 		BitmapFontDistanceFieldTest.class,
 		BitmapFontFlipTest.class,
 		BitmapFontMetricsTest.class,
@@ -142,6 +154,7 @@ public class GdxTests {
 		BufferUtilsTest.class,
 		BulletTestCollection.class,
 		ClipboardTest.class,
+		ClusteredLightingTest.class,
 		CollectionsTest.class,
 		CollisionPlaygroundTest.class,
 		ColorTest.class,
@@ -152,6 +165,7 @@ public class GdxTests {
 		CursorTest.class,
 		DecalTest.class,
 		DefaultTextureBinderTest.class,
+		DeferredSpriteBatchTest.class,
 		DelaunayTriangulatorTest.class,
 		DeltaTimeTest.class,
 		DirtyRenderingTest.class,
@@ -185,7 +199,9 @@ public class GdxTests {
 		GL32MultipleRenderTargetsBlendingTest.class,
 		GL32OffsetElementsTest.class,
 		GlTexImage2D.class,
+		GlyphLayoutCacheTest.class,
 		GLProfilerErrorTest.class,
+		GridModelCacheTest.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
 		GroupTest.class,
@@ -200,6 +216,7 @@ public class GdxTests {
 		IndexBufferObjectShaderTest.class,
 		InputTest.class,
 		InstancedRenderingTest.class,
+		InstancedSpriteBatchTest.class,
 		IntegerBitmapFontTest.class,
 		InterpolationTest.class,
 		IntersectorOverlapConvexPolygonsTest.class,
@@ -219,10 +236,13 @@ public class GdxTests {
 		MeshWithCustomAttributesTest.class,
 		MipMapTest.class,
 		ModelTest.class,
+		ModelBatchCullingTest.class,
+		ModelBatchInstancingTest.class,
 		ModelCacheTest.class,
 		ModelInstancedRenderingTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
+		MultiTextureSpriteBatchTest.class,
 		MultitouchTest.class,
 		MusicTest.class,
 		NetAPITest.class,
@@ -234,10 +254,12 @@ public class GdxTests {
 		NativeInputTest.class,
 		OrientedBoundingBoxTest.class,
 		PathTest.class,
+		ParallelAnimationTest.class,
 		ParallaxTest.class,
 		ParticleControllerInfluencerSingleTest.class,
 		ParticleControllerTest.class,
 		ParticleEmitterTest.class,
+		ParticleEmitterPackedTest.class,
 		ParticleEmittersTest.class,
 		ParticleEmitterChangeSpriteTest.class,
 		PixelBufferObjectTest.class,
@@ -254,6 +276,7 @@ public class GdxTests {
 		ProjectiveTextureTest.class,
 		ReflectionTest.class,
 		ReflectionCorrectnessTest.class,
+		RenderStateSortTest.class,
 		RotationTest.class,
 		RunnablePostTest.class,
 		Scene2dTest.class,
@@ -264,6 +287,7 @@ public class GdxTests {
 		ScrollPaneWithDynamicScrolling.class,
 		SelectTest.class,
 		SensorTest.class,
+		ShaderBinaryCacheTest.class,
 		ShaderCollectionTest.class,
 		ShaderMultitextureTest.class,
 		ShaderTest.class,
@@ -271,6 +295,8 @@ public class GdxTests {
 		ShadowMappingTextureTest.class,
 		ShapeRendererTest.class,
 		ShapeRendererAlphaTest.class,
+		ShapeRendererMergeTest.class,
+		SharedUniformBlocksTest.class,
 		SimpleAnimationTest.class,
 		SimpleDecalTest.class,
 		SimpleStageCullingTest.class,
@@ -285,6 +311,7 @@ public class GdxTests {
 		SpriteBatchTest.class,
 		SpriteCacheOffsetTest.class,
 		SpriteCacheTest.class,
+		SpriteVerticesTest.class,
 		StageDebugTest.class,
 		StagePerformanceTest.class,
 		StageTest.class,
@@ -344,6 +371,7 @@ public class GdxTests {
 		YDownTest.class,
 		FreeTypeFontLoaderTest.class,
 		FreeTypeDisposeTest.class,
+		FreeTypeDistanceFieldTest.class,
 		FreeTypeMetricsTest.class,
 		FreeTypeIncrementalTest.class,
 		FreeTypePackTest.class,